@@ -0,0 +1,74 @@
+package com.devee.devhive.global.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.devee.devhive.global.security.service.TokenService;
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 인증 필터의 요청당 액세스 토큰 처리 비용 비교 (./gradlew jmh)
+ * - perRequestBefore : 요청마다 검증기를 세 번 만들고 세 번 검증하던 기존 방식
+ * - perRequestAfter : 한 번 만든 검증기로 한 번만 검증하고 디코딩된 토큰에서 email 추출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenVerificationBenchmark {
+
+  private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key";
+  private static final long ACCESS_TOKEN_EXPIRATION = 3_600_000L;
+
+  private TokenService tokenService;
+  private String accessToken;
+
+  @Setup
+  public void setUp() throws Exception {
+    tokenService = new TokenService(null);
+    setField("secretKey", SECRET_KEY);
+    setField("accessTokenExpirationPeriod", ACCESS_TOKEN_EXPIRATION);
+    tokenService.init();
+    accessToken = tokenService.createAccessToken("user@devee.com");
+  }
+
+  @Benchmark
+  public Optional<String> perRequestBefore() {
+    // isTokenValid
+    JWT.require(Algorithm.HMAC512(SECRET_KEY)).build().verify(accessToken);
+    // isValidateToken -> toDecodedJWT
+    DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512(SECRET_KEY))
+        .acceptExpiresAt(ACCESS_TOKEN_EXPIRATION)
+        .build()
+        .verify(accessToken);
+    if (decodedJWT.getExpiresAt().before(new Date())) {
+      return Optional.empty();
+    }
+    // extractEmail
+    return Optional.ofNullable(JWT.require(Algorithm.HMAC512(SECRET_KEY))
+        .build()
+        .verify(accessToken)
+        .getClaim("email")
+        .asString());
+  }
+
+  @Benchmark
+  public Optional<String> perRequestAfter() {
+    return tokenService.extractEmail(tokenService.verifyToken(accessToken));
+  }
+
+  private void setField(String name, Object value) throws Exception {
+    Field field = TokenService.class.getDeclaredField(name);
+    field.setAccessible(true);
+    field.set(tokenService, value);
+  }
+}
@@ -2,6 +2,8 @@ package com.devee.devhive;
 
 import com.devee.devhive.global.config.AppProperties;
 import com.devee.devhive.global.config.CorsProperties;
+import com.devee.devhive.global.config.RateLimitProperties;
+import com.devee.devhive.global.config.WebSocketProperties;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -13,7 +15,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableJpaAuditing
 @EnableScheduling
 @EnableBatchProcessing
-@EnableConfigurationProperties({CorsProperties.class, AppProperties.class})
+@EnableConfigurationProperties({CorsProperties.class, AppProperties.class, WebSocketProperties.class,
+    RateLimitProperties.class})
 public class DevHiveApplication {
 
   public static void main(String[] args) {
@@ -14,8 +14,12 @@ import com.devee.devhive.domain.user.service.UserService;
 import com.devee.devhive.global.entity.PrincipalDetails;
 import com.devee.devhive.global.exception.CustomException;
 import com.devee.devhive.global.s3.S3Service;
+import com.devee.devhive.global.s3.dto.PresignedUploadDto;
+import com.devee.devhive.global.s3.dto.PresignedUploadRequest;
+import com.devee.devhive.global.s3.dto.UploadConfirmRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -56,6 +60,34 @@ public class AdminController {
     return s3Service.upload(multipartFile);
   }
 
+  @PostMapping("/image/presigned")
+  @Operation(summary = "이미지 업로드 URL 발급", description = "S3에 직접 업로드할 수 있는 URL을 반환")
+  public PresignedUploadDto createPresignedUpload(
+      @AuthenticationPrincipal PrincipalDetails principal,
+      @RequestBody @Valid PresignedUploadRequest request
+  ) {
+    User user = userService.getUserByEmail(principal.getEmail());
+    if (user.getRole() != ADMIN) {
+      throw new CustomException(UNAUTHORIZED);
+    }
+
+    return s3Service.createPresignedUpload(user.getEmail(), request);
+  }
+
+  @PostMapping("/image/confirm")
+  @Operation(summary = "이미지 업로드 확인", description = "직접 업로드한 이미지를 확인하고 URL을 반환")
+  public String confirmUpload(
+      @AuthenticationPrincipal PrincipalDetails principal,
+      @RequestBody @Valid UploadConfirmRequest request
+  ) {
+    User user = userService.getUserByEmail(principal.getEmail());
+    if (user.getRole() != ADMIN) {
+      throw new CustomException(UNAUTHORIZED);
+    }
+
+    return s3Service.confirmUpload(user.getEmail(), request.getObjectKey());
+  }
+
   @PostMapping("/tech-stack")
   @Operation(summary = "테크스택 생성", description = "이름과 이미지 URL을 사용하여 테크스택 생성")
   public void createTechStack(
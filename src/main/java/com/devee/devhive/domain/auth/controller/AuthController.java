@@ -1,5 +1,7 @@
 package com.devee.devhive.domain.auth.controller;
 
+import static com.devee.devhive.global.exception.ErrorCode.NOT_FOUND_USER;
+
 import com.devee.devhive.domain.auth.dto.EmailDto;
 import com.devee.devhive.domain.auth.dto.JoinDto;
 import com.devee.devhive.domain.auth.dto.LoginUserDto;
@@ -7,9 +9,13 @@ import com.devee.devhive.domain.auth.dto.NicknameDto;
 import com.devee.devhive.domain.auth.dto.VerifyDto;
 import com.devee.devhive.domain.auth.service.AuthService;
 import com.devee.devhive.domain.user.entity.User;
-import com.devee.devhive.domain.user.repository.UserRepository;
+import com.devee.devhive.domain.user.service.UserPrincipalCache;
 import com.devee.devhive.global.entity.PrincipalDetails;
+import com.devee.devhive.global.exception.CustomException;
 import com.devee.devhive.global.security.dto.TokenDto;
+import com.devee.devhive.global.security.revocation.AccessTokenRevocationList;
+import com.devee.devhive.global.security.service.RefreshTokenStore;
+import com.devee.devhive.global.security.service.RefreshTokenStore.RotatedToken;
 import com.devee.devhive.global.security.service.TokenService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,6 +25,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,9 +46,11 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "AUTH API", description = "검증 API")
 public class AuthController {
 
-  private final UserRepository userRepository;
   private final AuthService authService;
   private final TokenService tokenService;
+  private final RefreshTokenStore refreshTokenStore;
+  private final UserPrincipalCache userPrincipalCache;
+  private final AccessTokenRevocationList accessTokenRevocationList;
 
   // 인증 코드 전송
   @PostMapping("/verify/send")
@@ -67,6 +76,9 @@ public class AuthController {
   @PostMapping("/logout")
   public void logout(HttpSession session, HttpServletRequest request, HttpServletResponse response,
       @AuthenticationPrincipal PrincipalDetails principalDetails) throws IOException {
+    // 현재 기기의 RefreshToken, AccessToken 폐기
+    extractRefreshToken(request).ifPresent(refreshTokenStore::revoke);
+    revokeAccessToken(request);
     // 유효기간 만료된 토큰 설정
     tokenService.expireAccessToken(response, principalDetails.getEmail());
     // 세션 무효화
@@ -93,40 +105,54 @@ public class AuthController {
     log.info("로그아웃 및 쿠키 삭제 완료");
   }
 
+  @PostMapping("/logout-all")
+  @Operation(summary = "모든 기기 로그아웃", description = "사용자의 모든 Refresh Token 폐기")
+  public void logoutAll(HttpServletRequest request, HttpServletResponse response,
+      @AuthenticationPrincipal PrincipalDetails principalDetails) {
+    refreshTokenStore.revokeAll(principalDetails.getEmail());
+    revokeAccessToken(request);
+    tokenService.expireAccessToken(response, principalDetails.getEmail());
+    log.info("모든 기기 로그아웃 완료");
+  }
+
   @PostMapping("/refresh")
   @ResponseStatus(HttpStatus.OK)
   @ResponseBody
   @Operation(summary = "토큰 리프레쉬", description = "사용자의 Refresh Token 으로 Access Token 재발급")
   public ResponseEntity<TokenDto> reissueAccessToken(HttpServletResponse response, @RequestBody String refreshToken) {
-    log.info("전달받은 refreshToken : {}", refreshToken);
-    // AccessToken 재발급
-    Optional<User> userOptional = userRepository.findByRefreshToken(refreshToken);
-    log.info("userOptional : {}", userOptional);
-    if (userOptional.isEmpty()) {
-      return null;
-    }
-    User user = userOptional.get();
-    log.info("user : {}", user);
-    String reIssuedRefreshToken = reIssueRefreshToken(user);
+    tokenService.verifyToken(refreshToken);
+    // RefreshToken 교체 (Redis), 이미 사용된 토큰이면 해당 로그인 세션 폐기 후 예외
+    RotatedToken rotatedToken = refreshTokenStore.rotate(refreshToken);
+    User user = userPrincipalCache.findByEmail(rotatedToken.email())
+        .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
+
     String accessToken = tokenService.createAccessToken(user.getEmail());
-    log.info("accessToken : {}", accessToken);
-    log.info("reIssuedRefreshToken : {}", reIssuedRefreshToken);
-    tokenService.sendAccessToken(response, accessToken);
-    tokenService.sendAccessAndRefreshToken(response, accessToken, reIssuedRefreshToken);
+    tokenService.sendAccessAndRefreshToken(response, accessToken, rotatedToken.refreshToken());
 
     return ResponseEntity.ok(TokenDto.builder()
         .accessToken(accessToken)
-        .refreshToken(reIssuedRefreshToken)
+        .refreshToken(rotatedToken.refreshToken())
         .userDto(LoginUserDto.from(user))
         .build()
     );
   }
 
-  private String reIssueRefreshToken(User user) {
-    String reIssuedRefreshToken = tokenService.createRefreshToken();
-    user.updateRefreshToken(reIssuedRefreshToken);
-    userRepository.saveAndFlush(user);
-    return reIssuedRefreshToken;
+  // 남은 유효시간 동안 AccessToken 을 폐기 목록에 등록
+  private void revokeAccessToken(HttpServletRequest request) {
+    String accessToken = tokenService.extractAccessToken(request);
+    if (accessToken != null) {
+      accessTokenRevocationList.revoke(tokenService.verifyToken(accessToken));
+    }
+  }
+
+  // 헤더 혹은 쿠키로 전달된 RefreshToken
+  private Optional<String> extractRefreshToken(HttpServletRequest request) {
+    return tokenService.extractRefreshToken(request)
+        .or(() -> Optional.ofNullable(request.getCookies())
+            .flatMap(cookies -> Arrays.stream(cookies)
+                .filter(cookie -> tokenService.getRefreshHeader().equals(cookie.getName()))
+                .map(Cookie::getValue)
+                .findFirst()));
   }
 
   @PostMapping("/check-nickname")
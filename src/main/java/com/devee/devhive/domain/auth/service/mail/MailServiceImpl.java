@@ -1,23 +1,16 @@
 package com.devee.devhive.domain.auth.service.mail;
 
-import static com.devee.devhive.global.exception.ErrorCode.FAILED_SENDING_VERIFY_CODE;
-
-import com.devee.devhive.global.exception.CustomException;
+import com.devee.devhive.global.mail.service.MailOutboxService;
 import com.devee.devhive.global.redis.RedisService;
-import jakarta.mail.internet.InternetAddress;
-import jakarta.mail.internet.MimeMessage;
-import jakarta.mail.internet.MimeMessage.RecipientType;
 import java.util.Random;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class MailServiceImpl implements MailService {
 
-  private final JavaMailSender emailSender;
+  private final MailOutboxService mailOutboxService;
   private final RedisService redisService;
 
   private static String createKey() {
@@ -37,28 +30,12 @@ public class MailServiceImpl implements MailService {
     return key.toString();
   }
 
+  // 발송 대기열에 저장만 하고 바로 반환 (SMTP 발송은 MailOutboxSender 에서 재시도 포함 처리)
   @Override
   public void sendAuthEmail(String to) throws Exception {
     String authCode = createKey();
-    MimeMessage message = createMessage(to, authCode);
     redisService.setDataExpire(to, authCode, 60 * 5L);
-    try {
-      emailSender.send(message);
-    } catch (MailException es) {
-      es.printStackTrace();
-      throw new CustomException(FAILED_SENDING_VERIFY_CODE);
-    }
-  }
-
-  private MimeMessage createMessage(String to, String authCode) throws Exception {
-    MimeMessage message = emailSender.createMimeMessage();
-
-    message.addRecipients(RecipientType.TO, to);
-    message.setSubject("이메일 인증 코드");
-    String msgg = "회원가입 인증 코드는 <strong>" + authCode + "</strong> 입니다.";
-    message.setText(msgg, "utf-8", "html");
-    message.setFrom(new InternetAddress("devHive", "devee"));
-
-    return message;
+    mailOutboxService.enqueue(to, "이메일 인증 코드",
+        "회원가입 인증 코드는 <strong>" + authCode + "</strong> 입니다.");
   }
 }
@@ -1,63 +1,55 @@
 package com.devee.devhive.domain.project.chat.controller;
 
-import com.devee.devhive.domain.project.chat.entity.ProjectChatRoom;
 import com.devee.devhive.domain.project.chat.entity.dto.ChatMessageDto;
 import com.devee.devhive.domain.project.chat.service.ChatMessageService;
-import com.devee.devhive.domain.project.chat.service.ChatRoomService;
 import com.devee.devhive.domain.project.type.ChatMessageType;
-import com.devee.devhive.domain.user.entity.User;
-import com.devee.devhive.domain.user.service.UserService;
+import com.devee.devhive.global.websocket.ChatBroker;
+import com.devee.devhive.global.websocket.ChatSessionUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Controller;
 
+/**
+ * 보낸 유저는 payload 가 아닌 CONNECT 시 인증된 세션 유저(ChatSessionUser) 를 사용
+ * 채팅방 참여 여부는 StompAuthChannelInterceptor 에서 확인
+ */
 @Controller
 @RequiredArgsConstructor
 public class ChatMessageController {
 
-  private final SimpMessageSendingOperations sendingTemplate;
+  private final ChatBroker chatBroker;
   private final ChatMessageService chatMessageService;
-  private final ChatRoomService chatRoomService;
-  private final UserService userService;
 
   @MessageMapping("/message/enter/{roomId}/{userId}")
   public void enterMember(@DestinationVariable("roomId") Long roomId,
-      @DestinationVariable("userId") Long userId) {
-    ProjectChatRoom chatRoom = chatRoomService.findByRoomId(roomId);
-    User senderUser = userService.getUserById(userId);
-    String enterMessage = senderUser.getNickName() + " 님이 채팅에 참여했습니다.";
+      ChatSessionUser sessionUser) {
+    String enterMessage = sessionUser.getNickName() + " 님이 채팅에 참여했습니다.";
 
-    ChatMessageDto messageDto = chatMessageService.addMessage(chatRoom, senderUser,
-        enterMessage, ChatMessageType.ENTER);
+    ChatMessageDto messageDto = chatMessageService.addMessage(roomId,
+        sessionUser.toSimpleUserDto(), enterMessage, ChatMessageType.ENTER);
 
-    sendingTemplate.convertAndSend("/sub/chat/" + chatRoom.getId(), messageDto);
+    chatBroker.publish(roomId, messageDto);
   }
 
   @MessageMapping("/message/{roomId}")
   public void sendMessage(@Payload ChatMessageDto message,
-      @DestinationVariable("roomId") Long roomId) {
-    ProjectChatRoom chatRoom = chatRoomService.findByRoomId(roomId);
-    User senderUser = userService.getUserById(message.getUserDto().getUserId());
+      @DestinationVariable("roomId") Long roomId, ChatSessionUser sessionUser) {
+    ChatMessageDto messageDto = chatMessageService.addMessage(roomId,
+        sessionUser.toSimpleUserDto(), message.getText(), ChatMessageType.TALK);
 
-    ChatMessageDto messageDto = chatMessageService.addMessage(chatRoom, senderUser,
-        message.getText(), ChatMessageType.TALK);
-
-    sendingTemplate.convertAndSend("/sub/chat/" + chatRoom.getId(), messageDto);
+    chatBroker.publish(roomId, messageDto);
   }
 
   @MessageMapping("/message/exit/{roomId}/{userId}")
   public void exitMember(@DestinationVariable("roomId") Long roomId,
-      @DestinationVariable("userId") Long userId) {
-    ProjectChatRoom chatRoom = chatRoomService.findByRoomId(roomId);
-    User senderUser = userService.getUserById(userId);
-    String exitMessage = senderUser.getNickName() + " 님이 채팅에서 나갔습니다.";
+      ChatSessionUser sessionUser) {
+    String exitMessage = sessionUser.getNickName() + " 님이 채팅에서 나갔습니다.";
 
-    ChatMessageDto messageDto = chatMessageService.addMessage(chatRoom, senderUser,
-        exitMessage, ChatMessageType.EXIT);
+    ChatMessageDto messageDto = chatMessageService.addMessage(roomId,
+        sessionUser.toSimpleUserDto(), exitMessage, ChatMessageType.EXIT);
 
-    sendingTemplate.convertAndSend("/sub/chat/" + chatRoom.getId(), messageDto);
+    chatBroker.publish(roomId, messageDto);
   }
 }
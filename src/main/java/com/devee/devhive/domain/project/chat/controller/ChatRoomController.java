@@ -18,7 +18,6 @@ import com.devee.devhive.global.entity.PrincipalDetails;
 import com.devee.devhive.global.exception.CustomException;
 import com.devee.devhive.global.exception.ErrorCode;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -47,12 +46,7 @@ public class ChatRoomController {
   ) {
     User user = userService.getUserByEmail(principalDetails.getEmail());
 
-    List<ChatRoomDto> chatRoomList = chatMemberService.findAllByUserId(user.getId())
-        .stream()
-        .map(member -> ChatRoomDto.from(member.getChatRoom()))
-        .collect(Collectors.toList());
-
-    return ResponseEntity.ok(chatRoomList);
+    return ResponseEntity.ok(chatMemberService.getChatRooms(user.getId()));
   }
 
   @PostMapping("/room/{projectId}")
@@ -94,6 +88,18 @@ public class ChatRoomController {
     return ResponseEntity.ok(chatMemberService.enterChatRoom(chatRoom, user));
   }
 
+  @PostMapping("{roomId}/read")
+  public void readChatRoom(
+      @AuthenticationPrincipal PrincipalDetails principalDetails, @PathVariable Long roomId
+  ) {
+    User user = userService.getUserByEmail(principalDetails.getEmail());
+
+    ProjectChatMember member = chatMemberService.findMember(roomId, user.getId())
+        .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CHATMEMBER));
+
+    chatMemberService.markRead(member);
+  }
+
   @DeleteMapping("{roomId}")
   public ResponseEntity<String> exitChatRoom(
       @AuthenticationPrincipal PrincipalDetails principalDetails, @PathVariable Long roomId
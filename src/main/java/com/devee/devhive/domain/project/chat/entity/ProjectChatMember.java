@@ -34,4 +34,7 @@ public class ProjectChatMember extends BaseEntity {
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   private User user;
+
+  // 마지막으로 읽은 메시지 id
+  private Long lastReadMessageId;
 }
\ No newline at end of file
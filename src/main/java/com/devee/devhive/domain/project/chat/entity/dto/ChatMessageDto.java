@@ -30,4 +30,12 @@ public class ChatMessageDto {
         .sendTime(message.getCreatedDate())
         .build();
   }
+
+  public static ChatMessageDto of(ProjectChatMessage message, SimpleUserDto sender) {
+    return ChatMessageDto.builder()
+        .userDto(sender)
+        .text(message.getText())
+        .sendTime(message.getCreatedDate())
+        .build();
+  }
 }
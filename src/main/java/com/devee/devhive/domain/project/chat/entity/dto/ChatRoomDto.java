@@ -1,5 +1,6 @@
 package com.devee.devhive.domain.project.chat.entity.dto;
 
+import com.devee.devhive.domain.project.chat.entity.ProjectChatMember;
 import com.devee.devhive.domain.project.chat.entity.ProjectChatRoom;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +16,8 @@ public class ChatRoomDto {
   private Long roomId;
   private Long projectId;
   private String title;
+  private long unreadCount;
+  private Long lastReadMessageId;
 
   public static ChatRoomDto from(ProjectChatRoom chatRoom) {
     return ChatRoomDto.builder()
@@ -23,4 +26,15 @@ public class ChatRoomDto {
         .title(chatRoom.getTitle())
         .build();
   }
+
+  public static ChatRoomDto of(ProjectChatMember member, long unreadCount) {
+    ProjectChatRoom chatRoom = member.getChatRoom();
+    return ChatRoomDto.builder()
+        .roomId(chatRoom.getId())
+        .projectId(chatRoom.getProject().getId())
+        .title(chatRoom.getTitle())
+        .unreadCount(unreadCount)
+        .lastReadMessageId(member.getLastReadMessageId())
+        .build();
+  }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.devee.devhive.domain.project.chat.repository;
 import com.devee.devhive.domain.project.chat.entity.ProjectChatMember;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +13,7 @@ public interface ProjectChatMemberRepository
 
   Optional<ProjectChatMember> findByChatRoomIdAndUserId(Long chatRoomId, Long userId);
 
+  @EntityGraph(attributePaths = "chatRoom")
   List<ProjectChatMember> findAllByUserId(Long userId);
 
   List<ProjectChatMember> findAllByChatRoomId(Long chatRoomId);
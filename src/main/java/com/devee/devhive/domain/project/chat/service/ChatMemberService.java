@@ -2,10 +2,13 @@ package com.devee.devhive.domain.project.chat.service;
 
 import com.devee.devhive.domain.project.chat.entity.ProjectChatMember;
 import com.devee.devhive.domain.project.chat.entity.ProjectChatRoom;
+import com.devee.devhive.domain.project.chat.entity.dto.ChatRoomDto;
 import com.devee.devhive.domain.project.chat.repository.ProjectChatMemberRepository;
 import com.devee.devhive.domain.user.entity.User;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,6 +17,8 @@ import org.springframework.stereotype.Service;
 public class ChatMemberService {
 
   private final ProjectChatMemberRepository chatMemberRepository;
+  private final ChatMembershipCache chatMembershipCache;
+  private final ChatUnreadService chatUnreadService;
 
   public List<ProjectChatMember> findAllByUserId(Long userId) {
     return chatMemberRepository.findAllByUserId(userId);
@@ -27,10 +32,14 @@ public class ChatMemberService {
     Optional<ProjectChatMember> memberOptional = findMember(room.getId(), user.getId());
 
     if (memberOptional.isEmpty()) {
+      // 참여 이전 메시지는 안 읽은 메시지로 세지 않음
+      Long lastMessageId = chatUnreadService.markRead(room.getId(), user.getId());
       chatMemberRepository.save(ProjectChatMember.builder()
           .chatRoom(room)
           .user(user)
+          .lastReadMessageId(lastMessageId)
           .build());
+      chatMembershipCache.evict(user.getId());
     }
 
     return room.getTitle() + " 채팅방에 참여합니다.";
@@ -38,10 +47,36 @@ public class ChatMemberService {
 
   public String exitChatRoom(ProjectChatRoom room, ProjectChatMember member) {
     chatMemberRepository.delete(member);
+    chatMembershipCache.left(member.getUser().getId(), room.getId());
+    chatUnreadService.removeMember(room.getId(), member.getUser().getId());
 
     return room.getTitle() + " 채팅방에서 퇴장합니다.";
   }
 
+  // 읽음 처리 - 읽은 위치(마지막 메시지 id) 저장
+  public void markRead(ProjectChatMember member) {
+    Long lastMessageId = chatUnreadService.markRead(member.getChatRoom().getId(),
+        member.getUser().getId());
+    if (lastMessageId != null) {
+      member.setLastReadMessageId(lastMessageId);
+      chatMemberRepository.save(member);
+    }
+  }
+
+  // 참여중인 채팅방 목록, 안 읽은 메시지 수 포함
+  public List<ChatRoomDto> getChatRooms(Long userId) {
+    List<ProjectChatMember> members = findAllByUserId(userId);
+    List<Long> roomIds = members.stream()
+        .map(member -> member.getChatRoom().getId())
+        .toList();
+    Map<Long, Long> unreadCounts = chatUnreadService.getUnreadCounts(roomIds, userId);
+
+    return members.stream()
+        .map(member -> ChatRoomDto.of(member,
+            unreadCounts.getOrDefault(member.getChatRoom().getId(), 0L)))
+        .collect(Collectors.toList());
+  }
+
   public List<ProjectChatMember> findByChatRoomId(Long chatRoomId) {
     return chatMemberRepository.findAllByChatRoomId(chatRoomId);
   }
@@ -49,5 +84,7 @@ public class ChatMemberService {
   public void deleteOfChatRoom(Long chatRoomId) {
     List<ProjectChatMember> chatMembers = findByChatRoomId(chatRoomId);
     chatMemberRepository.deleteAll(chatMembers);
+    chatMembers.forEach(member -> chatMembershipCache.evict(member.getUser().getId()));
+    chatUnreadService.deleteRoom(chatRoomId);
   }
 }
@@ -0,0 +1,104 @@
+package com.devee.devhive.domain.project.chat.service;
+
+import com.devee.devhive.domain.project.chat.entity.ProjectChatMember;
+import com.devee.devhive.domain.project.chat.entity.ProjectChatRoom;
+import com.devee.devhive.domain.project.chat.repository.ProjectChatMemberRepository;
+import com.devee.devhive.global.redis.RedisService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 참여 채팅방 id 캐시
+ * 웹소켓 프레임마다 DB 조회 없이 채팅방 참여 여부를 확인하기 위해 사용하고,
+ * 채팅방 참여/퇴장/삭제 시 무효화한다.
+ * 캐시에 없는 채팅방은 한 번 더 DB 로 확인하고(다른 인스턴스에서 참여한 경우),
+ * 그래도 참여하지 않았으면 negative-ttl 동안 다시 조회하지 않는다.
+ */
+@Component
+public class ChatMembershipCache {
+
+  private static final String LEFT_PREFIX = "chat:left:";
+
+  private final ProjectChatMemberRepository chatMemberRepository;
+  private final RedisService redisService;
+  private final Cache<Long, Set<Long>> memberships;
+  private final Cache<RoomMember, Boolean> nonMembers;
+  private final long leftGraceSeconds;
+
+  public ChatMembershipCache(ProjectChatMemberRepository chatMemberRepository,
+      RedisService redisService,
+      @Value("${chat.membership-cache.ttl-millis:60000}") long ttlMillis,
+      @Value("${chat.membership-cache.negative-ttl-millis:5000}") long negativeTtlMillis,
+      @Value("${chat.membership-cache.max-size:10000}") long maxSize,
+      @Value("${chat.membership-cache.left-grace-seconds:60}") long leftGraceSeconds) {
+    this.chatMemberRepository = chatMemberRepository;
+    this.redisService = redisService;
+    this.memberships = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMillis(ttlMillis))
+        .maximumSize(maxSize)
+        .build();
+    this.nonMembers = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMillis(negativeTtlMillis))
+        .maximumSize(maxSize)
+        .build();
+    this.leftGraceSeconds = leftGraceSeconds;
+  }
+
+  public boolean isMember(Long userId, Long roomId) {
+    Set<Long> roomIds = memberships.get(userId, this::load);
+    if (roomIds.contains(roomId)) {
+      return true;
+    }
+    RoomMember roomMember = new RoomMember(userId, roomId);
+    if (nonMembers.getIfPresent(roomMember) != null) {
+      return false;
+    }
+    roomIds = load(userId);
+    memberships.put(userId, roomIds);
+    if (roomIds.contains(roomId)) {
+      return true;
+    }
+    nonMembers.put(roomMember, Boolean.TRUE);
+    return false;
+  }
+
+  public void evict(Long userId) {
+    memberships.invalidate(userId);
+    nonMembers.asMap().keySet().removeIf(roomMember -> roomMember.userId().equals(userId));
+  }
+
+  /**
+   * 채팅방 퇴장 처리 후 호출
+   * 퇴장 메시지는 REST 퇴장 이후에 오므로 left-grace 동안 한 번만 보낼 수 있도록 기록한다.
+   * (다른 인스턴스로 웹소켓이 연결되어 있을 수 있어 Redis 에 기록)
+   */
+  public void left(Long userId, Long roomId) {
+    evict(userId);
+    redisService.setDataExpire(leftKey(userId, roomId), "1", leftGraceSeconds);
+  }
+
+  // 퇴장 메시지를 보낼 수 있으면 true (한 번 사용하면 삭제)
+  public boolean consumeLeft(Long userId, Long roomId) {
+    return redisService.deleteData(leftKey(userId, roomId));
+  }
+
+  private Set<Long> load(Long userId) {
+    return chatMemberRepository.findAllByUserId(userId).stream()
+        .map(ProjectChatMember::getChatRoom)
+        .map(ProjectChatRoom::getId)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  private static String leftKey(Long userId, Long roomId) {
+    return LEFT_PREFIX + roomId + ":" + userId;
+  }
+
+  private record RoomMember(Long userId, Long roomId) {
+
+  }
+}
@@ -6,6 +6,8 @@ import com.devee.devhive.domain.project.chat.entity.dto.ChatMessageDto;
 import com.devee.devhive.domain.project.chat.repository.ProjectChatMessageRepository;
 import com.devee.devhive.domain.project.type.ChatMessageType;
 import com.devee.devhive.domain.user.entity.User;
+import com.devee.devhive.domain.user.entity.dto.SimpleUserDto;
+import com.devee.devhive.domain.user.service.UserService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,9 +17,16 @@ import org.springframework.stereotype.Service;
 public class ChatMessageService {
 
   private final ProjectChatMessageRepository chatMessageRepository;
+  private final ChatRoomService chatRoomService;
+  private final UserService userService;
+  private final ChatUnreadService chatUnreadService;
 
-  public ChatMessageDto addMessage(ProjectChatRoom chatRoom, User senderUser,
+  // 채팅방, 보낸 유저는 조회 없이 참조만 사용(보낸 유저 정보는 웹소켓 세션에 저장된 정보 사용)
+  public ChatMessageDto addMessage(Long roomId, SimpleUserDto sender,
       String text, ChatMessageType messageType) {
+    ProjectChatRoom chatRoom = chatRoomService.getReferenceById(roomId);
+    User senderUser = userService.getReferenceById(sender.getUserId());
+
     ProjectChatMessage newMessage = ProjectChatMessage.builder()
         .projectChatRoom(chatRoom)
         .senderUser(senderUser)
@@ -26,8 +35,9 @@ public class ChatMessageService {
         .build();
 
     chatMessageRepository.save(newMessage);
+    chatUnreadService.onMessage(roomId, sender.getUserId(), newMessage.getId());
 
-    return ChatMessageDto.from(newMessage);
+    return ChatMessageDto.of(newMessage, sender);
   }
 
   public List<ProjectChatMessage> findByChatRoomId(Long projectChatRoomId) {
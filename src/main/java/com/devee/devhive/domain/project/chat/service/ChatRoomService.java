@@ -24,6 +24,10 @@ public class ChatRoomService {
         .orElseThrow(() -> new CustomException(NOT_FOUND_CHATROOM));
   }
 
+  public ProjectChatRoom getReferenceById(Long roomId) {
+    return chatRoomRepository.getReferenceById(roomId);
+  }
+
   public ProjectChatRoom createChatRoom(Project project, String title) {
     ProjectChatRoom newRoom = ProjectChatRoom.builder()
         .project(project)
@@ -0,0 +1,116 @@
+package com.devee.devhive.domain.project.chat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅방별 안 읽은 메시지 수
+ * 채팅방마다 Redis hash(chat:unread:{roomId}) 하나에
+ * - seq : 채팅방 메시지 순번(메시지마다 1 증가)
+ * - lastMessageId : 마지막 메시지 id
+ * - read:{userId} : 멤버가 마지막으로 읽은 시점의 seq
+ * 를 저장하고, 안 읽은 수 = seq - read:{userId} 로 계산한다.
+ * 메시지가 올 때 멤버 수만큼 갱신하거나 COUNT(*) 를 하지 않기 위함
+ * 여러 인스턴스에서 동시에 갱신해도 lastMessageId, read:{userId} 가 뒤로 가지 않도록 스크립트로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatUnreadService {
+
+  private static final String KEY_PREFIX = "chat:unread:";
+  private static final String SEQ = "seq";
+  private static final String READ_PREFIX = "read:";
+
+  // KEYS: 채팅방 hash / ARGV: messageId, 보낸 유저의 read 필드
+  // 순번 증가, lastMessageId 는 더 큰 id 일 때만 변경, 보낸 유저는 읽음 처리
+  private static final RedisScript<Long> MESSAGE_SCRIPT = new DefaultRedisScript<>(
+      "local seq = redis.call('HINCRBY', KEYS[1], 'seq', 1) "
+          + "local last = tonumber(redis.call('HGET', KEYS[1], 'lastMessageId')) "
+          + "if last == nil or tonumber(ARGV[1]) > last then "
+          + "redis.call('HSET', KEYS[1], 'lastMessageId', ARGV[1]) end "
+          + "local read = tonumber(redis.call('HGET', KEYS[1], ARGV[2])) "
+          + "if read == nil or seq > read then redis.call('HSET', KEYS[1], ARGV[2], seq) end "
+          + "return seq", Long.class);
+
+  // KEYS: 채팅방 hash / ARGV: 유저의 read 필드
+  // 현재 순번까지 읽음 처리(뒤로 가지 않음), 마지막 메시지 id 반환
+  private static final RedisScript<String> READ_SCRIPT = new DefaultRedisScript<>(
+      "local values = redis.call('HMGET', KEYS[1], 'seq', 'lastMessageId') "
+          + "local seq = tonumber(values[1]) or 0 "
+          + "local read = tonumber(redis.call('HGET', KEYS[1], ARGV[1])) "
+          + "if read == nil or seq > read then redis.call('HSET', KEYS[1], ARGV[1], seq) end "
+          + "return values[2]", String.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  // 새 메시지 - 순번 증가, 보낸 유저는 읽음 처리
+  public void onMessage(Long roomId, Long senderUserId, Long messageId) {
+    redisTemplate.execute(MESSAGE_SCRIPT, List.of(key(roomId)),
+        String.valueOf(messageId), readField(senderUserId));
+  }
+
+  // 현재까지 메시지 읽음 처리, 마지막 메시지 id 반환
+  public Long markRead(Long roomId, Long userId) {
+    String lastMessageId = redisTemplate.execute(READ_SCRIPT, List.of(key(roomId)),
+        readField(userId));
+    return lastMessageId == null ? null : Long.valueOf(lastMessageId);
+  }
+
+  public void removeMember(Long roomId, Long userId) {
+    redisTemplate.opsForHash().delete(key(roomId), readField(userId));
+  }
+
+  public void deleteRoom(Long roomId) {
+    redisTemplate.delete(key(roomId));
+  }
+
+  // 여러 채팅방의 안 읽은 수를 한 번에 조회(pipeline)
+  public Map<Long, Long> getUnreadCounts(List<Long> roomIds, Long userId) {
+    Map<Long, Long> unreadCounts = new HashMap<>();
+    if (roomIds.isEmpty()) {
+      return unreadCounts;
+    }
+    byte[] seqField = SEQ.getBytes(StandardCharsets.UTF_8);
+    byte[] readField = readField(userId).getBytes(StandardCharsets.UTF_8);
+
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      for (Long roomId : roomIds) {
+        connection.hashCommands().hMGet(key(roomId).getBytes(StandardCharsets.UTF_8), seqField,
+            readField);
+      }
+      return null;
+    });
+
+    for (int i = 0; i < roomIds.size(); i++) {
+      List<?> values = results.get(i) instanceof List<?> list ? list : new ArrayList<>();
+      long seq = toLong(values, 0);
+      long read = toLong(values, 1);
+      unreadCounts.put(roomIds.get(i), Math.max(0, seq - read));
+    }
+    return unreadCounts;
+  }
+
+  private long toLong(List<?> values, int index) {
+    if (values.size() <= index || values.get(index) == null) {
+      return 0;
+    }
+    return Long.parseLong(values.get(index).toString());
+  }
+
+  private String key(Long roomId) {
+    return KEY_PREFIX + roomId;
+  }
+
+  private String readField(Long userId) {
+    return READ_PREFIX + userId;
+  }
+}
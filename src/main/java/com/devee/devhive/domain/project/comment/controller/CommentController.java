@@ -6,10 +6,11 @@ import static com.devee.devhive.global.exception.ErrorCode.UNAUTHORIZED;
 import com.devee.devhive.domain.project.comment.entity.Comment;
 import com.devee.devhive.domain.project.comment.entity.dto.CommentAndReplyDto;
 import com.devee.devhive.domain.project.comment.entity.dto.CommentDto;
+import com.devee.devhive.domain.project.comment.entity.dto.CommentPageDto;
 import com.devee.devhive.domain.project.comment.entity.form.CommentForm;
-import com.devee.devhive.domain.project.comment.reply.entity.dto.ReplyDto;
 import com.devee.devhive.domain.project.comment.reply.service.ReplyService;
 import com.devee.devhive.domain.project.comment.service.CommentService;
+import com.devee.devhive.domain.project.comment.service.CommentThreadService;
 import com.devee.devhive.domain.project.entity.Project;
 import com.devee.devhive.domain.project.service.ProjectService;
 import com.devee.devhive.domain.user.entity.User;
@@ -31,6 +32,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -43,6 +45,7 @@ public class CommentController {
     private final CommentService commentService;
     private final ProjectService projectService;
     private final ReplyService replyService;
+    private final CommentThreadService commentThreadService;
 
     // 댓글 생성
     @PostMapping("/projects/{projectId}")
@@ -94,12 +97,16 @@ public class CommentController {
     @Operation(summary = "프로젝트 댓글 & 답글")
     public ResponseEntity<List<CommentAndReplyDto>> getCommentAndReplyDtoList(
         @PathVariable("projectId") Long projectId) {
-        return ResponseEntity.ok(commentService.getCommentsByProjectId(projectId).stream()
-            .map(comment -> {
-                List<ReplyDto> replies = replyService.getRepliesByCommentId(comment.getId()).stream()
-                    .map(ReplyDto::from)
-                    .toList();
-                return CommentAndReplyDto.of(comment, replies);
-            }).toList());
+        return ResponseEntity.ok(commentThreadService.getThread(projectId));
+    }
+
+    @GetMapping("/projects/{projectId}/page")
+    @Operation(summary = "프로젝트 댓글 & 답글 커서 페이지 조회")
+    public ResponseEntity<CommentPageDto> getCommentPage(
+        @PathVariable("projectId") Long projectId,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(commentThreadService.getThreadPage(projectId, cursor, size));
     }
 }
@@ -0,0 +1,43 @@
+package com.devee.devhive.domain.project.comment.entity.dto;
+
+import static com.devee.devhive.global.exception.ErrorCode.INVALID_CURSOR;
+
+import com.devee.devhive.global.exception.CustomException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글/답글 seek 페이징 커서 (created_date, id)
+ * 클라이언트에는 "createdDate_id" 를 base64url 로 인코딩한 문자열로 전달한다.
+ */
+public record CommentCursor(LocalDateTime createdDate, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public String encode() {
+        String raw = createdDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new CommentCursor(LocalDateTime.parse(raw.substring(0, index)),
+                Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+
+    public static CommentCursor of(LocalDateTime createdDate, Long id) {
+        return new CommentCursor(createdDate, id);
+    }
+}
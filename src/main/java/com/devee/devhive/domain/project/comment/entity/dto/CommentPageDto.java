@@ -0,0 +1,18 @@
+package com.devee.devhive.domain.project.comment.entity.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPageDto {
+
+    private List<CommentPageItemDto> comments;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,45 @@
+package com.devee.devhive.domain.project.comment.entity.dto;
+
+import com.devee.devhive.domain.project.comment.entity.Comment;
+import com.devee.devhive.domain.project.comment.reply.entity.dto.ReplyDto;
+import com.devee.devhive.domain.user.entity.dto.SimpleUserDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 댓글 페이지 조회용 댓글 (앞쪽 답글 일부와 이후 답글을 불러올 커서 포함)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPageItemDto {
+
+    private Long commentId;
+    private SimpleUserDto userDto;
+    private String content;
+    private LocalDateTime createDate;
+    private LocalDateTime modifyDate;
+    private List<ReplyDto> replies;
+    // 인라인된 답글 이후 더 불러올 답글 여부와 커서
+    private boolean hasMoreReplies;
+    private String nextReplyCursor;
+
+    public static CommentPageItemDto of(Comment comment, List<ReplyDto> replies,
+        boolean hasMoreReplies, String nextReplyCursor) {
+        return CommentPageItemDto.builder()
+            .commentId(comment.getId())
+            .userDto(SimpleUserDto.from(comment.getUser()))
+            .content(comment.getContent())
+            .createDate(comment.getCreatedDate())
+            .modifyDate(comment.getModifiedDate())
+            .replies(replies)
+            .hasMoreReplies(hasMoreReplies)
+            .nextReplyCursor(nextReplyCursor)
+            .build();
+    }
+}
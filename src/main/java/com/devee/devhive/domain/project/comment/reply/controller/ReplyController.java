@@ -5,9 +5,11 @@ import static com.devee.devhive.global.exception.ErrorCode.PLEASE_CHANGE_NICKNAM
 import com.devee.devhive.domain.project.comment.entity.Comment;
 import com.devee.devhive.domain.project.comment.reply.entity.Reply;
 import com.devee.devhive.domain.project.comment.reply.entity.dto.ReplyDto;
+import com.devee.devhive.domain.project.comment.reply.entity.dto.ReplyPageDto;
 import com.devee.devhive.domain.project.comment.reply.entity.form.ReplyForm;
 import com.devee.devhive.domain.project.comment.reply.service.ReplyService;
 import com.devee.devhive.domain.project.comment.service.CommentService;
+import com.devee.devhive.domain.project.comment.service.CommentThreadService;
 import com.devee.devhive.domain.user.entity.User;
 import com.devee.devhive.domain.user.service.UserService;
 import com.devee.devhive.global.entity.PrincipalDetails;
@@ -19,11 +21,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -35,6 +39,7 @@ public class ReplyController {
     private final ReplyService replyService;
     private final CommentService commentService;
     private final UserService userService;
+    private final CommentThreadService commentThreadService;
 
     // 대댓글 생성
     @PostMapping("/comments/{commentId}")
@@ -74,4 +79,15 @@ public class ReplyController {
         User user = userService.getUserByEmail(principalDetails.getEmail());
         replyService.delete(user, replyId);
     }
+
+    // 답글 더보기
+    @GetMapping("/comments/{commentId}")
+    @Operation(summary = "답글 커서 페이지 조회")
+    public ResponseEntity<ReplyPageDto> getReplyPage(
+        @PathVariable("commentId") Long commentId,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(commentThreadService.getReplyPage(commentId, cursor, size));
+    }
 }
@@ -0,0 +1,18 @@
+package com.devee.devhive.domain.project.comment.reply.entity.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplyPageDto {
+
+    private List<ReplyDto> replies;
+    private String nextCursor;
+    private boolean hasNext;
+}
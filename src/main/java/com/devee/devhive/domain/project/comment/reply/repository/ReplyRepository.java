@@ -2,10 +2,25 @@ package com.devee.devhive.domain.project.comment.reply.repository;
 
 import com.devee.devhive.domain.project.comment.reply.entity.Reply;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ReplyRepository extends JpaRepository<Reply, Long> {
   List<Reply> findAllByCommentIdOrderByCreatedDateAsc(Long commentId);
+
+  @EntityGraph(attributePaths = "user")
+  List<Reply> findAllByCommentIdInOrderByCreatedDateAsc(List<Long> commentIds);
+
+  // 댓글별 앞쪽 답글 limit 개 (idx_reply_comment_created 인덱스 사용)
+  @Query(value = "SELECT r.id, r.comment_id, r.user_id, r.content, r.created_date, r.modified_date "
+      + "FROM (SELECT reply.*, ROW_NUMBER() OVER "
+      + "(PARTITION BY reply.comment_id ORDER BY reply.created_date, reply.id) AS rn "
+      + "FROM reply WHERE reply.comment_id IN (:commentIds)) r "
+      + "WHERE r.rn <= :limit ORDER BY r.comment_id, r.created_date, r.id", nativeQuery = true)
+  List<Reply> findFirstRepliesByCommentIds(@Param("commentIds") List<Long> commentIds,
+      @Param("limit") int limit);
 }
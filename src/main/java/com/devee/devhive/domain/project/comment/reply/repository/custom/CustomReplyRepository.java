@@ -0,0 +1,11 @@
+package com.devee.devhive.domain.project.comment.reply.repository.custom;
+
+import com.devee.devhive.domain.project.comment.entity.dto.CommentCursor;
+import com.devee.devhive.domain.project.comment.reply.entity.Reply;
+import java.util.List;
+
+public interface CustomReplyRepository {
+
+  // (comment_id, created_date, id) 기준 seek 페이징, 작성자 fetch join
+  List<Reply> findPageByCommentId(Long commentId, CommentCursor cursor, int limit);
+}
@@ -0,0 +1,38 @@
+package com.devee.devhive.domain.project.comment.reply.repository.impl;
+
+import com.devee.devhive.domain.project.comment.entity.dto.CommentCursor;
+import com.devee.devhive.domain.project.comment.reply.entity.QReply;
+import com.devee.devhive.domain.project.comment.reply.entity.Reply;
+import com.devee.devhive.domain.project.comment.reply.repository.custom.CustomReplyRepository;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CustomReplyRepositoryImpl implements CustomReplyRepository {
+
+  private final JPAQueryFactory queryFactory;
+
+  public CustomReplyRepositoryImpl(JPAQueryFactory queryFactory) {
+    this.queryFactory = queryFactory;
+  }
+
+  @Override
+  public List<Reply> findPageByCommentId(Long commentId, CommentCursor cursor, int limit) {
+    QReply qReply = QReply.reply;
+    BooleanBuilder predicate = new BooleanBuilder(qReply.comment.id.eq(commentId));
+
+    if (cursor != null) {
+      predicate.and(qReply.createdDate.gt(cursor.createdDate())
+          .or(qReply.createdDate.eq(cursor.createdDate()).and(qReply.id.gt(cursor.id()))));
+    }
+
+    return queryFactory.selectFrom(qReply)
+        .join(qReply.user).fetchJoin()
+        .where(predicate)
+        .orderBy(qReply.createdDate.asc(), qReply.id.asc())
+        .limit(limit)
+        .fetch();
+  }
+}
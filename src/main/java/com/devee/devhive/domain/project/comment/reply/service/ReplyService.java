@@ -7,6 +7,7 @@ import com.devee.devhive.domain.project.comment.entity.Comment;
 import com.devee.devhive.domain.project.comment.reply.entity.Reply;
 import com.devee.devhive.domain.project.comment.reply.entity.form.ReplyForm;
 import com.devee.devhive.domain.project.comment.reply.repository.ReplyRepository;
+import com.devee.devhive.domain.project.comment.service.CommentThreadCache;
 import com.devee.devhive.domain.project.entity.Project;
 import com.devee.devhive.domain.user.alarm.entity.form.AlarmForm;
 import com.devee.devhive.domain.user.entity.User;
@@ -25,6 +26,7 @@ public class ReplyService {
 
   private final ApplicationEventPublisher eventPublisher;
   private final ReplyRepository replyRepository;
+  private final CommentThreadCache commentThreadCache;
 
   public Reply getReplyById(Long replyId) {
     return replyRepository.findById(replyId)
@@ -42,6 +44,7 @@ public class ReplyService {
         .user(user)
         .content(form.getContent())
         .build());
+    commentThreadCache.evict(comment.getProject().getId());
 
     // 댓글 작성자에게 대댓글 알림 이벤트 발행
     replyAlarmEventPub(comment.getUser(), comment.getProject());
@@ -57,6 +60,7 @@ public class ReplyService {
       throw new CustomException(UNAUTHORIZED);
     }
     reply.setContent(form.getContent());
+    commentThreadCache.evict(reply.getComment().getProject().getId());
     return replyRepository.save(reply);
   }
 
@@ -68,6 +72,7 @@ public class ReplyService {
       throw new CustomException(UNAUTHORIZED);
     }
     replyRepository.delete(reply);
+    commentThreadCache.evict(reply.getComment().getProject().getId());
   }
 
   public void deleteRepliesByCommentId(Long commentId) {
@@ -0,0 +1,11 @@
+package com.devee.devhive.domain.project.comment.repository.custom;
+
+import com.devee.devhive.domain.project.comment.entity.Comment;
+import com.devee.devhive.domain.project.comment.entity.dto.CommentCursor;
+import java.util.List;
+
+public interface CustomCommentRepository {
+
+  // (project_id, created_date, id) 기준 seek 페이징, 작성자 fetch join
+  List<Comment> findPageByProjectId(Long projectId, CommentCursor cursor, int limit);
+}
@@ -0,0 +1,38 @@
+package com.devee.devhive.domain.project.comment.repository.impl;
+
+import com.devee.devhive.domain.project.comment.entity.Comment;
+import com.devee.devhive.domain.project.comment.entity.QComment;
+import com.devee.devhive.domain.project.comment.entity.dto.CommentCursor;
+import com.devee.devhive.domain.project.comment.repository.custom.CustomCommentRepository;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CustomCommentRepositoryImpl implements CustomCommentRepository {
+
+  private final JPAQueryFactory queryFactory;
+
+  public CustomCommentRepositoryImpl(JPAQueryFactory queryFactory) {
+    this.queryFactory = queryFactory;
+  }
+
+  @Override
+  public List<Comment> findPageByProjectId(Long projectId, CommentCursor cursor, int limit) {
+    QComment qComment = QComment.comment;
+    BooleanBuilder predicate = new BooleanBuilder(qComment.project.id.eq(projectId));
+
+    if (cursor != null) {
+      predicate.and(qComment.createdDate.gt(cursor.createdDate())
+          .or(qComment.createdDate.eq(cursor.createdDate()).and(qComment.id.gt(cursor.id()))));
+    }
+
+    return queryFactory.selectFrom(qComment)
+        .join(qComment.user).fetchJoin()
+        .where(predicate)
+        .orderBy(qComment.createdDate.asc(), qComment.id.asc())
+        .limit(limit)
+        .fetch();
+  }
+}
@@ -26,6 +26,7 @@ public class CommentService {
   private final ApplicationEventPublisher eventPublisher;
   private final CommentRepository commentRepository;
   private final ReplyService replyService;
+  private final CommentThreadCache commentThreadCache;
 
   public Comment getCommentById(Long commentId) {
     return commentRepository.findById(commentId)
@@ -44,6 +45,7 @@ public class CommentService {
         .user(user)
         .content(form.getContent())
         .build());
+    commentThreadCache.evict(project.getId());
 
     // 게시글 작성자에게 댓글 알림 이벤트 발행
     commentAlarmEventPub(project.getUser(), project);
@@ -58,12 +60,14 @@ public class CommentService {
       throw new CustomException(UNAUTHORIZED);
     }
     comment.setContent(form.getContent());
+    commentThreadCache.evict(comment.getProject().getId());
     return commentRepository.save(comment);
   }
 
   // 댓글 삭제
   public void delete(Comment comment) {
     commentRepository.delete(comment);
+    commentThreadCache.evict(comment.getProject().getId());
   }
 
   public void deleteCommentsByProjectId(Long projectId) {
@@ -71,6 +75,7 @@ public class CommentService {
     List<Long> commentIds = comments.stream().map(Comment::getId).toList();
     replyService.deleteRepliesByCommentList(commentIds);
     commentRepository.deleteAll(comments);
+    commentThreadCache.evict(projectId);
   }
 
   private void commentAlarmEventPub(User user, Project project) {
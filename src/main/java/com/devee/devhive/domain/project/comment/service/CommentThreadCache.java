@@ -0,0 +1,113 @@
+package com.devee.devhive.domain.project.comment.service;
+
+import com.devee.devhive.domain.project.comment.entity.dto.CommentAndReplyDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 프로젝트별 댓글 & 답글 목록 캐시 (Redis, 인스턴스 간 공유)
+ * 댓글/답글 생성, 수정, 삭제 시 커밋 이후 무효화한다.
+ * 무효화할 때마다 프로젝트별 version 을 올리고, 조회 시점의 version 이 그대로일 때만 캐시에 저장한다.
+ * (커밋 전에 DB 를 읽은 요청이 무효화 이후에 옛 목록을 다시 저장하지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentThreadCache {
+
+  private static final String KEY_PREFIX = "comment:thread:";
+  private static final String VERSION_KEY_PREFIX = "comment:thread:version:";
+  private static final String NO_VERSION = "0";
+
+  // KEYS: 목록, version / ARGV: 조회 시점 version, 목록 json, ttl(초)
+  private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+      "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+          + "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) "
+          + "return 1", Long.class);
+
+  // KEYS: 목록, version / ARGV: version 유지 시간(초)
+  private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+      "local version = redis.call('INCR', KEYS[2]) "
+          + "redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+          + "redis.call('DEL', KEYS[1]) "
+          + "return version", Long.class);
+  private static final TypeReference<List<CommentAndReplyDto>> THREAD_TYPE =
+      new TypeReference<>() {
+      };
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Value("${comment.thread-cache.ttl-seconds:600}")
+  private long ttlSeconds;
+
+  // 캐시된 목록과 현재 version 을 함께 조회 (목록이 없으면 DB 조회 후 이 version 으로 put)
+  public Lookup get(Long projectId) {
+    List<String> values = redisTemplate.opsForValue()
+        .multiGet(List.of(key(projectId), versionKey(projectId)));
+    String json = values == null ? null : values.get(0);
+    String version = values == null || values.get(1) == null ? NO_VERSION : values.get(1);
+    if (json == null) {
+      return new Lookup(null, version);
+    }
+    try {
+      return new Lookup(objectMapper.readValue(json, THREAD_TYPE), version);
+    } catch (JsonProcessingException e) {
+      log.warn("댓글 캐시 역직렬화 실패 projectId={}", projectId, e);
+      return new Lookup(null, version);
+    }
+  }
+
+  // 조회 이후 무효화되었으면(version 변경) 저장하지 않음
+  public void put(Long projectId, String version, List<CommentAndReplyDto> thread) {
+    try {
+      redisTemplate.execute(PUT_SCRIPT, List.of(key(projectId), versionKey(projectId)),
+          version, objectMapper.writeValueAsString(thread), String.valueOf(ttlSeconds));
+    } catch (JsonProcessingException e) {
+      log.warn("댓글 캐시 직렬화 실패 projectId={}", projectId, e);
+    }
+  }
+
+  // 트랜잭션 중이면 커밋 이후에 삭제(커밋 전 다시 캐시되는 것 방지)
+  public void evict(Long projectId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          bumpVersion(projectId);
+        }
+      });
+      return;
+    }
+    bumpVersion(projectId);
+  }
+
+  // version 은 캐시보다 오래 유지 (만료되면 다시 0 부터 시작하지만 조회 중이던 version 과 달라 저장되지 않음)
+  private void bumpVersion(Long projectId) {
+    redisTemplate.execute(EVICT_SCRIPT, List.of(key(projectId), versionKey(projectId)),
+        String.valueOf(ttlSeconds * 2));
+  }
+
+  private String key(Long projectId) {
+    return KEY_PREFIX + projectId;
+  }
+
+  private String versionKey(Long projectId) {
+    return VERSION_KEY_PREFIX + projectId;
+  }
+
+  public record Lookup(List<CommentAndReplyDto> thread, String version) {
+
+  }
+}
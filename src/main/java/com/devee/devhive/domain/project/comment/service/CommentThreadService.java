@@ -0,0 +1,149 @@
+package com.devee.devhive.domain.project.comment.service;
+
+import com.devee.devhive.domain.project.comment.entity.Comment;
+import com.devee.devhive.domain.project.comment.entity.dto.CommentAndReplyDto;
+import com.devee.devhive.domain.project.comment.entity.dto.CommentCursor;
+import com.devee.devhive.domain.project.comment.entity.dto.CommentPageDto;
+import com.devee.devhive.domain.project.comment.entity.dto.CommentPageItemDto;
+import com.devee.devhive.domain.project.comment.reply.entity.Reply;
+import com.devee.devhive.domain.project.comment.reply.entity.dto.ReplyDto;
+import com.devee.devhive.domain.project.comment.reply.entity.dto.ReplyPageDto;
+import com.devee.devhive.domain.project.comment.reply.repository.ReplyRepository;
+import com.devee.devhive.domain.project.comment.reply.repository.custom.CustomReplyRepository;
+import com.devee.devhive.domain.project.comment.repository.CommentRepository;
+import com.devee.devhive.domain.project.comment.repository.custom.CustomCommentRepository;
+import com.devee.devhive.domain.project.comment.service.CommentThreadCache.Lookup;
+import com.devee.devhive.domain.user.service.UserService;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 프로젝트 댓글 & 답글 목록 조회
+ * 댓글(작성자 포함), 답글(작성자 포함)을 쿼리 2번으로 읽어 메모리에서 조립하고 캐시한다.
+ * 페이지 조회는 (created_date, id) 커서로 댓글을 잘라 읽고, 댓글마다 앞쪽 답글 일부만 포함한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentThreadService {
+
+  private final CommentRepository commentRepository;
+  private final ReplyRepository replyRepository;
+  private final CommentThreadCache commentThreadCache;
+  private final CustomCommentRepository customCommentRepository;
+  private final CustomReplyRepository customReplyRepository;
+  private final UserService userService;
+
+  private static final int DEFAULT_PAGE_SIZE = 20;
+  private static final int MAX_PAGE_SIZE = 50;
+  // 댓글마다 함께 내려주는 답글 수
+  private static final int INLINE_REPLY_SIZE = 3;
+
+  @Transactional(readOnly = true)
+  public List<CommentAndReplyDto> getThread(Long projectId) {
+    Lookup cached = commentThreadCache.get(projectId);
+    if (cached.thread() != null) {
+      return cached.thread();
+    }
+
+    List<CommentAndReplyDto> thread = loadThread(projectId);
+    commentThreadCache.put(projectId, cached.version(), thread);
+    return thread;
+  }
+
+  private List<CommentAndReplyDto> loadThread(Long projectId) {
+    List<Comment> comments = commentRepository.findAllByProjectIdOrderByCreatedDateAsc(projectId);
+    if (comments.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+    Map<Long, List<ReplyDto>> repliesByCommentId =
+        replyRepository.findAllByCommentIdInOrderByCreatedDateAsc(commentIds).stream()
+            .collect(Collectors.groupingBy(reply -> reply.getComment().getId(),
+                Collectors.mapping(ReplyDto::from, Collectors.toList())));
+
+    return comments.stream()
+        .map(comment -> CommentAndReplyDto.of(comment,
+            repliesByCommentId.getOrDefault(comment.getId(), List.of())))
+        .toList();
+  }
+
+  @Transactional(readOnly = true)
+  public CommentPageDto getThreadPage(Long projectId, String cursor, Integer size) {
+    int limit = pageSize(size);
+    // limit + 1 개를 읽어 다음 페이지 여부 판단
+    List<Comment> comments = customCommentRepository.findPageByProjectId(
+        projectId, CommentCursor.decode(cursor), limit + 1);
+    boolean hasNext = comments.size() > limit;
+    if (hasNext) {
+      comments = comments.subList(0, limit);
+    }
+    if (comments.isEmpty()) {
+      return CommentPageDto.builder().comments(List.of()).hasNext(false).build();
+    }
+
+    List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+    List<Reply> replies =
+        replyRepository.findFirstRepliesByCommentIds(commentIds, INLINE_REPLY_SIZE + 1);
+    // 답글 작성자를 한 번에 적재해 답글마다 지연 로딩되지 않도록 한다
+    userService.getUsersByIds(replies.stream()
+        .map(reply -> reply.getUser().getId())
+        .collect(Collectors.toSet()));
+    Map<Long, List<Reply>> repliesByCommentId = replies.stream()
+        .collect(Collectors.groupingBy(reply -> reply.getComment().getId()));
+
+    List<CommentPageItemDto> dtoList = comments.stream()
+        .map(comment -> {
+          List<Reply> commentReplies =
+              repliesByCommentId.getOrDefault(comment.getId(), List.of());
+          boolean hasMoreReplies = commentReplies.size() > INLINE_REPLY_SIZE;
+          if (hasMoreReplies) {
+            commentReplies = commentReplies.subList(0, INLINE_REPLY_SIZE);
+          }
+          return CommentPageItemDto.of(comment,
+              commentReplies.stream().map(ReplyDto::from).toList(),
+              hasMoreReplies, hasMoreReplies ? replyCursor(commentReplies) : null);
+        })
+        .toList();
+
+    Comment last = comments.get(comments.size() - 1);
+    return CommentPageDto.builder()
+        .comments(dtoList)
+        .hasNext(hasNext)
+        .nextCursor(hasNext ? CommentCursor.of(last.getCreatedDate(), last.getId()).encode() : null)
+        .build();
+  }
+
+  @Transactional(readOnly = true)
+  public ReplyPageDto getReplyPage(Long commentId, String cursor, Integer size) {
+    int limit = pageSize(size);
+    List<Reply> replies = customReplyRepository.findPageByCommentId(
+        commentId, CommentCursor.decode(cursor), limit + 1);
+    boolean hasNext = replies.size() > limit;
+    if (hasNext) {
+      replies = replies.subList(0, limit);
+    }
+
+    return ReplyPageDto.builder()
+        .replies(replies.stream().map(ReplyDto::from).toList())
+        .hasNext(hasNext)
+        .nextCursor(hasNext ? replyCursor(replies) : null)
+        .build();
+  }
+
+  private static String replyCursor(List<Reply> replies) {
+    Reply last = replies.get(replies.size() - 1);
+    return CommentCursor.of(last.getCreatedDate(), last.getId()).encode();
+  }
+
+  private static int pageSize(Integer size) {
+    if (size == null || size <= 0) {
+      return DEFAULT_PAGE_SIZE;
+    }
+    return Math.min(size, MAX_PAGE_SIZE);
+  }
+}
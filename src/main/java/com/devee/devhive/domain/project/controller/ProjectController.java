@@ -5,11 +5,6 @@ import static com.devee.devhive.global.exception.ErrorCode.PROJECT_CANNOT_DELETE
 import static com.devee.devhive.global.exception.ErrorCode.UNAUTHORIZED;
 
 import com.devee.devhive.domain.project.apply.service.ProjectApplyService;
-import com.devee.devhive.domain.project.chat.entity.ProjectChatRoom;
-import com.devee.devhive.domain.project.chat.service.ChatMemberService;
-import com.devee.devhive.domain.project.chat.service.ChatMessageService;
-import com.devee.devhive.domain.project.chat.service.ChatRoomService;
-import com.devee.devhive.domain.project.comment.service.CommentService;
 import com.devee.devhive.domain.project.entity.Project;
 import com.devee.devhive.domain.project.entity.dto.CreateProjectDto;
 import com.devee.devhive.domain.project.entity.dto.ProjectInfoDto;
@@ -20,6 +15,7 @@ import com.devee.devhive.domain.project.entity.dto.UpdateProjectDto;
 import com.devee.devhive.domain.project.entity.dto.UpdateProjectStatusDto;
 import com.devee.devhive.domain.project.member.entity.ProjectMember;
 import com.devee.devhive.domain.project.member.service.ProjectMemberService;
+import com.devee.devhive.domain.project.service.ProjectPurgeService;
 import com.devee.devhive.domain.project.service.ProjectService;
 import com.devee.devhive.domain.project.techstack.service.ProjectTechStackService;
 import com.devee.devhive.domain.project.type.ApplyStatus;
@@ -37,6 +33,9 @@ import com.devee.devhive.domain.user.type.Role;
 import com.devee.devhive.global.entity.PrincipalDetails;
 import com.devee.devhive.global.exception.CustomException;
 import com.devee.devhive.global.s3.S3Service;
+import com.devee.devhive.global.s3.dto.PresignedUploadDto;
+import com.devee.devhive.global.s3.dto.PresignedUploadRequest;
+import com.devee.devhive.global.s3.dto.UploadConfirmRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -52,7 +51,6 @@ import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -74,7 +72,6 @@ public class ProjectController {
 
   private final UserService userService;
   private final ProjectService projectService;
-  private final CommentService commentService;
   private final ProjectTechStackService projectTechStackService;
   private final ProjectMemberService projectMemberService;
   private final FavoriteService favoriteService;
@@ -83,9 +80,7 @@ public class ProjectController {
   private final ProjectApplyService projectApplyService;
   private final S3Service s3Service;
   private final ViewCountService viewCountService;
-  private final ChatRoomService chatRoomService;
-  private final ChatMemberService chatMemberService;
-  private final ChatMessageService chatMessageService;
+  private final ProjectPurgeService projectPurgeService;
 
   // 프로젝트 작성
   @PostMapping
@@ -150,18 +145,15 @@ public class ProjectController {
       throw new CustomException(PROJECT_CANNOT_DELETED);
     }
 
-    deleteOfProject(projectId);
-    projectService.deleteProject(project);
+    projectPurgeService.purge(project);
   }
 
   // 리더가 퇴출되어 예외없이 프로젝트 삭제
-  @Transactional
   @DeleteMapping("/{projectId}/leader-exit")
   @Operation(summary = "리더가 퇴출되어 프로젝트 삭제", description = "프로젝트 고유 ID로 프로젝트 삭제")
   public void deleteProject(@PathVariable(name = "projectId") Long projectId) {
     Project project = projectService.findById(projectId);
-    deleteOfProject(projectId);
-    projectService.deleteLeadersProject(project);
+    projectPurgeService.purge(project);
   }
 
   @PostMapping("/list")
@@ -207,6 +199,32 @@ public class ProjectController {
     return s3Service.upload(multipartFile);
   }
 
+  // S3 에 직접 이미지를 올릴 url 발급
+  @PostMapping("/image/presigned")
+  public PresignedUploadDto createPresignedUpload(
+      @AuthenticationPrincipal PrincipalDetails principal,
+      @RequestBody @Valid PresignedUploadRequest request
+  ) {
+    User user = userService.getUserByEmail(principal.getEmail());
+    if (!(user.getRole() == Role.ADMIN || user.getRole() == Role.USER)) {
+      throw new CustomException(UNAUTHORIZED);
+    }
+    return s3Service.createPresignedUpload(user.getEmail(), request);
+  }
+
+  // 직접 올린 이미지 확인 후 url 얻는 api
+  @PostMapping("/image/confirm")
+  public String confirmUpload(
+      @AuthenticationPrincipal PrincipalDetails principal,
+      @RequestBody @Valid UploadConfirmRequest request
+  ) {
+    User user = userService.getUserByEmail(principal.getEmail());
+    if (!(user.getRole() == Role.ADMIN || user.getRole() == Role.USER)) {
+      throw new CustomException(UNAUTHORIZED);
+    }
+    return s3Service.confirmUpload(user.getEmail(), request.getObjectKey());
+  }
+
   // 프로젝트 상세 조회
   @GetMapping("/{projectId}")
   @Operation(summary = "프로젝트 상세 조회", description = "프로젝트 고유 ID로 프로젝트 조회")
@@ -228,22 +246,6 @@ public class ProjectController {
     );
   }
 
-  private void deleteOfProject(Long projectId) {
-    ProjectChatRoom chatRoom = chatRoomService.findByProjectId(projectId);
-    if (chatRoom != null) {
-      Long chatRoomId = chatRoom.getId();
-      chatMessageService.deleteOfChatRoom(chatRoomId);
-      chatMemberService.deleteOfChatRoom(chatRoomId);
-      chatRoomService.deleteChatRoom(chatRoom);
-    }
-    bookmarkService.deleteByProject(projectId);
-    commentService.deleteCommentsByProjectId(projectId);
-    projectTechStackService.deleteProjectTechStacksByProjectId(projectId);
-    projectMemberService.deleteProjectMembers(projectId);
-    projectApplyService.deleteAll(projectId);
-    viewCountService.delete(projectId);
-  }
-
   private List<TechStackDto> getTechStacks(Long projectId) {
     return projectTechStackService.getTechStacks(projectId).stream()
         .map(projectTechStack -> TechStackDto.from(projectTechStack.getTechStack()))
@@ -1,14 +1,11 @@
 package com.devee.devhive.domain.project.member.controller;
 
-import com.devee.devhive.domain.project.entity.Project;
-import com.devee.devhive.domain.project.member.entity.ProjectMember;
 import com.devee.devhive.domain.project.member.entity.dto.ProjectHistoryDto;
 import com.devee.devhive.domain.project.member.service.ProjectMemberService;
 import com.devee.devhive.domain.project.review.service.ProjectReviewService;
-import com.devee.devhive.domain.project.type.ProjectStatus;
+import com.devee.devhive.domain.user.counter.service.UserCounterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -26,23 +23,15 @@ public class ProjectMemberController {
 
   private final ProjectMemberService projectMemberService;
   private final ProjectReviewService projectReviewService;
+  private final UserCounterService userCounterService;
 
   @GetMapping("/{userId}/project-histories")
   @Operation(summary = "유저의 프로젝트 히스토리 목록 조회")
   public ResponseEntity<List<ProjectHistoryDto>> getUserProjectHistories(@PathVariable("userId") Long userId) {
-    List<Project> projects = projectMemberService.findAllByUserId(userId).stream()
-        .map(ProjectMember::getProject)
+    List<ProjectHistoryDto> projectHistoryList = projectReviewService.getCompletedProjectReviewScores(userId)
+        .stream()
+        .map(reviewScore -> ProjectHistoryDto.of(reviewScore.projectName(), reviewScore.averageScore()))
         .toList();
-    List<ProjectHistoryDto> projectHistoryList = new ArrayList<>();
-
-    for (Project project : projects) {
-      if (project.getStatus() == ProjectStatus.COMPLETE) {
-        int memberCount = projectMemberService.getProjectMemberByProjectId(project.getId()).size();
-        ProjectHistoryDto projectHistory = ProjectHistoryDto.of(project.getName(),
-            projectReviewService.getAverageTotalScoreByTargetUserAndProject(userId, project.getId(), memberCount));
-        projectHistoryList.add(projectHistory);
-      }
-    }
 
     return ResponseEntity.ok(projectHistoryList);
   }
@@ -50,7 +39,7 @@ public class ProjectMemberController {
   @GetMapping("/{userId}/hive-level")
   @Operation(summary = "유저의 벌집 레벨 조회")
   public ResponseEntity<Integer> getUserHiveLevel(@PathVariable("userId") Long userId) {
-    return ResponseEntity.ok(projectMemberService.countCompletedProjectsByUserId(userId));
+    return ResponseEntity.ok(userCounterService.getCompletedProjectCount(userId));
   }
 
   @DeleteMapping("/{userId}/projects/{projectId}")
@@ -4,12 +4,14 @@ import com.devee.devhive.domain.project.member.entity.ProjectMember;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
 
+    @EntityGraph(attributePaths = "user")
     List<ProjectMember> findAllByProjectIdOrderByCreatedDateAsc(Long projectId);
 
     List<ProjectMember> findAllByUserIdOrderByCreatedDateDesc(Long userId);
@@ -3,7 +3,6 @@ package com.devee.devhive.domain.project.member.service;
 import com.devee.devhive.domain.project.entity.Project;
 import com.devee.devhive.domain.project.member.entity.ProjectMember;
 import com.devee.devhive.domain.project.member.repository.ProjectMemberRepository;
-import com.devee.devhive.domain.project.type.ProjectStatus;
 import com.devee.devhive.domain.user.alarm.entity.form.AlarmForm;
 import com.devee.devhive.domain.user.entity.User;
 import com.devee.devhive.domain.user.type.AlarmContent;
@@ -26,17 +25,6 @@ public class ProjectMemberService {
     return projectMemberRepository.findAllByProjectIdOrderByCreatedDateAsc(projectId);
   }
 
-  // 유저가 참여한 완료된 프로젝트 갯수 (벌집레벨)
-  public int countCompletedProjectsByUserId(Long userId) {
-    List<ProjectMember> projectMembers = projectMemberRepository.findAllByUserIdOrderByCreatedDateDesc(userId);
-    long completedProjectCount = projectMembers.stream()
-        .map(ProjectMember::getProject)
-        .filter(project -> project.getStatus() == ProjectStatus.COMPLETE)
-        .count();
-
-    return (int) completedProjectCount;
-  }
-
   // 유저가 참여한 프로젝트 목록(최신순)
   public List<ProjectMember> findAllByUserId(Long userId) {
     return projectMemberRepository.findAllByUserIdOrderByCreatedDateDesc(userId);
@@ -70,16 +58,14 @@ public class ProjectMemberService {
         .build());
   }
 
-  @Transactional
-  public void deleteProjectMembers(Long projectId) {
+  // 프로젝트 삭제 시 프로젝트 멤버들에게 프로젝트 삭제 알림 이벤트 발행 (멤버 삭제는 ProjectPurgeService)
+  public void sendDeleteProjectAlarm(Long projectId) {
     List<ProjectMember> projectMembers = getProjectMemberByProjectId(projectId);
 
-    // 리더가 퇴출된 경우 프로젝트 멤버들에게 프로젝트 삭제 알림 이벤트 발행
     for (ProjectMember projectMember : projectMembers) {
       alarmEventPub(projectMember.getUser(), projectMember.getProject(),
           AlarmContent.DELETE_PROJECT, null);
     }
-    projectMemberRepository.deleteAll(projectMembers);
   }
 
   // 해당 프로젝트에 유저가 팀원인지
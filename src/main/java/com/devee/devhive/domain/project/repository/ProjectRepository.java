@@ -1,16 +1,35 @@
 package com.devee.devhive.domain.project.repository;
 
 import com.devee.devhive.domain.project.entity.Project;
+import com.devee.devhive.domain.project.type.ProjectStatus;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-  Page<Project> findByUserIdOrderByCreatedDateDesc(Long userId, Pageable pageable);
+  Page<Project> findByUserIdAndStatusNotOrderByCreatedDateDesc(Long userId, ProjectStatus status,
+      Pageable pageable);
 
-  List<Project> findAllByDeadlineBefore(LocalDateTime now);
+  // 모집 기한이 지난 모집중 프로젝트 id (lastId 이후 id 순)
+  @Query("SELECT p.id FROM Project p WHERE p.status = :status AND p.deadline < :now "
+      + "AND p.id > :lastId ORDER BY p.id")
+  List<Long> findIdsByStatusAndDeadlineBefore(@Param("status") ProjectStatus status,
+      @Param("now") LocalDateTime now, @Param("lastId") Long lastId, Pageable pageable);
+
+  // 조건을 다시 확인해서 그 사이 상태가 바뀐 프로젝트는 건드리지 않음
+  @Modifying
+  @Query("UPDATE Project p SET p.status = :toStatus, p.modifiedDate = :now "
+      + "WHERE p.id IN :projectIds AND p.status = :fromStatus AND p.deadline < :now")
+  int updateStatusOfDeadlineOver(@Param("projectIds") List<Long> projectIds,
+      @Param("fromStatus") ProjectStatus fromStatus, @Param("toStatus") ProjectStatus toStatus,
+      @Param("now") LocalDateTime now);
+
+  List<Project> findAllByStatus(ProjectStatus status);
 }
@@ -0,0 +1,22 @@
+package com.devee.devhive.domain.project.repository.custom;
+
+import java.util.List;
+
+public interface CustomProjectPurgeRepository {
+
+  // 프로젝트 채팅방 참여 유저 id
+  List<Long> findChatMemberUserIds(Long projectId);
+
+  // 프로젝트에 딸린 댓글 + 채팅 메시지 수(비동기 삭제 여부 판단용)
+  long countLargeChildren(Long projectId);
+
+  // 프로젝트에 딸린 모든 데이터를 테이블별 DELETE 한 번씩으로 삭제
+  long deleteAllChildren(Long projectId);
+
+  // 프로젝트에 딸린 데이터를 최대 chunkSize 건 삭제, 더 지울 게 없으면 0 반환
+  long deleteChildrenChunk(Long projectId, int chunkSize);
+
+  long markDeleted(Long projectId);
+
+  long deleteProject(Long projectId);
+}
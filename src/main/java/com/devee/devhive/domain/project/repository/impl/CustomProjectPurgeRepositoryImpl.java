@@ -0,0 +1,155 @@
+package com.devee.devhive.domain.project.repository.impl;
+
+import com.devee.devhive.domain.project.apply.entity.QProjectApply;
+import com.devee.devhive.domain.project.chat.entity.QProjectChatMember;
+import com.devee.devhive.domain.project.chat.entity.QProjectChatMessage;
+import com.devee.devhive.domain.project.chat.entity.QProjectChatRoom;
+import com.devee.devhive.domain.project.comment.entity.QComment;
+import com.devee.devhive.domain.project.comment.reply.entity.QReply;
+import com.devee.devhive.domain.project.entity.QProject;
+import com.devee.devhive.domain.project.member.entity.QProjectMember;
+import com.devee.devhive.domain.project.repository.custom.CustomProjectPurgeRepository;
+import com.devee.devhive.domain.project.review.entity.QProjectReview;
+import com.devee.devhive.domain.project.review.entity.QProjectReviewSummary;
+import com.devee.devhive.domain.project.review.evaluation.entity.QEvaluation;
+import com.devee.devhive.domain.project.techstack.entity.QProjectTechStack;
+import com.devee.devhive.domain.project.type.ProjectStatus;
+import com.devee.devhive.domain.project.views.entity.QViewCount;
+import com.devee.devhive.domain.project.vote.entity.QExitVoteTally;
+import com.devee.devhive.domain.project.vote.entity.QProjectMemberExitVote;
+import com.devee.devhive.domain.user.bookmark.entity.QBookmark;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 프로젝트 삭제 시 엔티티를 하나씩 읽어 지우지 않고
+ * DELETE ... WHERE project_id = ? / comment_id IN (subquery) 로 한 번에 삭제
+ */
+@Repository
+public class CustomProjectPurgeRepositoryImpl implements CustomProjectPurgeRepository {
+
+  private static final QEvaluation evaluation = QEvaluation.evaluation;
+  private static final QProjectReview projectReview = QProjectReview.projectReview;
+  private static final QProjectReviewSummary reviewSummary =
+      QProjectReviewSummary.projectReviewSummary;
+  private static final QProjectMemberExitVote exitVote = QProjectMemberExitVote.projectMemberExitVote;
+  private static final QExitVoteTally exitVoteTally = QExitVoteTally.exitVoteTally;
+  private static final QProjectChatMessage chatMessage = QProjectChatMessage.projectChatMessage;
+  private static final QProjectChatMember chatMember = QProjectChatMember.projectChatMember;
+  private static final QProjectChatRoom chatRoom = QProjectChatRoom.projectChatRoom;
+  private static final QBookmark bookmark = QBookmark.bookmark;
+  private static final QReply reply = QReply.reply;
+  private static final QComment comment = QComment.comment;
+  private static final QProjectTechStack projectTechStack = QProjectTechStack.projectTechStack;
+  private static final QProjectMember projectMember = QProjectMember.projectMember;
+  private static final QProjectApply projectApply = QProjectApply.projectApply;
+  private static final QViewCount viewCount = QViewCount.viewCount;
+  private static final QProject project = QProject.project;
+
+  private final JPAQueryFactory queryFactory;
+
+  public CustomProjectPurgeRepositoryImpl(JPAQueryFactory queryFactory) {
+    this.queryFactory = queryFactory;
+  }
+
+  @Override
+  public List<Long> findChatMemberUserIds(Long projectId) {
+    return queryFactory.select(chatMember.user.id)
+        .from(chatMember)
+        .where(chatMember.chatRoom.project.id.eq(projectId))
+        .fetch();
+  }
+
+  @Override
+  public long countLargeChildren(Long projectId) {
+    Long comments = queryFactory.select(comment.count())
+        .from(comment)
+        .where(comment.project.id.eq(projectId))
+        .fetchOne();
+    Long chatMessages = queryFactory.select(chatMessage.count())
+        .from(chatMessage)
+        .where(chatMessage.projectChatRoom.project.id.eq(projectId))
+        .fetchOne();
+    return (comments == null ? 0 : comments) + (chatMessages == null ? 0 : chatMessages);
+  }
+
+  @Override
+  public long deleteAllChildren(Long projectId) {
+    long deleted = 0;
+    for (PurgeStep step : steps(projectId)) {
+      deleted += queryFactory.delete(step.path()).where(step.where()).execute();
+    }
+    return deleted;
+  }
+
+  @Override
+  public long deleteChildrenChunk(Long projectId, int chunkSize) {
+    // FK 순서대로 남아있는 첫 테이블에서 chunkSize 건 삭제
+    for (PurgeStep step : steps(projectId)) {
+      List<Long> ids = queryFactory.select(step.id())
+          .from(step.path())
+          .where(step.where())
+          .limit(chunkSize)
+          .fetch();
+      if (!ids.isEmpty()) {
+        return queryFactory.delete(step.path()).where(step.id().in(ids)).execute();
+      }
+    }
+    return 0;
+  }
+
+  @Override
+  public long markDeleted(Long projectId) {
+    return queryFactory.update(project)
+        .set(project.status, ProjectStatus.DELETED)
+        .where(project.id.eq(projectId))
+        .execute();
+  }
+
+  @Override
+  public long deleteProject(Long projectId) {
+    return queryFactory.delete(project).where(project.id.eq(projectId)).execute();
+  }
+
+  // 외래키 순서(자식 -> 부모)
+  private List<PurgeStep> steps(Long projectId) {
+    return List.of(
+        new PurgeStep(evaluation, evaluation.id, evaluation.projectReview.id.in(
+            JPAExpressions.select(projectReview.id)
+                .from(projectReview)
+                .where(projectReview.project.id.eq(projectId)))),
+        new PurgeStep(projectReview, projectReview.id, projectReview.project.id.eq(projectId)),
+        new PurgeStep(reviewSummary, reviewSummary.id, reviewSummary.project.id.eq(projectId)),
+        new PurgeStep(exitVote, exitVote.id, exitVote.project.id.eq(projectId)),
+        new PurgeStep(exitVoteTally, exitVoteTally.id, exitVoteTally.project.id.eq(projectId)),
+        new PurgeStep(chatMessage, chatMessage.id, chatMessage.projectChatRoom.id.in(
+            JPAExpressions.select(chatRoom.id)
+                .from(chatRoom)
+                .where(chatRoom.project.id.eq(projectId)))),
+        new PurgeStep(chatMember, chatMember.id, chatMember.chatRoom.id.in(
+            JPAExpressions.select(chatRoom.id)
+                .from(chatRoom)
+                .where(chatRoom.project.id.eq(projectId)))),
+        new PurgeStep(chatRoom, chatRoom.id, chatRoom.project.id.eq(projectId)),
+        new PurgeStep(bookmark, bookmark.id, bookmark.project.id.eq(projectId)),
+        new PurgeStep(reply, reply.id, reply.comment.id.in(
+            JPAExpressions.select(comment.id)
+                .from(comment)
+                .where(comment.project.id.eq(projectId)))),
+        new PurgeStep(comment, comment.id, comment.project.id.eq(projectId)),
+        new PurgeStep(projectTechStack, projectTechStack.id,
+            projectTechStack.project.id.eq(projectId)),
+        new PurgeStep(projectMember, projectMember.id, projectMember.project.id.eq(projectId)),
+        new PurgeStep(projectApply, projectApply.id, projectApply.project.id.eq(projectId)),
+        new PurgeStep(viewCount, viewCount.id, viewCount.project.id.eq(projectId))
+    );
+  }
+
+  private record PurgeStep(EntityPath<?> path, NumberPath<Long> id, Predicate where) {
+  }
+}
@@ -5,6 +5,7 @@ import com.devee.devhive.domain.project.entity.QProject;
 import com.devee.devhive.domain.project.repository.custom.CustomProjectRepository;
 import com.devee.devhive.domain.project.techstack.entity.QProjectTechStack;
 import com.devee.devhive.domain.project.type.DevelopmentType;
+import com.devee.devhive.domain.project.type.ProjectStatus;
 import com.devee.devhive.domain.project.type.RecruitmentType;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
@@ -31,6 +32,8 @@ public class CustomProjectRepositoryImpl implements CustomProjectRepository {
     QProject qProject = QProject.project;
     QProjectTechStack qProjectTechStack = QProjectTechStack.projectTechStack;
     BooleanBuilder predicate = new BooleanBuilder();
+    // 삭제 중인 프로젝트 제외
+    predicate.and(qProject.status.ne(ProjectStatus.DELETED));
 
     if (keyword != null && !keyword.isEmpty()) {
       predicate.and(qProject.title.containsIgnoreCase(keyword)
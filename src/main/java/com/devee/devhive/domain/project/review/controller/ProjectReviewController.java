@@ -1,7 +1,6 @@
 package com.devee.devhive.domain.project.review.controller;
 
 import com.devee.devhive.domain.project.entity.Project;
-import com.devee.devhive.domain.project.member.service.ProjectMemberService;
 import com.devee.devhive.domain.project.review.dto.EvaluationForm;
 import com.devee.devhive.domain.project.review.dto.ReviewDto;
 import com.devee.devhive.domain.project.review.entity.ProjectReview;
@@ -35,7 +34,6 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProjectReviewController {
 
   private final ProjectReviewService reviewService;
-  private final ProjectMemberService memberService;
   private final EvaluationService evaluationService;
   private final UserService userService;
   private final ProjectService projectService;
@@ -58,9 +56,8 @@ public class ProjectReviewController {
     // 타겟유저의 유저뱃지리스트들 점수 업데이트
     userBadgeService.updatePoint(targetUser, evaluationList);
 
-    int memberCount = memberService.getProjectMemberByProjectId(projectId).size();
     // 팀원평가 모두 한 경우 평균점수를 타겟유저 랭킹포인트 업데이트
-    Double averagePoint = reviewService.getAverageTotalScoreByTargetUserAndProject(targetUserId, projectId, memberCount);
+    Double averagePoint = reviewService.getAverageTotalScoreByTargetUserAndProject(targetUserId, projectId);
     if (averagePoint != null) {
       userService.updateRankPoint(targetUser, project, averagePoint);
     }
@@ -0,0 +1,23 @@
+package com.devee.devhive.domain.project.review.dto;
+
+/**
+ * 프로젝트 이름, 멤버 수와 타겟유저의 리뷰 집계를 한 번에 읽기 위한 projection
+ * 아직 받은 리뷰가 없으면 reviewCount, scoreSum 은 null
+ */
+public record ReviewScoreDto(
+    Long projectId,
+    String projectName,
+    Long memberCount,
+    Integer reviewCount,
+    Long scoreSum
+) {
+
+  // 팀원 전원의 평가가 모인 경우에만 평균점수 (소수점 첫째 자리까지 반올림)
+  public Double averageScore() {
+    if (reviewCount == null || reviewCount == 0 || memberCount - 1 != reviewCount) {
+      return null;
+    }
+    double average = (double) scoreSum / reviewCount;
+    return Math.round(average * 10.0) / 10.0;
+  }
+}
@@ -0,0 +1,46 @@
+package com.devee.devhive.domain.project.review.entity;
+
+import com.devee.devhive.domain.project.entity.Project;
+import com.devee.devhive.domain.user.entity.User;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트별 타겟유저가 받은 리뷰 집계 (리뷰 수, 점수 합계)
+ * 리뷰 등록 시 upsert 로 원자적으로 증가시킨다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uk_review_summary_project_target", columnNames = {"project_id", "target_user_id"}))
+public class ProjectReviewSummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id")
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "target_user_id")
+    private User targetUser;
+
+    private int reviewCount;
+
+    private long scoreSum;
+}
@@ -2,7 +2,10 @@ package com.devee.devhive.domain.project.review.repository;
 
 import com.devee.devhive.domain.project.review.entity.ProjectReview;
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,4 +14,10 @@ public interface ProjectReviewRepository extends JpaRepository<ProjectReview, Lo
   boolean existsByProjectIdAndReviewerUserIdAndTargetUserId(Long projectId, Long reviewerUserId, Long targetUserId);
 
   List<ProjectReview> findAllByProjectId(Long projectId);
+
+  // 리뷰어가 프로젝트에서 리뷰를 남긴 타겟유저 id 목록
+  @Query("SELECT r.targetUser.id FROM ProjectReview r "
+      + "WHERE r.project.id = :projectId AND r.reviewerUser.id = :reviewerUserId")
+  Set<Long> findTargetUserIds(@Param("projectId") Long projectId,
+      @Param("reviewerUserId") Long reviewerUserId);
 }
@@ -0,0 +1,57 @@
+package com.devee.devhive.domain.project.review.repository;
+
+import com.devee.devhive.domain.project.review.dto.ReviewScoreDto;
+import com.devee.devhive.domain.project.review.entity.ProjectReviewSummary;
+import com.devee.devhive.domain.project.type.ProjectStatus;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectReviewSummaryRepository extends JpaRepository<ProjectReviewSummary, Long> {
+
+  // (project_id, target_user_id) 유니크 키 기준 원자적 증가
+  @Modifying
+  @Query(value = "INSERT INTO project_review_summary "
+      + "(project_id, target_user_id, review_count, score_sum) "
+      + "VALUES (:projectId, :targetUserId, 1, :score) "
+      + "ON DUPLICATE KEY UPDATE review_count = review_count + 1, score_sum = score_sum + :score",
+      nativeQuery = true)
+  void increase(@Param("projectId") Long projectId, @Param("targetUserId") Long targetUserId,
+      @Param("score") int score);
+
+  // 리뷰 테이블로부터 집계 재구성 (기존 리뷰 backfill)
+  @Modifying
+  @Query(value = "INSERT INTO project_review_summary "
+      + "(project_id, target_user_id, review_count, score_sum) "
+      + "SELECT r.project_id, r.target_user_id, COUNT(*), SUM(r.total_score) "
+      + "FROM project_review r GROUP BY r.project_id, r.target_user_id "
+      + "ON DUPLICATE KEY UPDATE review_count = VALUES(review_count), score_sum = VALUES(score_sum)",
+      nativeQuery = true)
+  int rebuildAll();
+
+  // 프로젝트 멤버 수와 타겟유저 리뷰 집계
+  @Query("SELECT new com.devee.devhive.domain.project.review.dto.ReviewScoreDto("
+      + "p.id, p.name, (SELECT COUNT(m) FROM ProjectMember m WHERE m.project = p), "
+      + "s.reviewCount, s.scoreSum) "
+      + "FROM Project p "
+      + "LEFT JOIN ProjectReviewSummary s ON s.project = p AND s.targetUser.id = :targetUserId "
+      + "WHERE p.id = :projectId")
+  Optional<ReviewScoreDto> findReviewScore(@Param("projectId") Long projectId,
+      @Param("targetUserId") Long targetUserId);
+
+  // 유저가 참여한 상태별 프로젝트의 리뷰 집계 목록
+  @Query("SELECT new com.devee.devhive.domain.project.review.dto.ReviewScoreDto("
+      + "p.id, p.name, (SELECT COUNT(m) FROM ProjectMember m WHERE m.project = p), "
+      + "s.reviewCount, s.scoreSum) "
+      + "FROM ProjectMember pm JOIN pm.project p "
+      + "LEFT JOIN ProjectReviewSummary s ON s.project = p AND s.targetUser.id = :userId "
+      + "WHERE pm.user.id = :userId AND p.status = :status "
+      + "ORDER BY pm.createdDate DESC, pm.id DESC")
+  List<ReviewScoreDto> findReviewScoresByUserId(@Param("userId") Long userId,
+      @Param("status") ProjectStatus status);
+}
@@ -5,38 +5,36 @@ import static com.devee.devhive.global.exception.ErrorCode.PROJECT_NOT_COMPLETE;
 
 import com.devee.devhive.domain.project.entity.Project;
 import com.devee.devhive.domain.project.review.dto.EvaluationForm;
+import com.devee.devhive.domain.project.review.dto.ReviewScoreDto;
 import com.devee.devhive.domain.project.review.entity.ProjectReview;
 import com.devee.devhive.domain.project.review.repository.ProjectReviewRepository;
+import com.devee.devhive.domain.project.review.repository.ProjectReviewSummaryRepository;
 import com.devee.devhive.domain.project.type.ProjectStatus;
 import com.devee.devhive.domain.user.entity.User;
 import com.devee.devhive.global.exception.CustomException;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectReviewService {
 
   private final ProjectReviewRepository projectReviewRepository;
+  private final ProjectReviewSummaryRepository projectReviewSummaryRepository;
 
-  // 프로젝트에서 유저가 받은 리뷰의 평균점수
-  public Double getAverageTotalScoreByTargetUserAndProject(Long targetUserId, Long projectId, int memberCount) {
-    List<ProjectReview> projectReviews = getAllProjectReviewsById(projectId);
-    List<ProjectReview> userReviews = projectReviews.stream()
-        .filter(projectReview -> Objects.equals(projectReview.getTargetUser().getId(), targetUserId)).toList();
-
-    int count = userReviews.size();
-    if (memberCount -1 != count) {
-      return null;
-    }
-
-    int sumTotalScore = userReviews.stream().mapToInt(ProjectReview::getTotalScore).sum();
-    double average = (double) sumTotalScore / count;
+  // 프로젝트에서 유저가 받은 리뷰의 평균점수 (팀원 전원이 평가하지 않았으면 null)
+  public Double getAverageTotalScoreByTargetUserAndProject(Long targetUserId, Long projectId) {
+    return projectReviewSummaryRepository.findReviewScore(projectId, targetUserId)
+        .map(ReviewScoreDto::averageScore)
+        .orElse(null);
+  }
 
-    // 결과를 소수점 첫째 자리까지 반올림
-    return Math.round(average * 10.0) / 10.0;
+  // 유저가 참여한 완료 프로젝트별 리뷰 집계
+  public List<ReviewScoreDto> getCompletedProjectReviewScores(Long userId) {
+    return projectReviewSummaryRepository.findReviewScoresByUserId(userId, ProjectStatus.COMPLETE);
   }
 
   // 리뷰 했는지
@@ -44,7 +42,13 @@ public class ProjectReviewService {
     return projectReviewRepository.existsByProjectIdAndReviewerUserIdAndTargetUserId(projectId, reviewerUserId, targetUserId);
   }
 
+  // 프로젝트에서 리뷰어가 이미 리뷰한 타겟유저 id 목록
+  public Set<Long> getReviewedTargetUserIds(Long projectId, Long reviewerUserId) {
+    return projectReviewRepository.findTargetUserIds(projectId, reviewerUserId);
+  }
+
   // 정보를 바탕으로 리뷰 등록
+  @Transactional
   public ProjectReview submitReview(Long projectId, Long targetUserId, User user,
       Project project, User targetUser, List<EvaluationForm> forms
   ) {
@@ -59,12 +63,15 @@ public class ProjectReviewService {
     // 총 합계
     int totalScore = forms.stream().mapToInt(EvaluationForm::getPoint).sum();
 
-    return projectReviewRepository.save(ProjectReview.builder()
+    ProjectReview review = projectReviewRepository.save(ProjectReview.builder()
             .project(project)
             .reviewerUser(user)
             .targetUser(targetUser)
             .totalScore(totalScore)
             .build());
+    // 리뷰 집계 증가
+    projectReviewSummaryRepository.increase(projectId, targetUserId, totalScore);
+    return review;
   }
 
   public List<ProjectReview> getAllProjectReviewsById(Long projectId) {
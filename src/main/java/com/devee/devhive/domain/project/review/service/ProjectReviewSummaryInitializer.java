@@ -0,0 +1,32 @@
+package com.devee.devhive.domain.project.review.service;
+
+import com.devee.devhive.domain.project.review.repository.ProjectReviewRepository;
+import com.devee.devhive.domain.project.review.repository.ProjectReviewSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰 집계 테이블이 비어있는데 리뷰가 존재하면 (집계 도입 이전 데이터) 한 번 재구성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectReviewSummaryInitializer {
+
+  private final ProjectReviewRepository projectReviewRepository;
+  private final ProjectReviewSummaryRepository projectReviewSummaryRepository;
+
+  @Transactional
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    if (projectReviewSummaryRepository.count() > 0 || projectReviewRepository.count() == 0) {
+      return;
+    }
+    int rows = projectReviewSummaryRepository.rebuildAll();
+    log.info("project review summary backfilled: {} rows", rows);
+  }
+}
@@ -0,0 +1,82 @@
+package com.devee.devhive.domain.project.service;
+
+import com.devee.devhive.domain.project.chat.entity.ProjectChatRoom;
+import com.devee.devhive.domain.project.chat.service.ChatMembershipCache;
+import com.devee.devhive.domain.project.chat.service.ChatRoomService;
+import com.devee.devhive.domain.project.chat.service.ChatUnreadService;
+import com.devee.devhive.domain.project.comment.service.CommentThreadCache;
+import com.devee.devhive.domain.project.entity.Project;
+import com.devee.devhive.domain.project.member.service.ProjectMemberService;
+import com.devee.devhive.domain.project.repository.custom.CustomProjectPurgeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 프로젝트 삭제
+ * 딸린 데이터(채팅, 북마크, 댓글/답글, 기술스택, 멤버, 신청, 조회수, 투표, 리뷰)를
+ * 테이블별 DELETE 한 번씩으로 한 트랜잭션에서 삭제한다.
+ * 댓글 + 채팅 메시지가 async-threshold 를 넘는 큰 프로젝트는 DELETED 상태로만 바꾸고
+ * ProjectPurgeWorker 가 백그라운드에서 나눠서 삭제한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectPurgeService {
+
+  private final CustomProjectPurgeRepository purgeRepository;
+  private final ProjectPurgeWorker projectPurgeWorker;
+  private final ProjectMemberService projectMemberService;
+  private final ChatRoomService chatRoomService;
+  private final ChatMembershipCache chatMembershipCache;
+  private final ChatUnreadService chatUnreadService;
+  private final CommentThreadCache commentThreadCache;
+
+  @Value("${project.purge.async-threshold:5000}")
+  private long asyncThreshold;
+
+  @Transactional
+  public void purge(Project project) {
+    Long projectId = project.getId();
+    projectMemberService.sendDeleteProjectAlarm(projectId);
+    clearChatCaches(projectId);
+    commentThreadCache.evict(projectId);
+
+    if (purgeRepository.countLargeChildren(projectId) > asyncThreshold) {
+      purgeRepository.markDeleted(projectId);
+      runAfterCommit(() -> projectPurgeWorker.purgeInChunks(projectId));
+      return;
+    }
+
+    long deleted = purgeRepository.deleteAllChildren(projectId);
+    purgeRepository.deleteProject(projectId);
+    log.info("프로젝트 삭제 projectId={}, 삭제된 하위 데이터 {}건", projectId, deleted);
+  }
+
+  // 채팅방 참여 캐시, 안 읽은 메시지 수 정리
+  private void clearChatCaches(Long projectId) {
+    ProjectChatRoom chatRoom = chatRoomService.findByProjectId(projectId);
+    if (chatRoom == null) {
+      return;
+    }
+    purgeRepository.findChatMemberUserIds(projectId).forEach(chatMembershipCache::evict);
+    chatUnreadService.deleteRoom(chatRoom.getId());
+  }
+
+  private void runAfterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,78 @@
+package com.devee.devhive.domain.project.service;
+
+import com.devee.devhive.domain.project.repository.ProjectRepository;
+import com.devee.devhive.domain.project.repository.custom.CustomProjectPurgeRepository;
+import com.devee.devhive.domain.project.type.ProjectStatus;
+import com.devee.devhive.global.batch.BatchJobLock;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * DELETED 상태로 표시된 큰 프로젝트를 chunk 단위 트랜잭션으로 나눠 삭제
+ * 한 트랜잭션이 오래 잠금을 잡지 않도록 하기 위함
+ * 여러 서버가 같은 프로젝트를 동시에 삭제하지 않도록 프로젝트별 lease 락(BatchJobLock)을 잡은 서버만 삭제한다.
+ */
+@Slf4j
+@Component
+public class ProjectPurgeWorker {
+
+  private final CustomProjectPurgeRepository purgeRepository;
+  private final ProjectRepository projectRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final BatchJobLock batchJobLock;
+
+  @Value("${project.purge.chunk-size:1000}")
+  private int chunkSize;
+  @Value("${project.purge.lease-seconds:600}")
+  private long leaseSeconds;
+
+  public ProjectPurgeWorker(CustomProjectPurgeRepository purgeRepository,
+      ProjectRepository projectRepository, PlatformTransactionManager transactionManager,
+      BatchJobLock batchJobLock) {
+    this.purgeRepository = purgeRepository;
+    this.projectRepository = projectRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchJobLock = batchJobLock;
+  }
+
+  @Async
+  public void purgeInChunks(Long projectId) {
+    String lockName = "project-purge:" + projectId;
+    Optional<String> token = batchJobLock.tryAcquire(lockName, Duration.ofSeconds(leaseSeconds));
+    if (token.isEmpty()) {
+      log.info("다른 서버에서 삭제 중인 프로젝트 projectId={}", projectId);
+      return;
+    }
+
+    try {
+      long total = 0;
+      Long deleted;
+      do {
+        deleted = transactionTemplate.execute(
+            status -> purgeRepository.deleteChildrenChunk(projectId, chunkSize));
+        total += deleted == null ? 0 : deleted;
+      } while (deleted != null && deleted > 0);
+
+      transactionTemplate.executeWithoutResult(status -> purgeRepository.deleteProject(projectId));
+      log.info("프로젝트 비동기 삭제 완료 projectId={}, 삭제된 하위 데이터 {}건", projectId, total);
+    } finally {
+      batchJobLock.release(lockName, token.get(), Duration.ZERO);
+    }
+  }
+
+  // 서버 재시작 등으로 삭제가 끝나지 않은 프로젝트 이어서 삭제
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumePendingPurges() {
+    projectRepository.findAllByStatus(ProjectStatus.DELETED)
+        .forEach(project -> purgeInChunks(project.getId()));
+  }
+}
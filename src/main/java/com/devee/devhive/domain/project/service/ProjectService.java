@@ -1,6 +1,7 @@
 package com.devee.devhive.domain.project.service;
 
 import static com.devee.devhive.domain.project.type.ProjectStatus.COMPLETE;
+import static com.devee.devhive.domain.project.type.ProjectStatus.DELETED;
 import static com.devee.devhive.domain.project.type.ProjectStatus.RECRUITING;
 import static com.devee.devhive.domain.project.type.ProjectStatus.RECRUITMENT_COMPLETE;
 import static com.devee.devhive.domain.project.type.RecruitmentType.ALL;
@@ -18,6 +19,7 @@ import com.devee.devhive.domain.project.repository.ProjectRepository;
 import com.devee.devhive.domain.project.repository.custom.CustomProjectRepository;
 import com.devee.devhive.domain.project.type.ProjectStatus;
 import com.devee.devhive.domain.user.alarm.entity.form.AlarmForm;
+import com.devee.devhive.domain.user.counter.service.UserCounterService;
 import com.devee.devhive.domain.user.entity.User;
 import com.devee.devhive.domain.user.type.AlarmContent;
 import com.devee.devhive.global.exception.CustomException;
@@ -27,6 +29,7 @@ import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,15 +41,17 @@ public class ProjectService {
   private final ApplicationEventPublisher eventPublisher;
   private final ProjectRepository projectRepository;
   private final CustomProjectRepository customProjectRepository;
+  private final UserCounterService userCounterService;
 
   public Project findById(Long projectId) {
     return projectRepository.findById(projectId)
+        .filter(project -> project.getStatus() != DELETED)
         .orElseThrow(() -> new CustomException(NOT_FOUND_PROJECT));
   }
 
   // 내가 생성한 프로젝트 목록 페이지
   public Page<Project> getWriteProjects(Long userId, Pageable pageable) {
-    return projectRepository.findByUserIdOrderByCreatedDateDesc(userId, pageable);
+    return projectRepository.findByUserIdAndStatusNotOrderByCreatedDateDesc(userId, DELETED, pageable);
   }
 
   // 프로젝트 작성
@@ -81,6 +86,7 @@ public class ProjectService {
       throw new CustomException(UNAUTHORIZED);
     }
     ProjectStatus status = statusDto.getStatus();
+    ProjectStatus previousStatus = project.getStatus();
 
     if (status == RECRUITMENT_COMPLETE) {
       project.setStartDate(LocalDateTime.now());
@@ -92,6 +98,13 @@ public class ProjectService {
 
     Project saveProject = projectRepository.save(project);
 
+    // 완료 상태로 바뀌거나 완료 상태에서 벗어날 때만 멤버들의 벌집레벨 카운터 증감
+    if (previousStatus != COMPLETE && status == COMPLETE) {
+      userCounterService.addCompletedProjectCountOfMembers(projectId, 1);
+    } else if (previousStatus == COMPLETE && status != COMPLETE) {
+      userCounterService.addCompletedProjectCountOfMembers(projectId, -1);
+    }
+
     if (saveProject.getStatus() == COMPLETE) {
       // 프로젝트 멤버들에게 팀원 평가 권유 알림 이벤트 발행
       reviewRequestAlarmEventPub(saveProject, members);
@@ -181,12 +194,15 @@ public class ProjectService {
         sort, pageable);
   }
 
-  public void updateDeadlineOverProjects() {
-    List<Project> deadLineOverProjects = projectRepository
-        .findAllByDeadlineBefore(LocalDateTime.now());
-
-    deadLineOverProjects.forEach(project -> project.setStatus(RECRUITMENT_COMPLETE));
-    projectRepository.saveAll(deadLineOverProjects);
+  // 모집 기한이 지난 모집중 프로젝트를 id 순으로 size 개씩 모집 마감, 처리한 프로젝트 id 반환 (더 없으면 빈 목록)
+  @Transactional
+  public List<Long> closeDeadlineOverRecruitments(LocalDateTime now, Long lastProjectId, int size) {
+    List<Long> projectIds = projectRepository.findIdsByStatusAndDeadlineBefore(
+        RECRUITING, now, lastProjectId, PageRequest.of(0, size));
+    if (!projectIds.isEmpty()) {
+      projectRepository.updateStatusOfDeadlineOver(projectIds, RECRUITING, RECRUITMENT_COMPLETE, now);
+    }
+    return projectIds;
   }
 }
 
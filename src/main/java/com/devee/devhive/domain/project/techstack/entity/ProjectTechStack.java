@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,7 +23,9 @@ import lombok.NoArgsConstructor;
 public class ProjectTechStack {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "project_tech_stack_id")
+  @TableGenerator(name = "project_tech_stack_id", table = "id_generator", pkColumnName = "sequence_name",
+      valueColumnName = "next_val", pkColumnValue = "project_tech_stack", allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -4,5 +4,6 @@ public enum ProjectStatus {
     RECRUITING,           // 모집 중 (프로젝트 진행 전)
     RECRUITMENT_COMPLETE, // 모집 완료 (프로젝트 진행 중)
     RE_RECRUITMENT,       // 재 모집 (프로젝트 진행 중단)
-    COMPLETE              // 프로젝트 완료
+    COMPLETE,             // 프로젝트 완료
+    DELETED               // 삭제 중 (비동기 삭제 대기)
 }
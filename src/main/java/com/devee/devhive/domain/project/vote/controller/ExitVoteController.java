@@ -83,23 +83,10 @@ public class ExitVoteController {
     User targetUser = myVote.getTargetUser();
     Long targetUserId = targetUser.getId();
 
-    // 투표 제출
-    exitVoteService.submitExitVote(myVote, vote);
-
-    List<ProjectMemberExitVote> exitVotes = exitVoteService.findByProjectId(projectId);
-    // 투표 참여한 팀원 수
-    int countVotedMembers = exitVoteService.countVotedMembers(exitVotes);
-    // 모든 팀원이 투표완료한 경우
-    if (countVotedMembers == exitVotes.size()) {
-      boolean isTargetUserExit = exitVoteService.resultTargetUserExit(exitVotes);
-      if (isTargetUserExit) {
-        exitVoteService.deleteAllVotes(exitVotes);
-        return ResponseEntity.ok(VoteDto.of(project, targetUserId));
-      } else {
-        // 퇴출 실패 알림
-        exitVoteService.sendExitVoteFailAlarm(exitVotes);
-      }
-      exitVoteService.deleteAllVotes(exitVotes);
+    // 투표 제출 (모든 팀원이 투표를 마친 경우 결과 처리까지 한 번만 수행)
+    boolean isTargetUserExit = exitVoteService.submitExitVote(myVote, vote);
+    if (isTargetUserExit) {
+      return ResponseEntity.ok(VoteDto.of(project, targetUserId));
     }
     return ResponseEntity.ok(null);
   }
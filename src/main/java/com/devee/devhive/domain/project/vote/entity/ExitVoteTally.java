@@ -0,0 +1,55 @@
+package com.devee.devhive.domain.project.vote.entity;
+
+import com.devee.devhive.domain.project.entity.Project;
+import com.devee.devhive.domain.user.entity.User;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트 퇴출 투표 집계 (프로젝트당 진행중인 투표 1개)
+ * 투표 제출마다 원자적으로 증가시키고, finalized 조건부 업데이트로 결과 처리를 한 번만 수행한다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExitVoteTally {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "project_id", unique = true)
+  private Project project;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "target_user_id")
+  private User targetUser;
+
+  private int totalCount;
+  private int votedCount;
+  private int acceptCount;
+
+  private boolean finalized;
+
+  // 투표 마감 시각 (생성 후 24시간)
+  private Instant deadline;
+
+  // 과반수(반올림) 이상 찬성 시 퇴출
+  public boolean isTargetUserExit() {
+    return Math.round(totalCount / 2.0) <= acceptCount;
+  }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.TableGenerator;
 import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,7 +27,9 @@ import lombok.Setter;
 public class ProjectMemberExitVote {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "project_member_exit_vote_id")
+  @TableGenerator(name = "project_member_exit_vote_id", table = "id_generator", pkColumnName = "sequence_name",
+      valueColumnName = "next_val", pkColumnValue = "project_member_exit_vote", allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,58 @@
+package com.devee.devhive.domain.project.vote.repository;
+
+import com.devee.devhive.domain.project.vote.entity.ExitVoteTally;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExitVoteTallyRepository extends JpaRepository<ExitVoteTally, Long> {
+
+  Optional<ExitVoteTally> findByProjectId(Long projectId);
+
+  List<ExitVoteTally> findAllByFinalizedFalse();
+
+  boolean existsByProjectId(Long projectId);
+
+  @Query("SELECT t.id FROM ExitVoteTally t WHERE t.project.id = :projectId")
+  Optional<Long> findIdByProjectId(@Param("projectId") Long projectId);
+
+  // 집계가 없을 때만 생성 (project_id 유니크 키로 동시 생성 시 하나만 반영, 생성된 행 수 반환)
+  @Modifying
+  @Query(value = "INSERT INTO exit_vote_tally "
+      + "(project_id, target_user_id, total_count, voted_count, accept_count, finalized, deadline) "
+      + "VALUES (:projectId, :targetUserId, :totalCount, :votedCount, :acceptCount, false, :deadline) "
+      + "ON DUPLICATE KEY UPDATE project_id = project_id",
+      nativeQuery = true)
+  int insertIfAbsent(@Param("projectId") Long projectId, @Param("targetUserId") Long targetUserId,
+      @Param("totalCount") int totalCount, @Param("votedCount") int votedCount,
+      @Param("acceptCount") int acceptCount, @Param("deadline") Instant deadline);
+
+  @Modifying
+  @Query("UPDATE ExitVoteTally t SET t.votedCount = t.votedCount + 1, "
+      + "t.acceptCount = t.acceptCount + :accept "
+      + "WHERE t.project.id = :projectId AND t.finalized = false")
+  int addVote(@Param("projectId") Long projectId, @Param("accept") int accept);
+
+  // 모든 팀원이 투표한 경우에만 마감, 1 을 받은 요청만 결과를 처리한다
+  @Modifying
+  @Query("UPDATE ExitVoteTally t SET t.finalized = true "
+      + "WHERE t.project.id = :projectId AND t.finalized = false AND t.votedCount >= t.totalCount")
+  int finalizeIfAllVoted(@Param("projectId") Long projectId);
+
+  // 기한 만료 마감
+  @Modifying
+  @Query("UPDATE ExitVoteTally t SET t.finalized = true "
+      + "WHERE t.project.id = :projectId AND t.finalized = false")
+  int close(@Param("projectId") Long projectId);
+
+  @Modifying
+  @Query("DELETE FROM ExitVoteTally t WHERE t.project.id IN :projectIds")
+  void deleteAllByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+}
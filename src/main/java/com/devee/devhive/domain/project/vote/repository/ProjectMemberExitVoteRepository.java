@@ -5,6 +5,9 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,4 +19,10 @@ public interface ProjectMemberExitVoteRepository extends JpaRepository<ProjectMe
   Optional<ProjectMemberExitVote> findByProjectIdAndVoterUserIdAndTargetUserId(Long projectId, Long voterUserId, Long targetUserId);
 
   List<ProjectMemberExitVote> findAllByCreatedDateBefore(Instant createdDate);
+
+  // 아직 투표하지 않은 경우에만 제출 처리 (동시 중복 제출 방지)
+  @Modifying
+  @Query("UPDATE ProjectMemberExitVote v SET v.isVoted = true, v.isAccept = :accept "
+      + "WHERE v.id = :voteId AND v.isVoted = false")
+  int markVoted(@Param("voteId") Long voteId, @Param("accept") boolean accept);
 }
@@ -0,0 +1,56 @@
+package com.devee.devhive.domain.project.vote.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 퇴출 투표 마감 지연 큐
+ * Redis sorted set(vote:deadline) 에 member = 투표 집계 id, score = 마감 시각(ms) 으로 저장하고
+ * 마감 시각이 지난 것만 꺼내서 처리한다. (전체 투표 테이블 스캔 없이 마감 처리하기 위함)
+ * 꺼낼 때 바로 삭제하지 않고 score 를 lease 만료 시각으로 미뤄두기 때문에
+ * 처리 도중 서버가 내려가도 lease 가 지나면 다시 꺼내서 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExitVoteDeadlineQueue {
+
+  private static final String KEY = "vote:deadline";
+
+  // 마감된 항목을 limit 개까지 꺼내고 lease 만료 시각으로 score 갱신 (여러 서버가 동시에 꺼내도 중복 없음)
+  private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+      "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) "
+          + "for _, member in ipairs(due) do "
+          + "  redis.call('ZADD', KEYS[1], ARGV[3], member) "
+          + "end "
+          + "return due", List.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  @Value("${vote.expiry.lease-seconds:30}")
+  private long leaseSeconds;
+
+  public void schedule(Long tallyId, Instant deadline) {
+    redisTemplate.opsForZSet().add(KEY, String.valueOf(tallyId), deadline.toEpochMilli());
+  }
+
+  public List<Long> claimDue(Instant now, int limit) {
+    long leaseUntil = now.plus(Duration.ofSeconds(leaseSeconds)).toEpochMilli();
+    List<?> due = redisTemplate.execute(CLAIM_SCRIPT, List.of(KEY),
+        String.valueOf(now.toEpochMilli()), String.valueOf(limit), String.valueOf(leaseUntil));
+    if (due == null) {
+      return List.of();
+    }
+    return due.stream().map(member -> Long.valueOf(member.toString())).toList();
+  }
+
+  public void remove(Long tallyId) {
+    redisTemplate.opsForZSet().remove(KEY, String.valueOf(tallyId));
+  }
+}
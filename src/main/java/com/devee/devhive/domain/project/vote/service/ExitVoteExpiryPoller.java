@@ -0,0 +1,54 @@
+package com.devee.devhive.domain.project.vote.service;
+
+import com.devee.devhive.domain.project.vote.repository.ExitVoteTallyRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지연 큐에서 마감 시각이 지난 퇴출 투표를 꺼내 batch-size 개씩 마감 처리
+ * 처리에 실패한 투표는 큐에 남아 lease 가 지나면 다시 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExitVoteExpiryPoller {
+
+  private final ExitVoteDeadlineQueue deadlineQueue;
+  private final ExitVoteService exitVoteService;
+  private final ExitVoteTallyRepository exitVoteTallyRepository;
+
+  @Value("${vote.expiry.batch-size:50}")
+  private int batchSize;
+
+  @Scheduled(fixedDelayString = "${vote.expiry.poll-interval-ms:1000}")
+  public void expireDueVotes() {
+    List<Long> dueTallyIds;
+    do {
+      dueTallyIds = deadlineQueue.claimDue(Instant.now(), batchSize);
+      for (Long tallyId : dueTallyIds) {
+        try {
+          exitVoteService.expireVote(tallyId);
+          deadlineQueue.remove(tallyId);
+        } catch (Exception e) {
+          log.warn("퇴출 투표 마감 처리 실패 tallyId={}, error: {}", tallyId, e.getMessage());
+        }
+      }
+    } while (dueTallyIds.size() == batchSize);
+  }
+
+  // Redis 데이터 유실에 대비해 서버 시작 시 진행중인 투표의 마감 시각 다시 등록
+  @EventListener(ApplicationReadyEvent.class)
+  public void rescheduleOpenVotes() {
+    exitVoteTallyRepository.findAllByFinalizedFalse().stream()
+        .filter(tally -> Objects.nonNull(tally.getDeadline()))
+        .forEach(tally -> deadlineQueue.schedule(tally.getId(), tally.getDeadline()));
+  }
+}
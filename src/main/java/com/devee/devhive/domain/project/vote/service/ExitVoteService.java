@@ -6,7 +6,9 @@ import static com.devee.devhive.global.exception.ErrorCode.NOT_FOUND_VOTE;
 
 import com.devee.devhive.domain.project.entity.Project;
 import com.devee.devhive.domain.project.member.entity.ProjectMember;
+import com.devee.devhive.domain.project.vote.entity.ExitVoteTally;
 import com.devee.devhive.domain.project.vote.entity.ProjectMemberExitVote;
+import com.devee.devhive.domain.project.vote.repository.ExitVoteTallyRepository;
 import com.devee.devhive.domain.project.vote.repository.ProjectMemberExitVoteRepository;
 import com.devee.devhive.domain.user.alarm.entity.form.AlarmForm;
 import com.devee.devhive.domain.user.entity.User;
@@ -15,8 +17,11 @@ import com.devee.devhive.global.exception.CustomException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -30,6 +35,8 @@ public class ExitVoteService {
 
   private final ApplicationEventPublisher eventPublisher;
   private final ProjectMemberExitVoteRepository exitVoteRepository;
+  private final ExitVoteTallyRepository exitVoteTallyRepository;
+  private final ExitVoteDeadlineQueue deadlineQueue;
 
   public ProjectMemberExitVote findById(Long projectMemberExitVoteId) {
     return exitVoteRepository.findById(projectMemberExitVoteId)
@@ -66,6 +73,19 @@ public class ExitVoteService {
     }
 
     exitVoteRepository.saveAll(exitVoteList);
+    // 투표 집계 생성 (project_id 유니크 키로 동시 생성 방지)
+    ExitVoteTally tally = ExitVoteTally.builder()
+        .project(project)
+        .targetUser(targetUser)
+        .totalCount(exitVoteList.size())
+        .votedCount((int) exitVoteList.stream().filter(ProjectMemberExitVote::isVoted).count())
+        .acceptCount((int) exitVoteList.stream().filter(ProjectMemberExitVote::isAccept).count())
+        .finalized(false)
+        .deadline(currentTime.plus(1, ChronoUnit.DAYS))
+        .build();
+    exitVoteTallyRepository.save(tally);
+    // 마감 시각 등록 (롤백되어 집계가 없으면 꺼낼 때 무시됨)
+    deadlineQueue.schedule(tally.getId(), tally.getDeadline());
 
     // 팀원(퇴출 대상자와 등록자 제외한)들에게 퇴출 투표 생성 알림 이벤트 발행
     for (ProjectMember projectMember : members) {
@@ -77,42 +97,111 @@ public class ExitVoteService {
     }
   }
 
-  // 투표 제출 및 결과 저장
-  public void submitExitVote(ProjectMemberExitVote myVote, boolean vote) {
+  // 투표 제출 및 집계, 이번 제출로 모든 팀원이 투표를 마친 경우 결과 처리
+  // 동시에 마지막 투표가 들어와도 결과 처리는 한 요청에서만 수행, 퇴출 확정 시 true
+  @Transactional
+  public boolean submitExitVote(ProjectMemberExitVote myVote, boolean vote) {
     if (myVote.isVoted()) {
       throw new CustomException(ALREADY_SUBMIT_VOTE);
     }
-
+    Long projectId = myVote.getProject().getId();
+    createTallyIfAbsent(projectId);
+    if (exitVoteRepository.markVoted(myVote.getId(), vote) == 0) {
+      throw new CustomException(ALREADY_SUBMIT_VOTE);
+    }
     myVote.setVoted(true);
     myVote.setAccept(vote);
-    exitVoteRepository.save(myVote);
+
+    exitVoteTallyRepository.addVote(projectId, vote ? 1 : 0);
+    if (exitVoteTallyRepository.finalizeIfAllVoted(projectId) == 0) {
+      return false;
+    }
+
+    ExitVoteTally tally = exitVoteTallyRepository.findByProjectId(projectId)
+        .orElseThrow(() -> new CustomException(NOT_FOUND_VOTE));
+    List<ProjectMemberExitVote> exitVotes = findByProjectId(projectId);
+    boolean isTargetUserExit = tally.isTargetUserExit();
+    if (!isTargetUserExit) {
+      // 퇴출 실패 알림
+      sendExitVoteFailAlarm(exitVotes);
+    }
+    deleteAllVotes(exitVotes);
+    deadlineQueue.remove(tally.getId());
+    return isTargetUserExit;
   }
 
-  public int countVotedMembers(List<ProjectMemberExitVote> projectMemberExitVotes) {
-    return (int) projectMemberExitVotes.stream().filter(ProjectMemberExitVote::isVoted).count();
+  // 집계 도입 이전에 열린 투표는 처음 제출될 때 투표 목록으로 집계 생성 (이번 제출은 이후 addVote 로 반영)
+  // 이후 조회에서 오래된 집계를 읽지 않도록 엔티티는 불러오지 않는다
+  private void createTallyIfAbsent(Long projectId) {
+    if (exitVoteTallyRepository.existsByProjectId(projectId)) {
+      return;
+    }
+    List<ProjectMemberExitVote> exitVotes = findByProjectId(projectId);
+    if (exitVotes.isEmpty()) {
+      return;
+    }
+    Instant openedAt = exitVotes.stream()
+        .map(ProjectMemberExitVote::getCreatedDate)
+        .min(Comparator.naturalOrder())
+        .orElseThrow();
+    Instant deadline = openedAt.plus(1, ChronoUnit.DAYS);
+    int created = exitVoteTallyRepository.insertIfAbsent(projectId,
+        exitVotes.get(0).getTargetUser().getId(),
+        exitVotes.size(),
+        (int) exitVotes.stream().filter(ProjectMemberExitVote::isVoted).count(),
+        (int) exitVotes.stream().filter(ProjectMemberExitVote::isAccept).count(),
+        deadline);
+    if (created > 0) {
+      exitVoteTallyRepository.findIdByProjectId(projectId)
+          .ifPresent(tallyId -> deadlineQueue.schedule(tallyId, deadline));
+    }
   }
 
-  public boolean resultTargetUserExit(List<ProjectMemberExitVote> exitVotes) {
-    long agreedCount = exitVotes.stream().filter(ProjectMemberExitVote::isAccept).count();
-    int totalVotes = exitVotes.size();
+  // 마감 시각이 지난 투표 마감 처리 (지연 큐 poller 에서 호출)
+  // 이미 마지막 투표로 결과 처리되었거나 삭제된 투표면 아무것도 하지 않음
+  @Transactional
+  public void expireVote(Long tallyId) {
+    ExitVoteTally tally = exitVoteTallyRepository.findById(tallyId).orElse(null);
+    if (tally == null || exitVoteTallyRepository.close(tally.getProject().getId()) == 0) {
+      return;
+    }
+    List<ProjectMemberExitVote> exitVotes = findByProjectId(tally.getProject().getId());
+
+    // 퇴출 실패 알림 이벤트 발행
+    sendExitVoteFailAlarm(exitVotes);
 
-    return Math.round(totalVotes / 2.0) <= agreedCount;
+    deleteAllVotes(exitVotes);
   }
 
-  // 열린지 24시간이 지난 투표 삭제 처리
+  // 열린지 24시간이 지난 투표 삭제 처리 (지연 큐 유실 시 보정용 배치), 마감된 투표 수 반환
   @Transactional
-  public void processVotes() {
-    List<ProjectMemberExitVote> closedVotes = exitVoteRepository.findAllByCreatedDateBefore(
-        Instant.now().minus(1, ChronoUnit.DAYS));
+  public int processVotes() {
+    Map<Long, List<ProjectMemberExitVote>> expiredVotesByProjectId =
+        exitVoteRepository.findAllByCreatedDateBefore(Instant.now().minus(1, ChronoUnit.DAYS))
+            .stream()
+            .collect(Collectors.groupingBy(exitVote -> exitVote.getProject().getId()));
+
+    List<ProjectMemberExitVote> closedVotes = new ArrayList<>();
+    expiredVotesByProjectId.forEach((projectId, exitVotes) -> {
+      // 마지막 투표 제출로 이미 마감된 투표 제외 (집계가 없는 이전 투표는 그대로 마감)
+      if (exitVoteTallyRepository.close(projectId) > 0
+          || exitVoteTallyRepository.findByProjectId(projectId).isEmpty()) {
+        closedVotes.addAll(exitVotes);
+      }
+    });
 
     // 퇴출 실패 알림 이벤트 발행
     sendExitVoteFailAlarm(closedVotes);
 
     deleteAllVotes(closedVotes);
+    return closedVotes.size();
   }
 
   public void deleteAllVotes(List<ProjectMemberExitVote> exitVotes) {
     exitVoteRepository.deleteAll(exitVotes);
+    exitVoteTallyRepository.deleteAllByProjectIds(exitVotes.stream()
+        .map(exitVote -> exitVote.getProject().getId())
+        .collect(Collectors.toSet()));
   }
 
   @Transactional
@@ -1,11 +1,23 @@
 package com.devee.devhive.domain.user.badge.repository;
 
 import com.devee.devhive.domain.user.badge.entity.UserBadge;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserBadgeRepository extends JpaRepository<UserBadge, Long> {
     List<UserBadge> findAllByUserId(Long userId);
+
+    long countByUserIdAndBadgeIdIn(Long userId, Collection<Long> badgeIds);
+
+    // 없는 뱃지만 0점으로 생성 (user_id, badge_id 유니크 키로 중복 생성 방지)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_badge (user_id, badge_id, total_score, created_date) "
+        + "SELECT :userId, b.id, 0, NOW() FROM badge b", nativeQuery = true)
+    int insertMissingBadges(@Param("userId") Long userId);
 }
@@ -0,0 +1,9 @@
+package com.devee.devhive.domain.user.badge.repository.custom;
+
+import java.util.Map;
+
+public interface CustomUserBadgeRepository {
+
+  // 유저 뱃지 점수를 뱃지별로 한 번의 UPDATE 로 증가, 변경된 행 수 반환
+  long addScores(Long userId, Map<Long, Integer> badgePoints);
+}
@@ -0,0 +1,48 @@
+package com.devee.devhive.domain.user.badge.repository.impl;
+
+import com.devee.devhive.domain.user.badge.entity.QUserBadge;
+import com.devee.devhive.domain.user.badge.repository.custom.CustomUserBadgeRepository;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.CaseBuilder.Cases;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CustomUserBadgeRepositoryImpl implements CustomUserBadgeRepository {
+
+  private final JPAQueryFactory queryFactory;
+
+  public CustomUserBadgeRepositoryImpl(JPAQueryFactory queryFactory) {
+    this.queryFactory = queryFactory;
+  }
+
+  // UPDATE user_badge SET total_score = CASE WHEN badge_id = ? THEN total_score + ? ... END
+  // WHERE user_id = ? AND badge_id IN (...)
+  @Override
+  public long addScores(Long userId, Map<Long, Integer> badgePoints) {
+    if (badgePoints.isEmpty()) {
+      return 0;
+    }
+    QUserBadge qUserBadge = QUserBadge.userBadge;
+
+    Iterator<Entry<Long, Integer>> iterator = badgePoints.entrySet().iterator();
+    Entry<Long, Integer> first = iterator.next();
+    Cases<Integer, NumberExpression<Integer>> cases = new CaseBuilder()
+        .when(qUserBadge.badge.id.eq(first.getKey()))
+        .then(qUserBadge.totalScore.add(first.getValue()));
+    while (iterator.hasNext()) {
+      Entry<Long, Integer> entry = iterator.next();
+      cases = cases.when(qUserBadge.badge.id.eq(entry.getKey()))
+          .then(qUserBadge.totalScore.add(entry.getValue()));
+    }
+
+    return queryFactory.update(qUserBadge)
+        .set(qUserBadge.totalScore, cases.otherwise(qUserBadge.totalScore))
+        .where(qUserBadge.user.id.eq(userId), qUserBadge.badge.id.in(badgePoints.keySet()))
+        .execute();
+  }
+}
@@ -6,17 +6,20 @@ import com.devee.devhive.domain.project.review.evaluation.entity.Evaluation;
 import com.devee.devhive.domain.user.badge.entity.UserBadge;
 import com.devee.devhive.domain.user.entity.User;
 import com.devee.devhive.domain.user.badge.repository.UserBadgeRepository;
+import com.devee.devhive.domain.user.badge.repository.custom.CustomUserBadgeRepository;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class UserBadgeService {
 
     private final UserBadgeRepository userBadgeRepository;
+    private final CustomUserBadgeRepository customUserBadgeRepository;
     private final BadgeService badgeService;
 
     public List<UserBadge> getUserBadges(Long userId) {
@@ -36,27 +39,26 @@ public class UserBadgeService {
         return userBadgeRepository.saveAll(userBadges);
     }
 
+    // 평가 항목별 점수를 읽지 않고 한 번의 UPDATE 로 증가 (팀원들이 동시에 리뷰해도 갱신 유실 없음)
+    @Transactional
     public void updatePoint(User user, List<Evaluation> evaluationList) {
-        List<UserBadge> userBadges = getUserBadges(user.getId());
-        // 유저의 첫 리뷰인 경우 유저뱃지 생성
-        if (userBadges.isEmpty()) {
-            userBadges = create(user);
-        }
-
         // 맵 <평가 항목(뱃지아이디), 점수>
         Map<Long, Integer> badgePointsMap = evaluationList.stream()
             .collect(Collectors.toMap(
-                evaluation -> evaluation.getBadge().getId(), Evaluation::getPoint
+                evaluation -> evaluation.getBadge().getId(), Evaluation::getPoint, Integer::sum
             ));
+        if (badgePointsMap.isEmpty()) {
+            return;
+        }
+
+        // 유저의 첫 리뷰이거나 새 뱃지가 추가된 경우 없는 유저뱃지를 먼저 생성
+        // (유니크 키로 중복 생성되지 않으므로 동시에 실행돼도 안전)
+        if (userBadgeRepository.countByUserIdAndBadgeIdIn(user.getId(), badgePointsMap.keySet())
+            < badgePointsMap.size()) {
+            userBadgeRepository.insertMissingBadges(user.getId());
+        }
+
         // 유저 뱃지 점수 업데이트
-        userBadges.forEach(userBadge -> {
-            Long badgeId = userBadge.getBadge().getId();
-            badgePointsMap.computeIfPresent(badgeId, (key, value) -> {
-                userBadge.setTotalScore(userBadge.getTotalScore() + value);
-                return userBadge.getTotalScore();
-            });
-        });
-
-        userBadgeRepository.saveAll(userBadges);
+        customUserBadgeRepository.addScores(user.getId(), badgePointsMap);
     }
 }
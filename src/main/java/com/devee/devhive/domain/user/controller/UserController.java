@@ -13,6 +13,10 @@ import com.devee.devhive.domain.user.service.UserService;
 import com.devee.devhive.domain.user.type.ProviderType;
 import com.devee.devhive.global.entity.PrincipalDetails;
 import com.devee.devhive.global.exception.CustomException;
+import com.devee.devhive.global.s3.S3Service;
+import com.devee.devhive.global.s3.dto.PresignedUploadDto;
+import com.devee.devhive.global.s3.dto.PresignedUploadRequest;
+import com.devee.devhive.global.s3.dto.UploadConfirmRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -25,6 +29,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -43,6 +48,7 @@ public class UserController {
 
   private final UserService userService;
   private final FavoriteService favoriteService;
+  private final S3Service s3Service;
 
   /**
    * 다른 유저 기본 정보 조회
@@ -115,6 +121,29 @@ public class UserController {
     userService.updateProfileImage(multipartFile, user);
   }
 
+  // 내 프로필 사진을 S3 에 직접 올릴 url 발급
+  @PostMapping("/my-profile/image/presigned")
+  @Operation(summary = "내 프로필 사진 업로드 URL 발급")
+  public PresignedUploadDto createProfileImageUpload(
+      @RequestBody @Valid PresignedUploadRequest request,
+      @AuthenticationPrincipal PrincipalDetails principal
+  ) {
+    return s3Service.createPresignedUpload(principal.getEmail(), request);
+  }
+
+  // 직접 올린 프로필 사진 확인 후 수정
+  @PutMapping("/my-profile/image/confirm")
+  @Operation(summary = "내 프로필 사진 업로드 확인 및 수정")
+  public void confirmProfileImage(
+      @RequestBody @Valid UploadConfirmRequest request,
+      @AuthenticationPrincipal PrincipalDetails principal
+  ) {
+    // S3 확인/복사는 DB 트랜잭션 밖에서 먼저 수행 (실패하면 기존 사진 유지)
+    String image = s3Service.confirmUpload(principal.getEmail(), request.getObjectKey());
+    User user = userService.getUserByEmail(principal.getEmail());
+    userService.changeProfileImage(image, user);
+  }
+
   // 내 프로필 사진 삭제
   @DeleteMapping("/my-profile/image")
   @Operation(summary = "내 프로필 사진 삭제")
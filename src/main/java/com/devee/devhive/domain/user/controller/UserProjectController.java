@@ -16,6 +16,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -82,14 +83,14 @@ public class UserProjectController {
         User user = userService.getUserByEmail(principal.getEmail());
         Long userId = user.getId();
         Project project = projectService.findById(projectId);
-        int memberCount = projectMemberService.getProjectMemberByProjectId(projectId).size();
-        Double totalAverageScore = projectReviewService.getAverageTotalScoreByTargetUserAndProject(userId, projectId, memberCount);
+        Double totalAverageScore = projectReviewService.getAverageTotalScoreByTargetUserAndProject(userId, projectId);
+        // 내가 리뷰한 팀원 목록을 한 번에 조회
+        Set<Long> reviewedUserIds = projectReviewService.getReviewedTargetUserIds(projectId, userId);
         List<ProjectMemberDto> projectMemberDtoList =
             projectMemberService.getProjectMemberByProjectId(projectId).stream()
-                .map(projectMember -> {
-                    boolean isReviewed = projectReviewService.isReviewed(projectId, userId, projectMember.getUser().getId());
-                    return ProjectMemberDto.of(projectMember, isReviewed);
-                }).toList();
+                .map(projectMember -> ProjectMemberDto.of(projectMember,
+                    reviewedUserIds.contains(projectMember.getUser().getId())))
+                .toList();
 
         boolean leader = Objects.equals(project.getUser().getId(), userId);
         ProjectChatRoom chatRoom = chatRoomService.findByProjectId(projectId);
@@ -0,0 +1,37 @@
+package com.devee.devhive.domain.user.counter.entity;
+
+import com.devee.devhive.domain.user.entity.User;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저 프로필 카운터 (완료한 프로젝트 수 = 벌집레벨, 퇴출 횟수)
+ * User 엔티티 저장 시 덮어쓰지 않도록 별도 테이블에서 원자적으로 증가시킨다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+public class UserCounter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", unique = true)
+    private User user;
+
+    private int completedProjectCount;
+
+    private int exitCount;
+}
@@ -0,0 +1,69 @@
+package com.devee.devhive.domain.user.counter.repository;
+
+import com.devee.devhive.domain.user.counter.entity.UserCounter;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserCounterRepository extends JpaRepository<UserCounter, Long> {
+
+  Optional<UserCounter> findByUserId(Long userId);
+
+  // 프로젝트 멤버 전원의 완료 프로젝트 수 증감
+  // 카운터 행이 없는 유저(카운터 도입 이전 유저)는 원본 테이블 기준 값으로 생성
+  @Modifying
+  @Query(value = "INSERT INTO user_counter (user_id, completed_project_count, exit_count) "
+      + "SELECT pm.user_id, "
+      + "(SELECT COUNT(*) FROM project_member m JOIN project p ON p.id = m.project_id "
+      + "WHERE m.user_id = pm.user_id AND p.status = 'COMPLETE'), "
+      + "(SELECT COUNT(*) FROM exit_history e WHERE e.user_id = pm.user_id) "
+      + "FROM project_member pm WHERE pm.project_id = :projectId "
+      + "ON DUPLICATE KEY UPDATE "
+      + "completed_project_count = GREATEST(completed_project_count + :delta, 0)",
+      nativeQuery = true)
+  int addCompletedProjectCountOfMembers(@Param("projectId") Long projectId, @Param("delta") int delta);
+
+  // 카운터 행이 없으면 기존 퇴출 전적 + 1 로 생성
+  @Modifying
+  @Query(value = "INSERT INTO user_counter (user_id, completed_project_count, exit_count) "
+      + "SELECT u.id, "
+      + "(SELECT COUNT(*) FROM project_member pm JOIN project p ON p.id = pm.project_id "
+      + "WHERE pm.user_id = u.id AND p.status = 'COMPLETE'), "
+      + "(SELECT COUNT(*) FROM exit_history e WHERE e.user_id = u.id) + 1 "
+      + "FROM `user` u WHERE u.id = :userId "
+      + "ON DUPLICATE KEY UPDATE exit_count = exit_count + 1",
+      nativeQuery = true)
+  void increaseExitCount(@Param("userId") Long userId);
+
+  // 증가 직후 같은 트랜잭션에서 최신 값을 읽기 위해 1차 캐시를 거치지 않는 조회
+  @Query(value = "SELECT exit_count FROM user_counter WHERE user_id = :userId", nativeQuery = true)
+  int findExitCountByUserId(@Param("userId") Long userId);
+
+  // 카운터 행이 없는 유저의 원본 테이블 기준 값
+  @Query(value = "SELECT COUNT(*) FROM project_member pm JOIN project p ON p.id = pm.project_id "
+      + "WHERE pm.user_id = :userId AND p.status = 'COMPLETE'", nativeQuery = true)
+  int countCompletedProjectsByUserId(@Param("userId") Long userId);
+
+  @Query(value = "SELECT COUNT(*) FROM exit_history e WHERE e.user_id = :userId", nativeQuery = true)
+  int countExitHistoryByUserId(@Param("userId") Long userId);
+
+  @Query(value = "SELECT COALESCE(MAX(id), 0) FROM `user`", nativeQuery = true)
+  long findMaxUserId();
+
+  // user id 구간별 원본 테이블 기준 재계산 (변경된 행 수 반환)
+  @Modifying
+  @Query(value = "INSERT INTO user_counter (user_id, completed_project_count, exit_count) "
+      + "SELECT u.id, "
+      + "(SELECT COUNT(*) FROM project_member pm JOIN project p ON p.id = pm.project_id "
+      + "WHERE pm.user_id = u.id AND p.status = 'COMPLETE'), "
+      + "(SELECT COUNT(*) FROM exit_history e WHERE e.user_id = u.id) "
+      + "FROM `user` u WHERE u.id > :fromUserId AND u.id <= :toUserId "
+      + "ON DUPLICATE KEY UPDATE "
+      + "completed_project_count = VALUES(completed_project_count), exit_count = VALUES(exit_count)",
+      nativeQuery = true)
+  int reconcile(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+}
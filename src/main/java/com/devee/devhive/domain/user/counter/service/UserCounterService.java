@@ -0,0 +1,57 @@
+package com.devee.devhive.domain.user.counter.service;
+
+import com.devee.devhive.domain.user.counter.entity.UserCounter;
+import com.devee.devhive.domain.user.counter.repository.UserCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 벌집레벨(완료 프로젝트 수), 퇴출 횟수 카운터
+ * 카운터가 어긋난 경우 userCounterReconcileJob 배치가 원본 테이블 기준으로 보정한다.
+ * 카운터 행이 아직 없는 유저(카운터 도입 이전 유저)는 원본 테이블로 계산하고,
+ * 처음 증가할 때 원본 테이블 기준 값으로 행을 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserCounterService {
+
+  private final UserCounterRepository userCounterRepository;
+
+  // 유저가 참여한 완료된 프로젝트 갯수 (벌집레벨)
+  public int getCompletedProjectCount(Long userId) {
+    return userCounterRepository.findByUserId(userId)
+        .map(UserCounter::getCompletedProjectCount)
+        .orElseGet(() -> userCounterRepository.countCompletedProjectsByUserId(userId));
+  }
+
+  // 유저 퇴출 횟수
+  public int getExitCount(Long userId) {
+    return userCounterRepository.findByUserId(userId)
+        .map(UserCounter::getExitCount)
+        .orElseGet(() -> userCounterRepository.countExitHistoryByUserId(userId));
+  }
+
+  // 프로젝트가 완료 상태가 되면 멤버 전원 +1, 완료 상태에서 벗어나면 -1
+  @Transactional
+  public void addCompletedProjectCountOfMembers(Long projectId, int delta) {
+    userCounterRepository.addCompletedProjectCountOfMembers(projectId, delta);
+  }
+
+  // 퇴출 횟수 증가 후 증가된 횟수 반환
+  @Transactional
+  public int increaseExitCount(Long userId) {
+    userCounterRepository.increaseExitCount(userId);
+    return userCounterRepository.findExitCountByUserId(userId);
+  }
+
+  public long getMaxUserId() {
+    return userCounterRepository.findMaxUserId();
+  }
+
+  // (fromUserId, toUserId] 구간 카운터 재계산
+  @Transactional
+  public int reconcile(Long fromUserId, Long toUserId) {
+    return userCounterRepository.reconcile(fromUserId, toUserId);
+  }
+}
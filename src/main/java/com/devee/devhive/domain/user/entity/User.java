@@ -14,20 +14,25 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.LastModifiedDate;
 
 @Entity
+@DynamicUpdate
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_user_status", columnList = "status"))
 public class User extends BaseEntity {
 
   @Id
@@ -62,12 +67,6 @@ public class User extends BaseEntity {
   @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
   private LocalDateTime modifiedDate;
 
-  private String refreshToken;
-
   @Enumerated(EnumType.STRING)
   private ProviderType providerType;
-
-  public void updateRefreshToken(String updateRefreshToken) {
-    this.refreshToken = updateRefreshToken;
-  }
 }
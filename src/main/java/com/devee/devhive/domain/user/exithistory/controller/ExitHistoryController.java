@@ -1,14 +1,11 @@
 package com.devee.devhive.domain.user.exithistory.controller;
 
 import com.devee.devhive.domain.user.entity.User;
-import com.devee.devhive.domain.user.exithistory.entity.ExitHistory;
 import com.devee.devhive.domain.user.exithistory.service.ExitHistoryService;
 import com.devee.devhive.domain.user.service.UserService;
 import com.devee.devhive.domain.user.type.ActivityStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -34,16 +31,8 @@ public class ExitHistoryController {
   @PostMapping("/api/users/{userId}/exit-process")
   public void userExit(@PathVariable("userId") Long userId) {
     User user = userService.getUserById(userId);
-    // 타겟 유저 퇴출전적
-    int exitedCount = exitHistoryService.countExitHistoryByUserId(userId);
-    // 퇴출 횟수 당 1주로 유저 비활성화 기간 설정(이번이 10회째인 경우 영구 비활성화)
-    LocalDateTime reActiveDate = exitedCount < 9 ?
-        LocalDateTime.now().plus(exitedCount + 1, ChronoUnit.WEEKS) : LocalDateTime.MAX;
-
-    exitHistoryService.saveExitHistory(ExitHistory.builder()
-        .user(user)
-        .reActiveDate(reActiveDate)
-        .build());
+    // 퇴출 횟수 증가, 퇴출 전적 저장
+    exitHistoryService.recordExit(user);
     userService.setUserStatus(user, ActivityStatus.INACTIVITY);
   }
 }
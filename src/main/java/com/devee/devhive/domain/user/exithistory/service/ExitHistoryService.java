@@ -1,29 +1,39 @@
 package com.devee.devhive.domain.user.exithistory.service;
 
+import com.devee.devhive.domain.user.counter.service.UserCounterService;
+import com.devee.devhive.domain.user.entity.User;
 import com.devee.devhive.domain.user.exithistory.entity.ExitHistory;
 import com.devee.devhive.domain.user.exithistory.repository.ExitHistoryRepository;
-import com.devee.devhive.domain.user.exithistory.repository.impl.CustomExitHistoryRepositoryImpl;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class ExitHistoryService {
 
   private final ExitHistoryRepository exitHistoryRepository;
-  private final CustomExitHistoryRepositoryImpl customExitHistoryRepository;
+  private final UserCounterService userCounterService;
 
-  // 퇴출 전적
+  // 퇴출 전적 (카운터 기준)
   public int countExitHistoryByUserId(Long userId) {
-    return exitHistoryRepository.countExitHistoryByUserId(userId);
+    return userCounterService.getExitCount(userId);
   }
 
-  public void saveExitHistory(ExitHistory exitHistory) {
-    exitHistoryRepository.save(exitHistory);
-  }
+  // 퇴출 횟수 증가 후 퇴출 전적 저장
+  @Transactional
+  public ExitHistory recordExit(User user) {
+    // 이번 퇴출 이전의 퇴출 전적
+    int exitedCount = userCounterService.increaseExitCount(user.getId()) - 1;
+    // 퇴출 횟수 당 1주로 유저 비활성화 기간 설정(이번이 10회째인 경우 영구 비활성화)
+    LocalDateTime reActiveDate = exitedCount < 9 ?
+        LocalDateTime.now().plus(exitedCount + 1, ChronoUnit.WEEKS) : LocalDateTime.MAX;
 
-  public List<Long> getReactivatingUsers() {
-    return customExitHistoryRepository.getReactivatingUsers();
+    return exitHistoryRepository.save(ExitHistory.builder()
+        .user(user)
+        .reActiveDate(reActiveDate)
+        .build());
   }
 }
@@ -1,11 +1,17 @@
 package com.devee.devhive.domain.user.repository;
 
 import com.devee.devhive.domain.user.entity.User;
+import com.devee.devhive.domain.user.type.ActivityStatus;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -16,7 +22,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
   Optional<User> findByEmail(String email);
 
-  Optional<User> findByRefreshToken(String refreshToken);
-
   Page<User> findAllByOrderByRankPointDesc(Pageable pageable);
+
+  // 리프레시 토큰 Redis 저장소 도입 이전 컬럼 (엔티티에서는 제거, ddl-auto update 로 컬럼은 남아있음)
+  // 이전 토큰 만료 기간(2주)이 지나면 컬럼과 함께 제거
+  @Query(value = "SELECT email FROM `user` WHERE refresh_token = :refreshToken", nativeQuery = true)
+  Optional<String> findEmailByLegacyRefreshToken(@Param("refreshToken") String refreshToken);
+
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE `user` SET refresh_token = NULL WHERE refresh_token = :refreshToken",
+      nativeQuery = true)
+  int clearLegacyRefreshToken(@Param("refreshToken") String refreshToken);
+
+  // 읽지 않고 DB 에서 바로 증가 (동시 리뷰 시 갱신 유실 방지)
+  @Modifying
+  @Query("UPDATE User u SET u.rankPoint = u.rankPoint + :point WHERE u.id = :userId")
+  int increaseRankPoint(@Param("userId") Long userId, @Param("point") double point);
+
+  // 비활성 유저 중 가장 마지막 재활성화 일자가 지난 유저 재활성화 (비활성 유저 수 만큼만 확인)
+  @Modifying
+  @Query("UPDATE User u SET u.status = :toStatus, u.modifiedDate = :now "
+      + "WHERE u.status = :fromStatus "
+      + "AND EXISTS (SELECT 1 FROM ExitHistory e WHERE e.user = u AND e.reActiveDate < :now) "
+      + "AND NOT EXISTS (SELECT 1 FROM ExitHistory e WHERE e.user = u AND e.reActiveDate >= :now)")
+  int reactivateUsers(@Param("fromStatus") ActivityStatus fromStatus,
+      @Param("toStatus") ActivityStatus toStatus, @Param("now") LocalDateTime now);
 }
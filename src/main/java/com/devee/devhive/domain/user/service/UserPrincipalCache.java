@@ -0,0 +1,76 @@
+package com.devee.devhive.domain.user.service;
+
+import com.devee.devhive.domain.user.entity.User;
+import com.devee.devhive.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인증된 유저 캐시 (email 기준)
+ * 요청마다 인증 필터와 컨트롤러에서 같은 유저를 DB 에서 다시 조회하지 않기 위해 사용하고,
+ * 유저 정보 변경 시 무효화한다. 다른 인스턴스에서 발생한 변경은 ttl 이 지나면 반영된다.
+ * 캐시된 객체를 여러 요청이 공유하지 않도록 항상 복사본을 반환한다. (수정은 UserService 에서 다시 조회 후 처리)
+ */
+@Component
+public class UserPrincipalCache {
+
+  private final UserRepository userRepository;
+  private final Cache<String, User> cache;
+
+  public UserPrincipalCache(UserRepository userRepository,
+      @Value("${user.principal-cache.ttl-seconds:30}") long ttlSeconds,
+      @Value("${user.principal-cache.max-size:10000}") long maxSize) {
+    this.userRepository = userRepository;
+    this.cache = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .maximumSize(maxSize)
+        .build();
+  }
+
+  public Optional<User> findByEmail(String email) {
+    User cached = cache.get(email, key -> userRepository.findByEmail(key)
+        .map(UserPrincipalCache::copyOf)
+        .orElse(null));
+    return Optional.ofNullable(cached).map(UserPrincipalCache::copyOf);
+  }
+
+  // 커밋 전에 지우면 다른 요청이 변경 전 값을 다시 캐시할 수 있어 커밋 후에도 한 번 더 삭제
+  public void evict(String email) {
+    cache.invalidate(email);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache.invalidate(email);
+        }
+      });
+    }
+  }
+
+  public void evictAll() {
+    cache.invalidateAll();
+  }
+
+  private static User copyOf(User user) {
+    return User.builder()
+        .id(user.getId())
+        .email(user.getEmail())
+        .password(user.getPassword())
+        .nickName(user.getNickName())
+        .region(user.getRegion())
+        .profileImage(user.getProfileImage())
+        .intro(user.getIntro())
+        .rankPoint(user.getRankPoint())
+        .status(user.getStatus())
+        .role(user.getRole())
+        .modifiedDate(user.getModifiedDate())
+        .providerType(user.getProviderType())
+        .build();
+  }
+}
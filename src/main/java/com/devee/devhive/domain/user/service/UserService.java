@@ -19,6 +19,9 @@ import com.devee.devhive.global.exception.CustomException;
 import com.devee.devhive.global.s3.S3Service;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -27,6 +30,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -34,6 +39,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class UserService {
 
   private final UserRepository userRepository;
+  private final UserPrincipalCache principalCache;
 
   private final S3Service s3Service;
   private final PasswordEncoder passwordEncoder;
@@ -44,8 +50,25 @@ public class UserService {
         .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
   }
 
+  // 조회 없이 연관관계 설정용 참조만 필요한 경우
+  public User getReferenceById(Long userId) {
+    return userRepository.getReferenceById(userId);
+  }
+
+  // 여러 유저를 한 번에 조회 (영속성 컨텍스트에 적재)
+  public List<User> getUsersByIds(Collection<Long> userIds) {
+    return userRepository.findAllById(userIds);
+  }
+
+  // 인증된 유저 조회 (캐시 우선, 반환된 유저는 영속 상태가 아님)
   public User getUserByEmail(String email) {
-    return userRepository.findByEmail(email)
+    return principalCache.findByEmail(email)
+        .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
+  }
+
+  // 캐시된 복사본이 아닌 DB 의 최신 유저에 변경 사항 반영 (캐시된 이전 값으로 덮어쓰지 않기 위함)
+  private User getManagedUser(User user) {
+    return userRepository.findById(user.getId())
         .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
   }
 
@@ -56,34 +79,69 @@ public class UserService {
 
   // 프로필 사진 수정
   @Transactional
-  public void updateProfileImage(MultipartFile multipartFile, User user) {
-    // 기존 프로필 있으면 s3에 저장한 이미지 삭제
+  public void updateProfileImage(MultipartFile multipartFile, User principal) {
+    User user = getManagedUser(principal);
+    deleteCurrentProfileImage(user);
+    String image = s3Service.upload(multipartFile);
+    user.setProfileImage(image);
+
+    userRepository.save(user);
+    principalCache.evict(user.getEmail());
+  }
+
+  // S3 에 직접 올려 확인(S3Service.confirmUpload)까지 끝난 프로필 사진으로 수정
+  // S3 확인은 호출 전에 트랜잭션 밖에서 수행하고, 기존 사진은 커밋된 뒤에 삭제
+  @Transactional
+  public void changeProfileImage(String image, User principal) {
+    User user = getManagedUser(principal);
     String currentProfileImage = user.getProfileImage();
+    user.setProfileImage(image);
+
+    userRepository.save(user);
+    principalCache.evict(user.getEmail());
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          deleteProfileImageFile(currentProfileImage);
+        }
+      });
+    } else {
+      deleteProfileImageFile(currentProfileImage);
+    }
+  }
+
+  // 기존 프로필 있으면 s3에 저장한 이미지 삭제
+  private void deleteCurrentProfileImage(User user) {
+    deleteProfileImageFile(user.getProfileImage());
+  }
+
+  private void deleteProfileImageFile(String currentProfileImage) {
     if (currentProfileImage != null && !currentProfileImage.isEmpty()) {
       String imageUrl = URLDecoder.decode(currentProfileImage, StandardCharsets.UTF_8);
       String filename = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
 
       s3Service.delete(filename);
     }
-    String image = s3Service.upload(multipartFile);
-    user.setProfileImage(image);
-
-    userRepository.save(user);
   }
 
   // 내 프로필 사진 삭제
-  public void deleteProfileImage(User user) {
+  @Transactional
+  public void deleteProfileImage(User principal) {
+    User user = getManagedUser(principal);
     String imageUrl = URLDecoder.decode(user.getProfileImage(), StandardCharsets.UTF_8);
     String filename = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
 
     s3Service.delete(filename);
     user.setProfileImage(null);
     userRepository.save(user);
+    principalCache.evict(user.getEmail());
   }
 
   // 내 기본 정보 수정
   @Transactional
-  public void updateBasicInfo(User user, UpdateBasicInfoForm form) {
+  public void updateBasicInfo(User principal, UpdateBasicInfoForm form) {
+    User user = getManagedUser(principal);
     // 닉네임은 소셜로그인한 유저가 1번만 변경 가능
     String nickname = form.getNickName();
     String userNickname = user.getNickName();
@@ -109,6 +167,7 @@ public class UserService {
     }
 
     userRepository.save(user);
+    principalCache.evict(user.getEmail());
   }
 
   // 내 닉네임 변경
@@ -121,7 +180,9 @@ public class UserService {
   }
 
   // 비밀번호 변경
-  public void updatePassword(User user, UpdatePasswordForm form) {
+  @Transactional
+  public void updatePassword(User principal, UpdatePasswordForm form) {
+    User user = getManagedUser(principal);
     String userPassword = user.getPassword();
     String password = form.getPassword();
     String newPassword = form.getNewPassword();
@@ -140,14 +201,15 @@ public class UserService {
     } else {
       user.setPassword(passwordEncoder.encode(newPassword));
       userRepository.save(user);
+      principalCache.evict(user.getEmail());
     }
   }
 
   // 랭킹포인트 업데이트, 알림이벤트 발행
   @Transactional
   public void updateRankPoint(User user, Project project, Double averagePoint) {
-    user.setRankPoint(user.getRankPoint() + averagePoint);
-    userRepository.save(user);
+    userRepository.increaseRankPoint(user.getId(), averagePoint);
+    principalCache.evict(user.getEmail());
 
     // 평가 완료 알림 이벤트 발행
     AlarmForm alarmForm = AlarmForm.builder()
@@ -160,8 +222,21 @@ public class UserService {
   }
 
   // 유저 활성화/비활성화
-  public void setUserStatus(User user, ActivityStatus status) {
+  @Transactional
+  public void setUserStatus(User principal, ActivityStatus status) {
+    User user = getManagedUser(principal);
     user.setStatus(status);
     userRepository.save(user);
+    principalCache.evict(user.getEmail());
+  }
+
+  // 정지 기한이 지난 비활성 유저 일괄 재활성화, 재활성화된 유저 수 반환
+  @Transactional
+  public int reactivateUsers(LocalDateTime now) {
+    int reactivated = userRepository.reactivateUsers(ActivityStatus.INACTIVITY, ActivityStatus.ACTIVITY, now);
+    if (reactivated > 0) {
+      principalCache.evictAll();
+    }
+    return reactivated;
   }
 }
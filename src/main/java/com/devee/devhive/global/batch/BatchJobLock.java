@@ -0,0 +1,48 @@
+package com.devee.devhive.global.batch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 job 실행 lease 락 (Redis SET NX PX)
+ * 여러 서버에서 같은 스케줄이 동시에 돌아도 락을 잡은 서버 하나만 job 을 실행한다.
+ * 락을 잡은 서버가 죽으면 lease 가 만료되어 다음 스케줄에 다른 서버가 실행할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchJobLock {
+
+  private static final String KEY_PREFIX = "batch:lock:";
+
+  // 내가 잡은 락일 때만 해제, 최소 유지 시간이 남아있으면 그 시간만큼만 유지
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+          + "if tonumber(ARGV[2]) > 0 then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+          + "return redis.call('DEL', KEYS[1])", Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  // 락 획득 시 해제할 때 쓸 토큰 반환
+  public Optional<String> tryAcquire(String jobName, Duration lease) {
+    String token = UUID.randomUUID().toString();
+    Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key(jobName), token, lease);
+    return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+  }
+
+  // 다른 서버의 스케줄 시각이 조금 늦더라도 같은 회차에 다시 실행하지 않도록 remainingHold 동안은 락 유지
+  public void release(String jobName, String token, Duration remainingHold) {
+    redisTemplate.execute(RELEASE_SCRIPT, List.of(key(jobName)),
+        token, String.valueOf(Math.max(0, remainingHold.toMillis())));
+  }
+
+  private String key(String jobName) {
+    return KEY_PREFIX + jobName;
+  }
+}
@@ -0,0 +1,41 @@
+package com.devee.devhive.global.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 job 지표
+ * - batch.job.duration : job 실행 시간 (job, status 태그)
+ * - batch.job.items : job 이 처리(변경)한 행 수 (step writeCount 합계)
+ * - batch.job.lock.skipped : 다른 서버가 락을 잡고 있어 실행하지 않은 횟수
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchJobMetrics {
+
+  private final MeterRegistry meterRegistry;
+
+  public void recordExecution(String jobName, JobExecution jobExecution) {
+    LocalDateTime startTime = jobExecution.getStartTime();
+    LocalDateTime endTime = jobExecution.getEndTime();
+    if (startTime != null && endTime != null) {
+      meterRegistry.timer("batch.job.duration",
+              "job", jobName, "status", jobExecution.getStatus().name())
+          .record(Duration.between(startTime, endTime));
+    }
+
+    long items = jobExecution.getStepExecutions().stream()
+        .mapToLong(StepExecution::getWriteCount)
+        .sum();
+    meterRegistry.counter("batch.job.items", "job", jobName).increment(items);
+  }
+
+  public void lockSkipped(String jobName) {
+    meterRegistry.counter("batch.job.lock.skipped", "job", jobName).increment();
+  }
+}
@@ -1,26 +1,55 @@
 package com.devee.devhive.global.batch;
 
-
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameter;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.configuration.support.JobRegistryBeanPostProcessor;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
+/**
+ * 배치 job 스케줄
+ * job 은 batchJobExecutor 에서 실행해 @Scheduled 스레드를 job 실행 시간 동안 점유하지 않는다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class BatchProcessingScheduler {
 
   private final JobLauncher jobLauncher;
   private final JobRegistry jobRegistry;
+  private final BatchJobLock batchJobLock;
+  private final BatchJobMetrics batchJobMetrics;
+  private final ThreadPoolTaskExecutor batchJobExecutor;
+
+  // job 최대 실행 시간보다 길게 설정 (서버가 죽으면 이 시간 뒤 락 만료)
+  @Value("${batch.lock.lease-seconds:600}")
+  private long leaseSeconds;
+
+  // 서버 간 스케줄 시각 차이로 같은 회차에 두 번 실행되지 않도록 최소 유지 시간
+  @Value("${batch.lock.min-hold-millis:30000}")
+  private long minHoldMillis;
+
+  public BatchProcessingScheduler(JobLauncher jobLauncher, JobRegistry jobRegistry,
+      BatchJobLock batchJobLock, BatchJobMetrics batchJobMetrics,
+      @Qualifier("batchJobExecutor") ThreadPoolTaskExecutor batchJobExecutor) {
+    this.jobLauncher = jobLauncher;
+    this.jobRegistry = jobRegistry;
+    this.batchJobLock = batchJobLock;
+    this.batchJobMetrics = batchJobMetrics;
+    this.batchJobExecutor = batchJobExecutor;
+  }
 
   @Bean
   public JobRegistryBeanPostProcessor jobRegistryBeanPostProcessor(JobRegistry jobRegistry) {
@@ -29,37 +58,53 @@ public class BatchProcessingScheduler {
     return jobRegistryBeanPostProcessor;
   }
 
-  // 매 0분마다 처리
-//  @Scheduled(cron = "* 0 * * * *")
+  // 매시 0분 처리 (지연 큐에서 누락된 투표 보정)
+  @Scheduled(cron = "0 0 * * * *")
   public void processVote() {
-    JobParameters jobParameters = getJobParameters();
-
-    try {
-      jobLauncher.run(jobRegistry.getJob("voteProcessJob"), jobParameters);
-    } catch (Exception e) {
-      log.info("error: {}", e.getMessage());
-    }
+    launch("voteProcessJob");
   }
 
-//  @Scheduled(cron = "* 0 * * * *")
+  @Scheduled(cron = "0 0 * * * *")
   public void userReactivation() {
-    JobParameters jobParameters = getJobParameters();
+    launch("userReactivationJob");
+  }
+
+  @Scheduled(cron = "0 0 * * * *")
+  public void projectRecruitProcess() {
+    launch("recruitProcessJob");
+  }
+
+  // 매일 04:30 유저 카운터 보정
+  @Scheduled(cron = "0 30 4 * * *")
+  public void userCounterReconcile() {
+    launch("userCounterReconcileJob");
+  }
 
+  private void launch(String jobName) {
     try {
-      jobLauncher.run(jobRegistry.getJob("userReactivationJob"), jobParameters);
-    } catch (Exception e) {
-      log.info("error: {}", e.getMessage());
+      batchJobExecutor.execute(() -> runJob(jobName));
+    } catch (TaskRejectedException e) {
+      log.warn("batch job {} skipped: executor is full", jobName);
     }
   }
 
-//  @Scheduled(cron = "* 0 * * * *")
-  public void projectRecruitProcess() {
-    JobParameters jobParameters = getJobParameters();
+  // 락을 잡은 서버 하나만 job 실행
+  private void runJob(String jobName) {
+    long start = System.currentTimeMillis();
+    Optional<String> token = batchJobLock.tryAcquire(jobName, Duration.ofSeconds(leaseSeconds));
+    if (token.isEmpty()) {
+      batchJobMetrics.lockSkipped(jobName);
+      return;
+    }
 
     try {
-      jobLauncher.run(jobRegistry.getJob("recruitProcessJob"), jobParameters);
+      JobExecution jobExecution = jobLauncher.run(jobRegistry.getJob(jobName), getJobParameters());
+      batchJobMetrics.recordExecution(jobName, jobExecution);
     } catch (Exception e) {
       log.info("error: {}", e.getMessage());
+    } finally {
+      long elapsed = System.currentTimeMillis() - start;
+      batchJobLock.release(jobName, token.get(), Duration.ofMillis(minHoldMillis - elapsed));
     }
   }
 
@@ -0,0 +1,26 @@
+package com.devee.devhive.global.batch.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 파티션 step worker 실행 스레드 풀
+ * 파티션 수(grid-size)만큼 동시에 실행되도록 pool-size 를 grid-size 이상으로 설정
+ */
+@Configuration
+public class BatchPartitionConfig {
+
+  @Bean(name = "batchPartitionTaskExecutor")
+  public ThreadPoolTaskExecutor batchPartitionTaskExecutor(
+      @Value("${batch.partition.pool-size:4}") int poolSize) {
+    ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+    taskExecutor.setCorePoolSize(poolSize);
+    taskExecutor.setMaxPoolSize(poolSize);
+    taskExecutor.setThreadNamePrefix("batch-partition-");
+    taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+    taskExecutor.initialize();
+    return taskExecutor;
+  }
+}
@@ -1,6 +1,10 @@
 package com.devee.devhive.global.batch.config;
 
 import com.devee.devhive.domain.project.service.ProjectService;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -9,19 +13,32 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+/**
+ * 모집 기한이 지난 모집중 프로젝트를 모집 마감 처리한다.
+ * 대상 프로젝트 id 를 chunk-size 개씩 끊어 chunk 마다 별도 트랜잭션의 UPDATE 한 번으로 처리하고,
+ * 기준 시각과 마지막 id 를 step ExecutionContext 에 남겨 재시작 시 이어서 처리한다.
+ */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class RecruitProcessBatchConfig {
 
+  private static final String NOW = "now";
+  private static final String LAST_PROJECT_ID = "lastProjectId";
+
   private final ProjectService projectService;
 
+  @Value("${project.recruit.chunk-size:500}")
+  private int chunkSize;
+
   @Bean(name = "recruitProcessJob")
   public Job recruitProcessJob(
       JobRepository jobRepository, @Qualifier("recruitProcessStep") Step step) {
@@ -41,11 +58,22 @@ public class RecruitProcessBatchConfig {
   @Bean(name = "recruitProcessTasklet")
   public Tasklet recruitProcessTasklet() {
     return ((contribution, chunkContext) -> {
-      log.info("모집 기한이 지난 프로젝트 모집 마감.");
-
-      projectService.updateDeadlineOverProjects();
+      ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+      if (!context.containsKey(NOW)) {
+        context.putLong(NOW, System.currentTimeMillis());
+      }
+      LocalDateTime now = LocalDateTime.ofInstant(
+          Instant.ofEpochMilli(context.getLong(NOW)), ZoneId.systemDefault());
+      long lastProjectId = context.getLong(LAST_PROJECT_ID, 0L);
 
-      return RepeatStatus.FINISHED;
+      List<Long> projectIds = projectService.closeDeadlineOverRecruitments(now, lastProjectId, chunkSize);
+      if (projectIds.isEmpty()) {
+        log.info("모집 기한이 지난 프로젝트 모집 마감 완료.");
+        return RepeatStatus.FINISHED;
+      }
+      contribution.incrementWriteCount(projectIds.size());
+      context.putLong(LAST_PROJECT_ID, projectIds.get(projectIds.size() - 1));
+      return RepeatStatus.CONTINUABLE;
     });
   }
 }
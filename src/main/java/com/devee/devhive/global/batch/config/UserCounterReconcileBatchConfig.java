@@ -0,0 +1,43 @@
+package com.devee.devhive.global.batch.config;
+
+import com.devee.devhive.domain.user.counter.service.UserCounterService;
+import com.devee.devhive.global.batch.partition.PartitionedStepFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 유저 카운터(벌집레벨, 퇴출 횟수)를 원본 테이블 기준으로 재계산해 어긋난 값을 보정한다.
+ * user id 를 파티션별 구간으로 나누고, 파티션 안에서는 chunk 구간마다 별도 트랜잭션으로 처리한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class UserCounterReconcileBatchConfig {
+
+  private final UserCounterService userCounterService;
+  private final PartitionedStepFactory partitionedStepFactory;
+
+  @Value("${user.counter.reconcile-chunk-size:1000}")
+  private int chunkSize;
+
+  @Bean(name = "userCounterReconcileJob")
+  public Job userCounterReconcileJob(JobRepository jobRepository,
+      @Qualifier("userCounterReconcileStep") Step step) {
+    return new JobBuilder("userCounterReconcileJob", jobRepository)
+        .start(step)
+        .build();
+  }
+
+  // user id 구간을 나눠 여러 스레드에서 동시에 보정
+  @Bean(name = "userCounterReconcileStep")
+  public Step userCounterReconcileStep() {
+    return partitionedStepFactory.idRangeStep("userCounterReconcileStep",
+        userCounterService::getMaxUserId, userCounterService::reconcile, chunkSize);
+  }
+}
@@ -1,9 +1,7 @@
 package com.devee.devhive.global.batch.config;
 
-import com.devee.devhive.domain.user.exithistory.service.ExitHistoryService;
 import com.devee.devhive.domain.user.service.UserService;
-import com.devee.devhive.domain.user.type.ActivityStatus;
-import java.util.List;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -23,7 +21,6 @@ import org.springframework.transaction.PlatformTransactionManager;
 @RequiredArgsConstructor
 public class UserReactivationBatchConfig {
 
-  private final ExitHistoryService exitHistoryService;
   private final UserService userService;
 
   @Bean(name = "userReactivationJob")
@@ -44,12 +41,9 @@ public class UserReactivationBatchConfig {
   @Bean(name = "userReactivationTasklet")
   public Tasklet userReactivationTasklet() {
     return ((contribution, chunkContext) -> {
-      log.info("정지 기한이 지난 유저 재활성화.");
-
-      List<Long> reactivatingUsers = exitHistoryService.getReactivatingUsers();
-
-      reactivatingUsers.forEach(userId ->
-          userService.setUserStatus(userService.getUserById(userId), ActivityStatus.ACTIVITY));
+      int reactivated = userService.reactivateUsers(LocalDateTime.now());
+      contribution.incrementWriteCount(reactivated);
+      log.info("정지 기한이 지난 유저 재활성화. {}명", reactivated);
 
       return RepeatStatus.FINISHED;
     });
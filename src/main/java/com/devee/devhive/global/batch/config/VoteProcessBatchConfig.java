@@ -41,7 +41,7 @@ public class VoteProcessBatchConfig {
   @Bean(name = "voteProcessTasklet")
   public Tasklet voteProcessTasklet() {
     return ((contribution, chunkContext) -> {
-      exitVoteService.processVotes();
+      contribution.incrementWriteCount(exitVoteService.processVotes());
       return RepeatStatus.FINISHED;
     });
   }
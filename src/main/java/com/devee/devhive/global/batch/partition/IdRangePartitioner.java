@@ -0,0 +1,37 @@
+package com.devee.devhive.global.batch.partition;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * (0, maxId] 를 gridSize 개의 id 구간으로 나눈다.
+ * 각 파티션 ExecutionContext 에 (fromId, toId] 구간을 넣어두고, worker step 이 그 구간만 처리한다.
+ */
+@RequiredArgsConstructor
+public class IdRangePartitioner implements Partitioner {
+
+  public static final String FROM_ID = "fromId";
+  public static final String TO_ID = "toId";
+
+  private final LongSupplier maxIdSupplier;
+
+  @Override
+  public Map<String, ExecutionContext> partition(int gridSize) {
+    long maxId = maxIdSupplier.getAsLong();
+    long rangeSize = Math.max(1, (maxId + gridSize - 1) / gridSize);
+
+    Map<String, ExecutionContext> partitions = new HashMap<>();
+    int index = 0;
+    for (long fromId = 0; fromId < maxId; fromId += rangeSize) {
+      ExecutionContext context = new ExecutionContext();
+      context.putLong(FROM_ID, fromId);
+      context.putLong(TO_ID, Math.min(fromId + rangeSize, maxId));
+      partitions.put("partition" + index++, context);
+    }
+    return partitions;
+  }
+}
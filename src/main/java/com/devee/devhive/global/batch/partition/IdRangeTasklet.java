@@ -0,0 +1,47 @@
+package com.devee.devhive.global.batch.partition;
+
+import static com.devee.devhive.global.batch.partition.IdRangePartitioner.FROM_ID;
+import static com.devee.devhive.global.batch.partition.IdRangePartitioner.TO_ID;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * 파티션에 할당된 (fromId, toId] 구간을 chunkSize 씩 끊어 처리하는 worker tasklet
+ * 한 번 실행될 때마다 한 chunk 를 별도 트랜잭션으로 처리하고 마지막 id 를 ExecutionContext 에 남기므로
+ * 재시작하면 마지막으로 커밋된 chunk 다음부터 이어서 처리한다.
+ */
+@RequiredArgsConstructor
+public class IdRangeTasklet implements Tasklet {
+
+  private static final String LAST_ID = "lastId";
+
+  private final RangeProcessor processor;
+  private final int chunkSize;
+
+  @Override
+  public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+    ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+    long fromId = context.getLong(LAST_ID, context.getLong(FROM_ID));
+    long toId = context.getLong(TO_ID);
+    if (fromId >= toId) {
+      return RepeatStatus.FINISHED;
+    }
+
+    long chunkToId = Math.min(fromId + chunkSize, toId);
+    contribution.incrementWriteCount(processor.process(fromId, chunkToId));
+    context.putLong(LAST_ID, chunkToId);
+    return RepeatStatus.CONTINUABLE;
+  }
+
+  // (fromId, toId] 구간을 한 번에 처리(set 기반 갱신 등)하고 변경된 행 수 반환
+  @FunctionalInterface
+  public interface RangeProcessor {
+
+    int process(long fromId, long toId);
+  }
+}
@@ -0,0 +1,55 @@
+package com.devee.devhive.global.batch.partition;
+
+import com.devee.devhive.global.batch.partition.IdRangeTasklet.RangeProcessor;
+import java.util.function.LongSupplier;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * id 구간 파티션 step 생성
+ * (0, maxId] 를 grid-size 개 구간으로 나눠 batchPartitionTaskExecutor 스레드에서 동시에 처리한다.
+ * 대량 보정/백필 job 에서 사용
+ */
+@Component
+public class PartitionedStepFactory {
+
+  private final JobRepository jobRepository;
+  private final PlatformTransactionManager transactionManager;
+  private final TaskExecutor taskExecutor;
+
+  @Value("${batch.partition.grid-size:4}")
+  private int gridSize;
+
+  public PartitionedStepFactory(JobRepository jobRepository,
+      PlatformTransactionManager transactionManager,
+      @Qualifier("batchPartitionTaskExecutor") TaskExecutor taskExecutor) {
+    this.jobRepository = jobRepository;
+    this.transactionManager = transactionManager;
+    this.taskExecutor = taskExecutor;
+  }
+
+  public Step idRangeStep(String stepName, LongSupplier maxIdSupplier, RangeProcessor processor,
+      int chunkSize) {
+    String workerStepName = stepName + "Worker";
+    Step workerStep = new StepBuilder(workerStepName, jobRepository)
+        .tasklet(new IdRangeTasklet(processor, chunkSize), transactionManager)
+        .build();
+
+    TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+    partitionHandler.setStep(workerStep);
+    partitionHandler.setTaskExecutor(taskExecutor);
+    partitionHandler.setGridSize(gridSize);
+
+    return new StepBuilder(stepName, jobRepository)
+        .partitioner(workerStepName, new IdRangePartitioner(maxIdSupplier))
+        .partitionHandler(partitionHandler)
+        .build();
+  }
+}
@@ -0,0 +1,32 @@
+package com.devee.devhive.global.config;
+
+import com.devee.devhive.global.websocket.SlowConsumerGuard;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+/**
+ * @EnableWebSocketMessageBroker 대신 사용하는 STOMP 브로커 설정
+ * 세션 전송 데코레이터는 WebSocketTransportRegistration 으로 바꿀 수 없어서
+ * subProtocolWebSocketHandler 빈을 SlowConsumerGuard 의 핸들러로 교체한다. (나머지 설정은 WebSocketConfig)
+ */
+@Configuration(proxyBeanMethods = false)
+public class ChatMessageBrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+
+  private final SlowConsumerGuard slowConsumerGuard;
+
+  public ChatMessageBrokerConfiguration(SlowConsumerGuard slowConsumerGuard) {
+    this.slowConsumerGuard = slowConsumerGuard;
+  }
+
+  @Bean
+  @Override
+  public WebSocketHandler subProtocolWebSocketHandler(
+      AbstractSubscribableChannel clientInboundChannel,
+      AbstractSubscribableChannel clientOutboundChannel) {
+    return slowConsumerGuard.subProtocolWebSocketHandler(clientInboundChannel,
+        clientOutboundChannel);
+  }
+}
@@ -0,0 +1,34 @@
+package com.devee.devhive.global.config;
+
+import com.devee.devhive.global.websocket.RedisChatBroker;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+/**
+ * chat.broker.mode=redis 일 때 샤딩된 채팅 채널 구독 설정
+ */
+@Configuration
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class ChatRedisConfig {
+
+  @Bean
+  public RedisMessageListenerContainer chatMessageListenerContainer(
+      RedisConnectionFactory redisConnectionFactory, RedisChatBroker redisChatBroker) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+
+    List<Topic> topics = new ArrayList<>();
+    for (int shard = 0; shard < redisChatBroker.getShardCount(); shard++) {
+      topics.add(new ChannelTopic(RedisChatBroker.CHANNEL_PREFIX + shard));
+    }
+    container.addMessageListener(redisChatBroker, topics);
+    return container;
+  }
+}
@@ -0,0 +1,28 @@
+package com.devee.devhive.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 메일 발송 스레드 풀
+ * 동시에 열리는 SMTP 연결 수 = pool-size, 대기열이 차면 MailOutboxSender 가 더 가져가지 않는다.
+ */
+@Configuration
+public class MailOutboxConfig {
+
+  @Bean(name = "mailSenderExecutor")
+  public ThreadPoolTaskExecutor mailSenderExecutor(
+      @Value("${mail.outbox.pool-size:2}") int poolSize,
+      @Value("${mail.outbox.queue-capacity:4}") int queueCapacity) {
+    ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+    taskExecutor.setCorePoolSize(poolSize);
+    taskExecutor.setMaxPoolSize(poolSize);
+    taskExecutor.setQueueCapacity(queueCapacity);
+    taskExecutor.setThreadNamePrefix("mail-sender-");
+    taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+    taskExecutor.initialize();
+    return taskExecutor;
+  }
+}
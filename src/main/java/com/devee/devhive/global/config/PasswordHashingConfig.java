@@ -0,0 +1,43 @@
+package com.devee.devhive.global.config;
+
+import com.devee.devhive.global.security.password.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 해시 설정
+ * BCrypt 계산을 요청 스레드가 아닌 전용 스레드 풀에서 처리해 로그인이 몰려도 다른 요청이 CPU 를 잃지 않도록 한다.
+ * pool-size 는 해시에 쓸 CPU 코어 수, queue-capacity 를 넘는 요청은 바로 429 로 거절
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+  @Bean(name = "passwordHashingExecutor")
+  public ThreadPoolTaskExecutor passwordHashingExecutor(
+      @Value("${password.hashing.pool-size:2}") int poolSize,
+      @Value("${password.hashing.queue-capacity:100}") int queueCapacity) {
+    ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+    taskExecutor.setCorePoolSize(poolSize);
+    taskExecutor.setMaxPoolSize(poolSize);
+    taskExecutor.setQueueCapacity(queueCapacity);
+    taskExecutor.setThreadNamePrefix("password-hash-");
+    taskExecutor.initialize();
+    return taskExecutor;
+  }
+
+  @Bean
+  public PasswordEncoder passwordEncoder(
+      @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor,
+      MeterRegistry meterRegistry,
+      @Value("${password.hashing.strength:10}") int strength,
+      @Value("${password.hashing.max-wait-millis:3000}") long maxWaitMillis) {
+    return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength),
+        passwordHashingExecutor, maxWaitMillis, meterRegistry);
+  }
+}
@@ -0,0 +1,35 @@
+package com.devee.devhive.global.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = true;
+  // Redis 에서 한 번에 가져온 토큰을 인스턴스에서 사용할 수 있는 시간(ms), 지나면 남은 토큰은 버림
+  private long leaseMillis = 1000;
+  private List<Rule> rules = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class Rule {
+    private String name;
+    // 비어있으면 모든 메서드
+    private String method;
+    // ant 패턴 (/api/projects/**)
+    private String path;
+    // 버킷 크기 (순간 최대 요청 수)
+    private int capacity;
+    // refill-period-seconds 마다 채워지는 토큰 수
+    private int refillTokens;
+    private int refillPeriodSeconds = 60;
+    // Redis 에서 한 번에 가져올 토큰 수, 1 이면 매 요청 Redis 확인
+    private int localBatch = 1;
+  }
+}
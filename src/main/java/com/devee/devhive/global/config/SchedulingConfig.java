@@ -0,0 +1,44 @@
+package com.devee.devhive.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 실행 스레드 풀, 배치 job 실행 스레드 풀
+ * 짧은 주기 작업(투표 마감 poller, 메일 발송 대기열, 토큰 폐기 목록 갱신)이 서로를 기다리지 않도록
+ * 스케줄러 풀을 여러 스레드로 두고 (웹소켓 브로커의 heartbeat 스케줄러와도 분리),
+ * 오래 걸리는 배치 job 은 별도 풀에서 실행해 스케줄러 스레드를 점유하지 않게 한다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+  // 이름이 taskScheduler 인 빈을 @Scheduled 가 우선 사용
+  @Bean(name = "taskScheduler")
+  public ThreadPoolTaskScheduler taskScheduler(
+      @Value("${scheduling.pool-size:4}") int poolSize) {
+    ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    taskScheduler.setPoolSize(poolSize);
+    taskScheduler.setThreadNamePrefix("scheduling-");
+    taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+    taskScheduler.initialize();
+    return taskScheduler;
+  }
+
+  // 같은 시각에 시작하는 job 이 동시에 실행되도록 pool-size 를 job 수 이상으로 설정
+  @Bean(name = "batchJobExecutor")
+  public ThreadPoolTaskExecutor batchJobExecutor(
+      @Value("${batch.job.pool-size:4}") int poolSize,
+      @Value("${batch.job.queue-capacity:8}") int queueCapacity) {
+    ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+    taskExecutor.setCorePoolSize(poolSize);
+    taskExecutor.setMaxPoolSize(poolSize);
+    taskExecutor.setQueueCapacity(queueCapacity);
+    taskExecutor.setThreadNamePrefix("batch-job-");
+    taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+    taskExecutor.initialize();
+    return taskExecutor;
+  }
+}
@@ -3,15 +3,20 @@ package com.devee.devhive.global.config;
 import static org.springframework.security.config.Customizer.withDefaults;
 
 import com.devee.devhive.domain.user.repository.UserRepository;
+import com.devee.devhive.domain.user.service.UserPrincipalCache;
 import com.devee.devhive.global.oauth2.handler.OAuth2LoginFailureHandler;
 import com.devee.devhive.global.oauth2.handler.OAuth2LoginSuccessHandler;
 import com.devee.devhive.global.oauth2.repository.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.devee.devhive.global.oauth2.service.CustomOAuth2UserService;
+import com.devee.devhive.global.ratelimit.RateLimiter;
 import com.devee.devhive.global.security.filter.CustomJsonUsernamePasswordAuthenticationFilter;
 import com.devee.devhive.global.security.filter.JwtAuthenticationProcessingFilter;
+import com.devee.devhive.global.security.filter.RateLimitFilter;
 import com.devee.devhive.global.security.handler.LoginFailureHandler;
 import com.devee.devhive.global.security.handler.LoginSuccessHandler;
+import com.devee.devhive.global.security.revocation.AccessTokenRevocationList;
 import com.devee.devhive.global.security.service.CustomUserDetailService;
+import com.devee.devhive.global.security.service.RefreshTokenStore;
 import com.devee.devhive.global.security.service.TokenService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Arrays;
@@ -19,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -27,7 +33,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -42,15 +48,16 @@ public class SecurityConfig {
   private final AppProperties appProperties;
   private final TokenService tokenService;
   private final UserRepository userRepository;
+  private final UserPrincipalCache userPrincipalCache;
+  private final RefreshTokenStore refreshTokenStore;
+  private final AccessTokenRevocationList accessTokenRevocationList;
   private final ObjectMapper objectMapper;
   private final CustomUserDetailService customUserDetailService;
+  private final PasswordEncoder passwordEncoder;
+  private final RateLimitProperties rateLimitProperties;
+  private final RateLimiter rateLimiter;
   private final CustomOAuth2UserService customOAuth2UserService;
 
-  @Bean
-  public BCryptPasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
-  }
-
   @Bean
   public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
     http
@@ -102,6 +109,7 @@ public class SecurityConfig {
                 "/api/members/users/{userId}/projects/{projectId}",
                 "/api/users/{userId}/exit-process",
                 "/api/comments/projects/{projectId}",
+                "/api/comments/projects/{projectId}/page",
                 "/login/**",
                 "/api/admin/tech-stacks",
                 "/api/admin/badges",
@@ -111,6 +119,9 @@ public class SecurityConfig {
                 "/oauth/**"
             ).permitAll()
 
+            // 답글 더보기 조회만 허용 (같은 경로의 답글 작성은 인증 필요)
+            .requestMatchers(HttpMethod.GET, "/api/reply/comments/{commentId}").permitAll()
+
             .requestMatchers(
                 "/api/users/**",
                 "/api/favorite/**",
@@ -131,7 +142,9 @@ public class SecurityConfig {
         // LogoutFilter -> JwtAuthenticationProcessingFilter -> CustomJsonUsernamePasswordAuthenticationFilter
         .addFilterAfter(customJsonUsernamePasswordAuthenticationFilter(), LogoutFilter.class)
         .addFilterBefore(jwtAuthenticationProcessingFilter(),
-            CustomJsonUsernamePasswordAuthenticationFilter.class);
+            CustomJsonUsernamePasswordAuthenticationFilter.class)
+        // JwtAuthenticationProcessingFilter -> RateLimitFilter -> CustomJsonUsernamePasswordAuthenticationFilter
+        .addFilterBefore(rateLimitFilter(), CustomJsonUsernamePasswordAuthenticationFilter.class);
 
     return http.build();
   }
@@ -145,14 +158,14 @@ public class SecurityConfig {
   @Bean
   public AuthenticationManager authenticationManager() {
     DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
-    provider.setPasswordEncoder(passwordEncoder());
+    provider.setPasswordEncoder(passwordEncoder);
     provider.setUserDetailsService(customUserDetailService);
     return new ProviderManager(provider);
   }
 
   @Bean
   public LoginSuccessHandler loginSuccessHandler() {
-    return new LoginSuccessHandler(tokenService, userRepository);
+    return new LoginSuccessHandler(tokenService, userRepository, refreshTokenStore);
   }
 
   @Bean
@@ -173,12 +186,19 @@ public class SecurityConfig {
 
   @Bean
   public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter() {
-    return new JwtAuthenticationProcessingFilter(tokenService, userRepository);
+    return new JwtAuthenticationProcessingFilter(tokenService, refreshTokenStore, userPrincipalCache,
+        accessTokenRevocationList);
+  }
+
+  @Bean
+  public RateLimitFilter rateLimitFilter() {
+    return new RateLimitFilter(rateLimitProperties, rateLimiter, objectMapper);
   }
 
   @Bean
   public OAuth2LoginSuccessHandler oAuth2AuthenticationSuccessHandler() {
-    return new OAuth2LoginSuccessHandler(oAuth2AuthorizationRequestRepository(), appProperties, userRepository);
+    return new OAuth2LoginSuccessHandler(oAuth2AuthorizationRequestRepository(), appProperties, userRepository,
+        refreshTokenStore);
   }
 
   @Bean
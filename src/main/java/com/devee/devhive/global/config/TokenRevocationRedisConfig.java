@@ -0,0 +1,26 @@
+package com.devee.devhive.global.config;
+
+import com.devee.devhive.global.security.revocation.AccessTokenRevocationList;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 폐기된 AccessToken id 구독 설정 (모든 인스턴스의 Bloom filter 갱신)
+ */
+@Configuration
+public class TokenRevocationRedisConfig {
+
+  @Bean
+  public RedisMessageListenerContainer tokenRevocationListenerContainer(
+      RedisConnectionFactory redisConnectionFactory,
+      AccessTokenRevocationList accessTokenRevocationList) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(accessTokenRevocationList,
+        new ChannelTopic(AccessTokenRevocationList.CHANNEL));
+    return container;
+  }
+}
@@ -1,15 +1,29 @@
 package com.devee.devhive.global.config;
 
+import com.devee.devhive.global.websocket.ChatDeliveryTimer;
+import com.devee.devhive.global.websocket.ChatMetrics;
+import com.devee.devhive.global.websocket.SlowConsumerGuard;
+import com.devee.devhive.global.websocket.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+// 브로커 활성화는 ChatMessageBrokerConfiguration (@EnableWebSocketMessageBroker 대신)
 @Configuration
-@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+  private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+  private final SlowConsumerGuard slowConsumerGuard;
+  private final ChatDeliveryTimer chatDeliveryTimer;
+  private final ChatMetrics chatMetrics;
+  private final WebSocketProperties properties;
+
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
     registry.addEndpoint("/chat")
@@ -21,5 +35,45 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   public void configureMessageBroker(MessageBrokerRegistry registry) {
     registry.enableSimpleBroker("/sub");
     registry.setApplicationDestinationPrefixes("/pub");
+    // outbound 실행기가 여러 스레드여도 세션별 전송 순서 유지
+    registry.setPreservePublishOrder(true);
+  }
+
+  // CONNECT 시 JWT 인증, 구독/전송 시 채팅방 참여 여부 확인
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    ThreadPoolTaskExecutor executor = channelExecutor(properties.getInbound(), "ws-inbound-");
+    chatMetrics.bindQueueDepth("inbound", executor);
+    registration.taskExecutor(executor);
+    registration.interceptors(stompAuthChannelInterceptor);
+  }
+
+  // 채팅방 메시지 전송 시간 기록
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    ThreadPoolTaskExecutor executor = channelExecutor(properties.getOutbound(), "ws-outbound-");
+    chatMetrics.bindQueueDepth("outbound", executor);
+    registration.taskExecutor(executor);
+    registration.interceptors(chatDeliveryTimer);
+  }
+
+  // 세션별 전송 버퍼/시간 한도(초과 시 처리는 SlowConsumerGuard), 수신 메시지 크기 한도
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    registration.setSendBufferSizeLimit(properties.getSendBufferSizeLimit())
+        .setSendTimeLimit(properties.getSendTimeLimit())
+        .setMessageSizeLimit(properties.getMessageSizeLimit())
+        .addDecoratorFactory(slowConsumerGuard);
+  }
+
+  private ThreadPoolTaskExecutor channelExecutor(WebSocketProperties.Executor config,
+      String threadNamePrefix) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(config.getCorePoolSize());
+    executor.setMaxPoolSize(config.getMaxPoolSize());
+    executor.setQueueCapacity(config.getQueueCapacity());
+    executor.setThreadNamePrefix(threadNamePrefix);
+    executor.initialize();
+    return executor;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.devee.devhive.global.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.websocket")
+public class WebSocketProperties {
+
+  private final Executor inbound = new Executor(8, 16, 1000);
+  private final Executor outbound = new Executor(8, 16, 1000);
+
+  // 세션별 전송 버퍼 한도(byte), 초과 시 overflow-strategy 에 따라 채팅방 메시지를 버리거나 연결 종료
+  private int sendBufferSizeLimit = 512 * 1024;
+  // 전송 버퍼 한도 초과 시 처리 (DROP: 채팅방 메시지 버림, TERMINATE: 연결 종료)
+  private OverflowStrategy overflowStrategy = OverflowStrategy.DROP;
+  // 한 메시지 전송 시간 한도(ms), 초과 시 연결 종료
+  private int sendTimeLimit = 10 * 1000;
+  // 수신 메시지 크기 한도(byte)
+  private int messageSizeLimit = 64 * 1024;
+  // 채팅방 메시지를 구독자 대기열에 넣는 시간이 이 시간을 넘으면 로그 기록(ms)
+  private long slowFanOutMillis = 200;
+  // 전파가 slow-fan-out-millis 를 넘은 채팅방은 방 번호 태그로 따로 기록, 최대 채팅방 수
+  private int hotRoomLimit = 50;
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Executor {
+    private int corePoolSize;
+    private int maxPoolSize;
+    private int queueCapacity;
+  }
+}
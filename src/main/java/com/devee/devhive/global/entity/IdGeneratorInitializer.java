@@ -0,0 +1,40 @@
+package com.devee.devhive.global.entity;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테이블 기반 pooled id 생성기(id_generator) 초기화
+ * IDENTITY 로 쌓인 기존 행과 id 가 겹치지 않도록 구간별 next_val 을 현재 최대 id 이후로 맞춘다.
+ * 스키마 생성(entityManagerFactory) 이후, 웹 요청을 받기 전에 한 번 실행된다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdGeneratorInitializer {
+
+  public static final int ALLOCATION_SIZE = 50;
+
+  // pkColumnValue(구간) = 테이블명
+  private static final List<String> POOLED_TABLES = List.of(
+      "evaluation", "project_member_exit_vote", "project_tech_stack", "user_tech_stack");
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @PostConstruct
+  public void alignWithExistingIds() {
+    for (String table : POOLED_TABLES) {
+      Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+      long nextVal = (maxId == null ? 0 : maxId) + ALLOCATION_SIZE + 1;
+      jdbcTemplate.update("INSERT INTO id_generator (sequence_name, next_val) VALUES (?, ?) "
+          + "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))", table, nextVal);
+      log.debug("id_generator {} aligned to {}", table, nextVal);
+    }
+  }
+}
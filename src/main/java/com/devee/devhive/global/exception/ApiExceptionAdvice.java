@@ -22,6 +22,13 @@ public class ApiExceptionAdvice {
                 .status(e.getStatus()).build());
     }
 
+    // 비밀번호 해시 대기열 초과 (회원가입, 비밀번호 변경)
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<CustomException.CustomExceptionResponse> handlePasswordHashingRejectedException(
+        PasswordHashingRejectedException e) {
+        return exceptionHandler(new CustomException(ErrorCode.TOO_MANY_PASSWORD_REQUESTS));
+    }
+
     @ExceptionHandler(OAuthProviderMissMatchException.class)
     public ResponseEntity<ErrorResponse> handleOAuthProviderMissMatchException(OAuthProviderMissMatchException e){
         ErrorResponse errorResponse = new ErrorResponse() {
@@ -0,0 +1,14 @@
+package com.devee.devhive.global.exception;
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+/**
+ * 비밀번호 해시 작업 대기열이 가득 찼거나 대기 시간이 초과된 경우 (429)
+ * 로그인 필터에서도 실패 핸들러로 전달되도록 인증 예외로 정의
+ */
+public class PasswordHashingRejectedException extends InternalAuthenticationServiceException {
+
+  public PasswordHashingRejectedException(String msg) {
+    super(msg);
+  }
+}
@@ -0,0 +1,61 @@
+package com.devee.devhive.global.mail.entity;
+
+import com.devee.devhive.global.entity.BaseEntity;
+import com.devee.devhive.global.mail.type.MailOutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메일 발송 대기열 (outbox)
+ * 요청 스레드는 여기에 저장만 하고 바로 응답하고, MailOutboxSender 가 가져가서 발송한다.
+ * 발송에 성공하면 삭제하고, 실패하면 nextAttemptAt 을 늦춰 재시도한다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class MailOutbox extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false)
+  private String recipient;
+
+  @Column(nullable = false)
+  private String subject;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String content;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private MailOutboxStatus status;
+
+  private int attempts;
+
+  // 다음 발송 시도 가능 시각
+  @Column(name = "next_attempt_at", nullable = false)
+  private Instant nextAttemptAt;
+
+  // SENDING 상태를 가져간 서버와 만료 시각 (서버가 내려가면 만료 후 다른 서버가 다시 가져감)
+  private String claimToken;
+  private Instant claimedUntil;
+
+  private String lastError;
+}
@@ -0,0 +1,61 @@
+package com.devee.devhive.global.mail.repository;
+
+import com.devee.devhive.global.mail.entity.MailOutbox;
+import com.devee.devhive.global.mail.type.MailOutboxStatus;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+  // 발송할 차례인 메일 (대기 중이면서 시도 시각이 지났거나, 가져간 서버의 처리 시간이 만료된 것)
+  @Query("SELECT m.id FROM MailOutbox m "
+      + "WHERE (m.status = :pending AND m.nextAttemptAt <= :now) "
+      + "OR (m.status = :sending AND m.claimedUntil < :now) "
+      + "ORDER BY m.id")
+  List<Long> findDueIds(@Param("pending") MailOutboxStatus pending,
+      @Param("sending") MailOutboxStatus sending, @Param("now") Instant now, Pageable pageable);
+
+  // 조건을 다시 확인하면서 가져감 (다른 서버가 먼저 가져간 건 제외)
+  @Modifying
+  @Query("UPDATE MailOutbox m SET m.status = :sending, m.claimToken = :token, m.claimedUntil = :claimedUntil "
+      + "WHERE m.id IN :ids AND ((m.status = :pending AND m.nextAttemptAt <= :now) "
+      + "OR (m.status = :sending AND m.claimedUntil < :now))")
+  int claim(@Param("ids") List<Long> ids, @Param("pending") MailOutboxStatus pending,
+      @Param("sending") MailOutboxStatus sending, @Param("token") String token,
+      @Param("now") Instant now, @Param("claimedUntil") Instant claimedUntil);
+
+  List<MailOutbox> findAllByClaimToken(String claimToken);
+
+  @Modifying
+  @Query("DELETE FROM MailOutbox m WHERE m.id IN :ids AND m.claimToken = :token")
+  int deleteSent(@Param("ids") List<Long> ids, @Param("token") String token);
+
+  @Modifying
+  @Query("UPDATE MailOutbox m SET m.status = :status, m.attempts = m.attempts + 1, "
+      + "m.nextAttemptAt = :nextAttemptAt, m.lastError = :error, m.claimToken = null, m.claimedUntil = null "
+      + "WHERE m.id = :id AND m.claimToken = :token")
+  int markAttemptFailed(@Param("id") Long id, @Param("token") String token,
+      @Param("status") MailOutboxStatus status, @Param("nextAttemptAt") Instant nextAttemptAt,
+      @Param("error") String error);
+
+  // 더 이상 재시도하지 않는 메일은 본문(인증 코드 등)을 지우고 실패 기록만 남김
+  @Modifying
+  @Query("UPDATE MailOutbox m SET m.status = :failed, m.attempts = m.attempts + 1, m.content = '', "
+      + "m.lastError = :error, m.claimToken = null, m.claimedUntil = null "
+      + "WHERE m.id = :id AND m.claimToken = :token")
+  int markGivenUp(@Param("id") Long id, @Param("token") String token,
+      @Param("failed") MailOutboxStatus failed, @Param("error") String error);
+
+  // 발송 스레드 대기열이 가득 차서 보내지 못한 건 바로 다시 대기 상태로
+  @Modifying
+  @Query("UPDATE MailOutbox m SET m.status = :pending, m.claimToken = null, m.claimedUntil = null "
+      + "WHERE m.claimToken = :token")
+  int release(@Param("token") String token, @Param("pending") MailOutboxStatus pending);
+}
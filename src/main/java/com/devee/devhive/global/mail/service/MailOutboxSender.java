@@ -0,0 +1,147 @@
+package com.devee.devhive.global.mail.service;
+
+import com.devee.devhive.global.mail.entity.MailOutbox;
+import com.devee.devhive.global.mail.service.MailOutboxService.Claim;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMessage.RecipientType;
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메일 발송 대기열 처리
+ * 발송 스레드 풀(mailSenderExecutor)에 여유가 있을 때만 messages-per-connection 건씩 가져가고,
+ * 가져간 메일은 SMTP 연결 하나로 모두 보낸다. (메일마다 연결/인증하지 않음)
+ * - mail.outbox.send.duration : 연결 한 번으로 보내는 데 걸린 시간
+ * - mail.outbox.delivery.latency : 대기열 저장부터 발송 완료까지 걸린 시간
+ * - mail.outbox.sent / retried / failed : 발송 성공, 재시도 예약, 최종 실패 수
+ */
+@Slf4j
+@Component
+public class MailOutboxSender {
+
+  private static final String FROM_ADDRESS = "devHive";
+  private static final String FROM_NAME = "devee";
+
+  private final MailOutboxService mailOutboxService;
+  private final JavaMailSender mailSender;
+  private final ThreadPoolTaskExecutor executor;
+  private final int messagesPerConnection;
+
+  private final Timer sendTimer;
+  private final Timer deliveryLatencyTimer;
+
+  public MailOutboxSender(MailOutboxService mailOutboxService, JavaMailSender mailSender,
+      @Qualifier("mailSenderExecutor") ThreadPoolTaskExecutor executor,
+      @Value("${mail.outbox.messages-per-connection:20}") int messagesPerConnection,
+      MeterRegistry meterRegistry) {
+    this.mailOutboxService = mailOutboxService;
+    this.mailSender = mailSender;
+    this.executor = executor;
+    this.messagesPerConnection = messagesPerConnection;
+    this.sendTimer = meterRegistry.timer("mail.outbox.send.duration");
+    this.deliveryLatencyTimer = meterRegistry.timer("mail.outbox.delivery.latency");
+    meterRegistry.gauge("mail.outbox.executor.queue", executor,
+        taskExecutor -> taskExecutor.getThreadPoolExecutor().getQueue().size());
+  }
+
+  @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:500}")
+  public void poll() {
+    while (hasCapacity()) {
+      Claim claim = mailOutboxService.claim(messagesPerConnection);
+      if (claim.isEmpty()) {
+        return;
+      }
+      try {
+        executor.execute(() -> deliver(claim));
+      } catch (RejectedExecutionException e) {
+        mailOutboxService.release(claim.token());
+        return;
+      }
+    }
+  }
+
+  /**
+   * 가져간 메일을 SMTP 연결 하나로 발송하고 메일별로 성공/실패 처리
+   */
+  public void deliver(Claim claim) {
+    Map<MimeMessage, MailOutbox> messages = new IdentityHashMap<>();
+    for (MailOutbox mail : claim.mails()) {
+      try {
+        messages.put(createMessage(mail), mail);
+      } catch (MessagingException | UnsupportedEncodingException e) {
+        // 주소 형식 오류 등은 다시 보내도 실패하므로 재시도하지 않음
+        log.error("메일 생성 실패 id={}", mail.getId(), e);
+        mailOutboxService.markFailed(claim.token(), mail, e.getMessage(), true);
+      }
+    }
+    if (messages.isEmpty()) {
+      return;
+    }
+
+    Map<Object, Exception> failedMessages = new IdentityHashMap<>();
+    long start = System.nanoTime();
+    try {
+      mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+    } catch (MailSendException e) {
+      failedMessages.putAll(e.getFailedMessages());
+      if (failedMessages.isEmpty()) {
+        messages.keySet().forEach(message -> failedMessages.put(message, e));
+      }
+    } catch (MailException e) {
+      // 인증 실패 등 연결 자체가 실패한 경우
+      messages.keySet().forEach(message -> failedMessages.put(message, e));
+    } finally {
+      sendTimer.record(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    List<Long> sentIds = new ArrayList<>();
+    LocalDateTime now = LocalDateTime.now();
+    messages.forEach((message, mail) -> {
+      Exception failure = failedMessages.get(message);
+      if (failure == null) {
+        sentIds.add(mail.getId());
+        if (mail.getCreatedDate() != null) {
+          deliveryLatencyTimer.record(Duration.between(mail.getCreatedDate(), now));
+        }
+      } else {
+        log.warn("메일 발송 실패 id={}, attempts={}", mail.getId(), mail.getAttempts() + 1, failure);
+        mailOutboxService.markFailed(claim.token(), mail, failure.getMessage(), false);
+      }
+    });
+    mailOutboxService.markSent(claim.token(), sentIds);
+  }
+
+  // 모든 스레드가 바쁘고 대기열도 가득 찼으면 더 가져가지 않음 (가져간 메일이 오래 묶이지 않도록)
+  private boolean hasCapacity() {
+    return executor.getThreadPoolExecutor().getQueue().remainingCapacity() > 0;
+  }
+
+  private MimeMessage createMessage(MailOutbox mail)
+      throws MessagingException, UnsupportedEncodingException {
+    MimeMessage message = mailSender.createMimeMessage();
+    message.addRecipients(RecipientType.TO, mail.getRecipient());
+    message.setSubject(mail.getSubject());
+    message.setText(mail.getContent(), "utf-8", "html");
+    message.setFrom(new InternetAddress(FROM_ADDRESS, FROM_NAME));
+    return message;
+  }
+}
@@ -0,0 +1,129 @@
+package com.devee.devhive.global.mail.service;
+
+import static com.devee.devhive.global.mail.type.MailOutboxStatus.FAILED;
+import static com.devee.devhive.global.mail.type.MailOutboxStatus.PENDING;
+import static com.devee.devhive.global.mail.type.MailOutboxStatus.SENDING;
+
+import com.devee.devhive.global.mail.entity.MailOutbox;
+import com.devee.devhive.global.mail.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메일 발송 대기열 관리
+ * 발송 서버는 claim 으로 가져간 메일을 claimToken 으로 구분해서 성공(삭제)/실패(재시도 예약) 처리한다.
+ * 인증 코드가 본문에 들어가므로 발송한 메일은 삭제하고, 재시도를 포기한 메일은 본문을 지운다.
+ * 재시도 간격은 initial-backoff 부터 두 배씩 늘어나고 max-backoff 를 넘지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+  private static final int MAX_ERROR_LENGTH = 255;
+
+  private final MailOutboxRepository mailOutboxRepository;
+  private final MeterRegistry meterRegistry;
+  private final Clock clock = Clock.systemUTC();
+
+  @Value("${mail.outbox.max-attempts:5}")
+  private int maxAttempts;
+  @Value("${mail.outbox.initial-backoff-seconds:5}")
+  private long initialBackoffSeconds;
+  @Value("${mail.outbox.max-backoff-seconds:600}")
+  private long maxBackoffSeconds;
+  @Value("${mail.outbox.claim-seconds:60}")
+  private long claimSeconds;
+
+  @Transactional
+  public void enqueue(String recipient, String subject, String content) {
+    mailOutboxRepository.save(MailOutbox.builder()
+        .recipient(recipient)
+        .subject(subject)
+        .content(content)
+        .status(PENDING)
+        .nextAttemptAt(clock.instant())
+        .build());
+    meterRegistry.counter("mail.outbox.enqueued").increment();
+  }
+
+  /**
+   * 발송할 차례인 메일을 최대 limit 건 가져감 (다른 서버와 겹치지 않음)
+   */
+  @Transactional
+  public Claim claim(int limit) {
+    Instant now = clock.instant();
+    List<Long> ids = mailOutboxRepository.findDueIds(PENDING, SENDING, now, PageRequest.of(0, limit));
+    if (ids.isEmpty()) {
+      return Claim.EMPTY;
+    }
+    String token = UUID.randomUUID().toString();
+    int claimed = mailOutboxRepository.claim(ids, PENDING, SENDING, token, now,
+        now.plusSeconds(claimSeconds));
+    if (claimed == 0) {
+      return Claim.EMPTY;
+    }
+    return new Claim(token, mailOutboxRepository.findAllByClaimToken(token));
+  }
+
+  @Transactional
+  public void markSent(String token, List<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    mailOutboxRepository.deleteSent(ids, token);
+    meterRegistry.counter("mail.outbox.sent").increment(ids.size());
+  }
+
+  /**
+   * 발송 실패 처리, 재시도 불가(permanent)거나 횟수를 넘으면 본문을 지우고 FAILED
+   */
+  @Transactional
+  public void markFailed(String token, MailOutbox mailOutbox, String error, boolean permanent) {
+    int attempts = mailOutbox.getAttempts() + 1;
+    if (permanent || attempts >= maxAttempts) {
+      mailOutboxRepository.markGivenUp(mailOutbox.getId(), token, FAILED, truncate(error));
+      meterRegistry.counter("mail.outbox.failed").increment();
+      return;
+    }
+    Instant nextAttemptAt = clock.instant().plus(backoff(attempts));
+    mailOutboxRepository.markAttemptFailed(mailOutbox.getId(), token, PENDING,
+        nextAttemptAt, truncate(error));
+    meterRegistry.counter("mail.outbox.retried").increment();
+  }
+
+  @Transactional
+  public void release(String token) {
+    mailOutboxRepository.release(token, PENDING);
+  }
+
+  // attempts 번째 실패 후 대기 시간 : initial * 2^(attempts - 1), 최대 max
+  Duration backoff(int attempts) {
+    long seconds = initialBackoffSeconds << Math.min(attempts - 1, 20);
+    return Duration.ofSeconds(Math.min(seconds, maxBackoffSeconds));
+  }
+
+  private static String truncate(String error) {
+    if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+      return error;
+    }
+    return error.substring(0, MAX_ERROR_LENGTH);
+  }
+
+  public record Claim(String token, List<MailOutbox> mails) {
+
+    static final Claim EMPTY = new Claim(null, List.of());
+
+    public boolean isEmpty() {
+      return mails.isEmpty();
+    }
+  }
+}
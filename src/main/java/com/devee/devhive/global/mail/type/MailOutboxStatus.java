@@ -0,0 +1,7 @@
+package com.devee.devhive.global.mail.type;
+
+public enum MailOutboxStatus {
+  PENDING,  // 발송 대기 (재시도 대기 포함)
+  SENDING,  // 발송 서버가 가져가서 처리중
+  FAILED    // 재시도 횟수 초과
+}
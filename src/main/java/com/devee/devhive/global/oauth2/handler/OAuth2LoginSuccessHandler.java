@@ -8,6 +8,7 @@ import com.devee.devhive.global.config.AppProperties;
 import com.devee.devhive.global.entity.PrincipalDetails;
 import com.devee.devhive.global.oauth2.repository.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.devee.devhive.global.oauth2.util.CookieUtils;
+import com.devee.devhive.global.security.service.RefreshTokenStore;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -29,6 +30,7 @@ public class OAuth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHan
   private final HttpCookieOAuth2AuthorizationRequestRepository auth2AuthorizationRequestRepository;
   private final AppProperties appProperties;
   private final UserRepository userRepository;
+  private final RefreshTokenStore refreshTokenStore;
 
   //oauth2인증이 성공적으로 이뤄졌을 때 실행
   //token을 포함한 uri을 생성 후 인증요청 쿠키를 비워주고 redirect
@@ -66,7 +68,7 @@ public class OAuth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHan
     User user = userRepository.findByEmail(extractUsername(authentication)).orElse(null);
     String refreshToken = "";
     if (user != null) {
-      refreshToken = user.getRefreshToken();
+      refreshToken = refreshTokenStore.issue(user.getEmail());
     }
 
     return UriComponentsBuilder.fromUriString(targetUrl)
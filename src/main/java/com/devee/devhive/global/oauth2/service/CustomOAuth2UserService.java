@@ -11,7 +11,6 @@ import com.devee.devhive.global.exception.InactivityException;
 import com.devee.devhive.global.exception.OAuthProviderMissMatchException;
 import com.devee.devhive.global.oauth2.info.OAuth2UserInfo;
 import com.devee.devhive.global.oauth2.info.OAuth2UserInfoFactory;
-import com.devee.devhive.global.security.service.TokenService;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,7 +26,6 @@ import org.springframework.stereotype.Service;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
   private final UserRepository userRepository;
-  private final TokenService tokenService;
 
   @Override
   public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -69,7 +67,6 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     while (userRepository.existsByNickName(nickname)) {
       nickname = "닉네임변경해주세요" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
     }
-    String refreshToken = tokenService.createRefreshToken();
     return userRepository.save(User.builder()
             .nickName(nickname)
             .email(userInfo.getEmail())
@@ -77,7 +74,6 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             .providerType(providerType)
             .rankPoint(0.0)
             .status(ActivityStatus.ACTIVITY)
-            .refreshToken(refreshToken)
             .build());
   }
 }
\ No newline at end of file
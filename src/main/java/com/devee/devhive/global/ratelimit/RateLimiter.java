@@ -0,0 +1,73 @@
+package com.devee.devhive.global.ratelimit;
+
+import com.devee.devhive.global.config.RateLimitProperties;
+import com.devee.devhive.global.config.RateLimitProperties.Rule;
+import com.devee.devhive.global.ratelimit.RedisTokenBucket.Result;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 규칙(rule) + 호출자(key) 별 요청 제한
+ * Redis 버킷에서 local-batch 개의 토큰을 한 번에 가져와 lease-millis 동안 인스턴스 안에서 나눠 쓰기 때문에
+ * 한도에 한참 못 미치는 호출자는 대부분 Redis 를 거치지 않는다. 쓰지 못한 토큰은 버려지므로 전체 한도를 넘지는 않는다.
+ * Redis 장애 시에는 요청을 막지 않는다.
+ * - rate.limit.rejected : 거절 수 (rule 태그)
+ * - rate.limit.allowed : 허용 수 (rule, source=local/redis 태그)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+  private final RedisTokenBucket redisTokenBucket;
+  private final MeterRegistry meterRegistry;
+  private final Cache<String, AtomicInteger> leases;
+
+  public RateLimiter(RedisTokenBucket redisTokenBucket, MeterRegistry meterRegistry,
+      RateLimitProperties properties) {
+    this.redisTokenBucket = redisTokenBucket;
+    this.meterRegistry = meterRegistry;
+    this.leases = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMillis(properties.getLeaseMillis()))
+        .maximumSize(100_000)
+        .build();
+  }
+
+  /**
+   * 토큰 1개 사용, 허용되면 0 거절되면 다음 요청까지 기다려야 하는 시간(ms) 반환
+   */
+  public long tryAcquire(Rule rule, String key) {
+    String leaseKey = rule.getName() + ":" + key;
+    AtomicInteger lease = leases.getIfPresent(leaseKey);
+    if (lease != null && lease.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+      allowed(rule, "local");
+      return 0;
+    }
+
+    Result result;
+    try {
+      result = redisTokenBucket.take(rule, key, Math.max(1, rule.getLocalBatch()));
+    } catch (RuntimeException e) {
+      log.error("요청 제한 확인 실패, 요청 허용 rule={}", rule.getName(), e);
+      return 0;
+    }
+
+    if (result.granted() == 0) {
+      meterRegistry.counter("rate.limit.rejected", "rule", rule.getName()).increment();
+      return Math.max(1, result.retryAfterMillis());
+    }
+    if (result.granted() > 1) {
+      leases.put(leaseKey, new AtomicInteger(result.granted() - 1));
+    }
+    allowed(rule, "redis");
+    return 0;
+  }
+
+  private void allowed(Rule rule, String source) {
+    meterRegistry.counter("rate.limit.allowed", "rule", rule.getName(), "source", source).increment();
+  }
+}
@@ -0,0 +1,58 @@
+package com.devee.devhive.global.ratelimit;
+
+import com.devee.devhive.global.config.RateLimitProperties.Rule;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis token bucket (rate:{rule}:{key})
+ * 경과 시간만큼 토큰을 채운 뒤 최대 requested 개를 가져가는 과정을 스크립트 한 번으로 처리한다.
+ * 시간은 Redis 서버 시간을 사용해 인스턴스 간 시계 차이 영향을 받지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisTokenBucket {
+
+  private static final String KEY_PREFIX = "rate:";
+
+  // KEYS: 버킷 / ARGV: capacity, ms 당 채워지는 토큰 수, requested
+  // 결과: {가져간 토큰 수, 토큰이 없을 때 다음 토큰까지 남은 시간(ms)}
+  private static final RedisScript<List> TAKE_SCRIPT = new DefaultRedisScript<>(
+      "local capacity = tonumber(ARGV[1]) "
+          + "local rate = tonumber(ARGV[2]) "
+          + "local requested = tonumber(ARGV[3]) "
+          + "local time = redis.call('TIME') "
+          + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+          + "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') "
+          + "local tokens = tonumber(bucket[1]) "
+          + "local ts = tonumber(bucket[2]) "
+          + "if tokens == nil then tokens = capacity ts = now end "
+          + "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) "
+          + "local granted = math.min(math.floor(tokens), requested) "
+          + "tokens = tokens - granted "
+          + "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now) "
+          + "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate)) "
+          + "local retryAfter = 0 "
+          + "if granted == 0 then retryAfter = math.ceil((1 - tokens) / rate) end "
+          + "return {granted, retryAfter}", List.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  public Result take(Rule rule, String key, int requested) {
+    double ratePerMillis = (double) rule.getRefillTokens() / (rule.getRefillPeriodSeconds() * 1000L);
+    List<?> result = redisTemplate.execute(TAKE_SCRIPT, List.of(KEY_PREFIX + rule.getName() + ":" + key),
+        String.valueOf(rule.getCapacity()), String.valueOf(ratePerMillis), String.valueOf(requested));
+    if (result == null || result.size() < 2) {
+      throw new IllegalStateException("rate limit script returned no result");
+    }
+    return new Result(((Number) result.get(0)).intValue(), ((Number) result.get(1)).longValue());
+  }
+
+  public record Result(int granted, long retryAfterMillis) {
+
+  }
+}
@@ -26,4 +26,8 @@ public class RedisService {
     Duration expireDuration = Duration.ofSeconds(duration);
     valueOperations.set(key, value, expireDuration);
   }
+
+  public boolean deleteData(String key) {
+    return Boolean.TRUE.equals(template.delete(key));
+  }
 }
@@ -2,17 +2,32 @@ package com.devee.devhive.global.s3;
 
 import static com.devee.devhive.global.exception.ErrorCode.S3_DELETE_ERROR;
 import static com.devee.devhive.global.exception.ErrorCode.S3_FILE_SIZE_EXCEEDED;
+import static com.devee.devhive.global.exception.ErrorCode.S3_INVALID_UPLOAD;
 import static com.devee.devhive.global.exception.ErrorCode.S3_NOT_FOUND_IMAGE;
 import static com.devee.devhive.global.exception.ErrorCode.S3_NOT_SUPPORT_IMAGE_TYPE;
 import static com.devee.devhive.global.exception.ErrorCode.S3_UPLOAD_ERROR;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.devee.devhive.global.exception.CustomException;
+import com.devee.devhive.global.redis.RedisService;
+import com.devee.devhive.global.s3.dto.PresignedUploadDto;
+import com.devee.devhive.global.s3.dto.PresignedUploadRequest;
 import java.io.IOException;
+import java.net.URL;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -27,12 +42,25 @@ import org.springframework.web.multipart.MultipartFile;
 public class S3Service {
 
     private final AmazonS3 amazonS3;
+    private final RedisService redisService;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    // presigned 업로드 url 유효 시간
+    @Value("${cloud.aws.s3.presigned-expiry-seconds:300}")
+    private long presignedExpirySeconds;
+
     private static final List<String> SUPPORTED_IMAGE_TYPES = Arrays.asList("PNG", "JPG", "JPEG");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+        "PNG", "image/png", "JPG", "image/jpeg", "JPEG", "image/jpeg");
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB in bytes
+    private static final String PENDING_UPLOAD_PREFIX = "upload:";
+    // presigned url 로 올라오는 임시 경로, 확인 후 최종 경로로 복사하고 삭제 (남은 파일은 버킷 lifecycle 규칙으로 정리)
+    private static final String STAGING_PREFIX = "staging/";
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
 
     public String upload(MultipartFile multipartFile) {
         if (multipartFile == null || multipartFile.isEmpty()) {
@@ -62,6 +90,93 @@ public class S3Service {
         }
     }
 
+    /**
+     * 클라이언트가 S3 에 직접 올릴 수 있는 PUT url 발급 (서버를 거치지 않음)
+     * Content-Type 이 서명에 포함되어 다른 형식으로는 올릴 수 없고, 요청한 유저는 확인 단계에서 비교하기 위해 Redis 에 기록
+     * url 은 staging/ 아래 임시 경로를 가리키므로 확인 후 다시 올려도 서비스에서 쓰는 이미지에는 영향이 없다.
+     */
+    public PresignedUploadDto createPresignedUpload(String owner, PresignedUploadRequest request) {
+        if (request.getContentLength() > MAX_FILE_SIZE) {
+            throw new CustomException(S3_FILE_SIZE_EXCEEDED);
+        }
+        String fileName = request.getFileName();
+        String type = fileName.substring(fileName.lastIndexOf(".") + 1).toUpperCase();
+        validateFileType(type);
+        String contentType = CONTENT_TYPES.get(type);
+        if (request.getContentType() != null && !contentType.equalsIgnoreCase(request.getContentType())) {
+            throw new CustomException(S3_NOT_SUPPORT_IMAGE_TYPE);
+        }
+
+        String objectKey = UUID.randomUUID() + "." + type.toLowerCase();
+        Date expiration = Date.from(Instant.now().plusSeconds(presignedExpirySeconds));
+        URL uploadUrl = amazonS3.generatePresignedUrl(
+            new GeneratePresignedUrlRequest(bucket, STAGING_PREFIX + objectKey, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType));
+        // 업로드가 끝나기 전에 만료되지 않도록 url 유효 시간의 두 배 동안 보관
+        redisService.setDataExpire(PENDING_UPLOAD_PREFIX + objectKey, owner, presignedExpirySeconds * 2);
+
+        return PresignedUploadDto.builder()
+            .uploadUrl(uploadUrl.toString())
+            .objectKey(objectKey)
+            .contentType(contentType)
+            .expiresAt(expiration.toInstant())
+            .build();
+    }
+
+    /**
+     * 직접 업로드된 파일 확인 후 최종 경로로 복사하고 url 반환
+     * 본인이 발급받은 업로드인지, 크기/형식(Content-Type, 파일 시그니처)이 맞는지 확인하고 맞지 않으면 S3 에서 삭제
+     * 확인한 뒤 바뀐 파일이 복사되지 않도록 확인 시점의 ETag 가 같을 때만 복사하고, 임시 파일은 삭제한다.
+     */
+    public String confirmUpload(String owner, String objectKey) {
+        String pendingKey = PENDING_UPLOAD_PREFIX + objectKey;
+        if (!Objects.equals(owner, redisService.getData(pendingKey))) {
+            throw new CustomException(S3_INVALID_UPLOAD);
+        }
+        String stagingKey = STAGING_PREFIX + objectKey;
+
+        ObjectMetadata metadata;
+        try {
+            metadata = amazonS3.getObjectMetadata(bucket, stagingKey);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new CustomException(S3_NOT_FOUND_IMAGE);
+            }
+            log.error("Error reading uploaded file from S3: {}", e.getMessage());
+            throw new CustomException(S3_UPLOAD_ERROR);
+        }
+
+        String type = objectKey.substring(objectKey.lastIndexOf(".") + 1).toUpperCase();
+        if (metadata.getContentLength() <= 0 || metadata.getContentLength() > MAX_FILE_SIZE) {
+            rejectUpload(pendingKey, stagingKey);
+            throw new CustomException(S3_FILE_SIZE_EXCEEDED);
+        }
+        if (!CONTENT_TYPES.get(type).equalsIgnoreCase(metadata.getContentType())
+            || !hasImageSignature(stagingKey, type, metadata.getETag())) {
+            rejectUpload(pendingKey, stagingKey);
+            throw new CustomException(S3_NOT_SUPPORT_IMAGE_TYPE);
+        }
+
+        // 확인 표시를 먼저 지워 같은 업로드를 다시 확인할 수 없게 함
+        redisService.deleteData(pendingKey);
+        try {
+            CopyObjectResult copied = amazonS3.copyObject(
+                new CopyObjectRequest(bucket, stagingKey, bucket, objectKey)
+                    .withMatchingETagConstraint(metadata.getETag()));
+            if (copied == null) {
+                // 확인한 뒤 다시 올린 경우
+                delete(stagingKey);
+                throw new CustomException(S3_INVALID_UPLOAD);
+            }
+        } catch (AmazonS3Exception e) {
+            log.error("Error copying uploaded file in S3: {}", e.getMessage());
+            throw new CustomException(S3_UPLOAD_ERROR);
+        }
+        delete(stagingKey);
+        return amazonS3.getUrl(bucket, objectKey).toString();
+    }
+
     public void delete(String filename) {
         try {
             amazonS3.deleteObject(bucket, filename);
@@ -71,6 +186,31 @@ public class S3Service {
         }
     }
 
+    // 파일 앞부분만 읽어서 실제 이미지 형식인지 확인 (크기/형식을 확인한 파일과 같은 ETag 일 때만)
+    private boolean hasImageSignature(String objectKey, String type, String eTag) {
+        byte[] signature = "PNG".equals(type) ? PNG_SIGNATURE : JPEG_SIGNATURE;
+        GetObjectRequest request = new GetObjectRequest(bucket, objectKey)
+            .withRange(0, signature.length - 1)
+            .withMatchingETagConstraint(eTag);
+        try (S3Object object = amazonS3.getObject(request)) {
+            if (object == null) {
+                return false;
+            }
+            S3ObjectInputStream content = object.getObjectContent();
+            byte[] head = content.readNBytes(signature.length);
+            content.abort();
+            return Arrays.equals(head, signature);
+        } catch (IOException | AmazonS3Exception e) {
+            log.error("Error reading uploaded file from S3: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void rejectUpload(String pendingKey, String objectKey) {
+        redisService.deleteData(pendingKey);
+        delete(objectKey);
+    }
+
     private void validateFileType(String type) {
         if (!SUPPORTED_IMAGE_TYPES.contains(type)) {
             throw new CustomException(S3_NOT_SUPPORT_IMAGE_TYPE);
@@ -0,0 +1,24 @@
+package com.devee.devhive.global.s3.dto;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * uploadUrl 로 Content-Type 헤더와 함께 PUT 업로드 후, objectKey 로 확인 api 호출
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PresignedUploadDto {
+
+    private String uploadUrl;
+    private String objectKey;
+    private String contentType;
+    private Instant expiresAt;
+}
@@ -0,0 +1,23 @@
+package com.devee.devhive.global.s3.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PresignedUploadRequest {
+
+    @NotBlank(message = "필수 입력")
+    private String fileName;
+    private String contentType;
+    @Positive
+    private long contentLength;
+}
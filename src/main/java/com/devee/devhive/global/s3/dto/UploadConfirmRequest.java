@@ -0,0 +1,19 @@
+package com.devee.devhive.global.s3.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UploadConfirmRequest {
+
+    @NotBlank(message = "필수 입력")
+    private String objectKey;
+}
@@ -0,0 +1,88 @@
+package com.devee.devhive.global.security.filter;
+
+import static com.devee.devhive.global.exception.ErrorCode.TOO_MANY_REQUESTS;
+
+import com.devee.devhive.global.config.RateLimitProperties;
+import com.devee.devhive.global.config.RateLimitProperties.Rule;
+import com.devee.devhive.global.entity.PrincipalDetails;
+import com.devee.devhive.global.exception.CustomException;
+import com.devee.devhive.global.exception.CustomException.CustomExceptionResponse;
+import com.devee.devhive.global.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 비용이 큰 요청(메일 발송, 로그인, 이미지 업로드, 검색 등) 제한 필터
+ * rate-limit.rules 중 method + path 가 일치하는 규칙마다 호출자(로그인 유저는 email, 아니면 IP) 별 토큰을 사용하고
+ * 토큰이 없으면 429 + Retry-After 로 응답한다.
+ * JwtAuthenticationProcessingFilter 다음에 실행되어야 로그인 유저를 구분할 수 있다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private final RateLimitProperties properties;
+  private final RateLimiter rateLimiter;
+  private final ObjectMapper objectMapper;
+
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    if (properties.isEnabled()) {
+      for (Rule rule : properties.getRules()) {
+        if (!matches(rule, request)) {
+          continue;
+        }
+        long retryAfterMillis = rateLimiter.tryAcquire(rule, resolveKey(request));
+        if (retryAfterMillis > 0) {
+          reject(response, retryAfterMillis);
+          log.info("요청 제한 초과 rule={}, uri={}", rule.getName(), request.getRequestURI());
+          return;
+        }
+      }
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  private boolean matches(Rule rule, HttpServletRequest request) {
+    if (rule.getMethod() != null && !rule.getMethod().equalsIgnoreCase(request.getMethod())) {
+      return false;
+    }
+    return pathMatcher.match(rule.getPath(), request.getRequestURI());
+  }
+
+  private String resolveKey(HttpServletRequest request) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principal) {
+      return "user:" + principal.getEmail();
+    }
+    // 신뢰하는 프록시 뒤에서는 RemoteIpValve 가 X-Forwarded-For 의 클라이언트 IP 로 바꿔둔 값
+    // (server.forward-headers-strategy=native)
+    return "ip:" + request.getRemoteAddr();
+  }
+
+  private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+    CustomException exception = new CustomException(TOO_MANY_REQUESTS);
+    response.setStatus(exception.getStatus());
+    response.setHeader("Retry-After", String.valueOf((retryAfterMillis + 999) / 1000));
+    response.setCharacterEncoding("UTF-8");
+    response.setContentType("application/json;charset=UTF-8");
+    response.getWriter().write(objectMapper.writeValueAsString(CustomExceptionResponse.builder()
+        .status(exception.getStatus())
+        .code(exception.getErrorCode().name())
+        .message(exception.getMessage())
+        .build()));
+  }
+}
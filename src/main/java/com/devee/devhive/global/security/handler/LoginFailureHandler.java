@@ -1,9 +1,11 @@
 package com.devee.devhive.global.security.handler;
 
 import static com.devee.devhive.global.exception.ErrorCode.NONE_CORRECT_EMAIL_AND_PW;
+import static com.devee.devhive.global.exception.ErrorCode.TOO_MANY_PASSWORD_REQUESTS;
 
 import com.devee.devhive.global.exception.InactivityException;
 import com.devee.devhive.global.exception.OAuthProviderMissMatchException;
+import com.devee.devhive.global.exception.PasswordHashingRejectedException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
@@ -24,6 +26,14 @@ public class LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
       response.setContentType("text/plain;charset=UTF-8");
       response.getWriter().write("퇴출전적으로 인해 계정이 비활성화되어있습니다.");
       log.info("계정 비활성화로 로그인에 실패했습니다. 메시지: {}", exception.getMessage());
+    } else if (exception instanceof PasswordHashingRejectedException) {
+      // 로그인 요청이 몰려 비밀번호 확인 대기열 초과
+      response.setStatus(TOO_MANY_PASSWORD_REQUESTS.getHttpStatus().value()); // 429 Too Many Requests
+      response.setHeader("Retry-After", "1");
+      response.setCharacterEncoding("UTF-8");
+      response.setContentType("text/plain;charset=UTF-8");
+      response.getWriter().write(TOO_MANY_PASSWORD_REQUESTS.getDetail());
+      log.warn("비밀번호 확인 대기열 초과로 로그인에 실패했습니다. 메시지: {}", exception.getMessage());
     } else if(exception instanceof OAuthProviderMissMatchException) {
       // 소셜타입 불일치
       response.setStatus(HttpServletResponse.SC_CONFLICT); // 409 ProviderType Conflict
@@ -5,6 +5,7 @@ import com.devee.devhive.domain.user.entity.User;
 import com.devee.devhive.domain.user.repository.UserRepository;
 import com.devee.devhive.global.entity.PrincipalDetails;
 import com.devee.devhive.global.security.dto.TokenDto;
+import com.devee.devhive.global.security.service.RefreshTokenStore;
 import com.devee.devhive.global.security.service.TokenService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +22,7 @@ public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
   private final TokenService tokenService;
   private final UserRepository userRepository;
+  private final RefreshTokenStore refreshTokenStore;
 
   @Override
   public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -30,17 +32,13 @@ public class LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     User user = userRepository.findByEmail(email).orElse(null);
 
     if (user != null) {
-      // AccessToken 및 RefreshToken 생성
+      // AccessToken 생성, RefreshToken 은 새 로그인 세션(family)으로 Redis 에 저장 후 발급
       String accessToken = tokenService.createAccessToken(email);
-      String refreshToken = tokenService.createRefreshToken();
+      String refreshToken = refreshTokenStore.issue(email);
 
       // 응답 헤더에 AccessToken 및 RefreshToken 추가
       tokenService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
 
-      // 사용자의 RefreshToken 업데이트
-      user.updateRefreshToken(refreshToken);
-      userRepository.saveAndFlush(user);
-
       log.info("로그인에 성공하였습니다. 이메일: {}", email);
       log.info("로그인에 성공하였습니다. AccessToken: {}", accessToken);
 
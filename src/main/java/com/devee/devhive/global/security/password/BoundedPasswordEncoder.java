@@ -0,0 +1,100 @@
+package com.devee.devhive.global.security.password;
+
+import com.devee.devhive.global.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 해시(BCrypt)를 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * 로그인이 몰려도 해시 계산은 pool-size 개까지만 동시에 CPU 를 사용하고, 대기열(queue-capacity)이 가득 차거나
+ * max-wait 안에 끝나지 않으면 바로 PasswordHashingRejectedException(429) 으로 실패시킨다.
+ * - password.hash.duration : 해시 계산 시간 (operation 태그 encode/matches)
+ * - password.hash.queue.wait : 대기열에서 기다린 시간
+ * - password.hash.rejected : 대기열 초과/대기 시간 초과로 거절된 횟수
+ * - password.hash.queue.size : 현재 대기열 크기
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolTaskExecutor executor;
+  private final long maxWaitMillis;
+
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Timer queueWaitTimer;
+  private final Counter rejectedCounter;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolTaskExecutor executor,
+      long maxWaitMillis, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.maxWaitMillis = maxWaitMillis;
+    this.encodeTimer = meterRegistry.timer("password.hash.duration", "operation", "encode");
+    this.matchesTimer = meterRegistry.timer("password.hash.duration", "operation", "matches");
+    this.queueWaitTimer = meterRegistry.timer("password.hash.queue.wait");
+    this.rejectedCounter = meterRegistry.counter("password.hash.rejected");
+    meterRegistry.gauge("password.hash.queue.size", executor,
+        taskExecutor -> taskExecutor.getThreadPoolExecutor().getQueue().size());
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  private <T> T submit(Callable<T> task) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        return task.call();
+      });
+    } catch (RejectedExecutionException e) {
+      throw reject("비밀번호 해시 대기열 초과");
+    }
+
+    try {
+      return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw reject("비밀번호 해시 대기 시간 초과");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw reject("비밀번호 해시 대기 중 인터럽트");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private PasswordHashingRejectedException reject(String reason) {
+    rejectedCounter.increment();
+    log.warn("{} - queue={}", reason, executor.getThreadPoolExecutor().getQueue().size());
+    return new PasswordHashingRejectedException(reason);
+  }
+}
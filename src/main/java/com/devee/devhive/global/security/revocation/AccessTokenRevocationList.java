@@ -0,0 +1,123 @@
+package com.devee.devhive.global.security.revocation;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃된 AccessToken 폐기 목록
+ * - Redis : revoked:at:{jti}, ttl = 토큰의 남은 유효시간 (만료되면 자연히 삭제)
+ * - 로컬 : 폐기된 jti 의 Bloom filter, 폐기 시 revoked:at 채널로 jti 를 발행해 모든 인스턴스가 추가한다.
+ * 대부분의 토큰은 Bloom filter 에 없으므로 Redis 조회 없이 통과하고, 필터에 걸린 경우에만 Redis 로 확인한다.
+ * Bloom filter 는 삭제가 안 되고 pub/sub 메시지는 유실될 수 있어 주기적으로 Redis 의 키로 다시 만든다.
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList implements MessageListener {
+
+  public static final String CHANNEL = "revoked:at";
+  private static final String KEY_PREFIX = "revoked:at:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+
+  private volatile JtiBloomFilter bloomFilter;
+  // 재생성 중 발행된 jti 가 새 필터에서 빠지지 않도록 함께 추가
+  private volatile JtiBloomFilter rebuildingFilter;
+
+  public AccessTokenRevocationList(StringRedisTemplate redisTemplate,
+      @Value("${security.revocation.expected-insertions:100000}") long expectedInsertions,
+      @Value("${security.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+    this.redisTemplate = redisTemplate;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.bloomFilter = new JtiBloomFilter(expectedInsertions, falsePositiveRate);
+  }
+
+  /**
+   * 남은 유효시간 동안 토큰 폐기 (jti 가 없는 토큰, 이미 만료된 토큰은 무시)
+   */
+  public void revoke(DecodedJWT decodedJWT) {
+    String jti = decodedJWT.getId();
+    Instant expiresAt = decodedJWT.getExpiresAtAsInstant();
+    if (jti == null || expiresAt == null) {
+      return;
+    }
+    Duration remaining = Duration.between(Instant.now(), expiresAt);
+    if (remaining.isNegative() || remaining.isZero()) {
+      return;
+    }
+
+    redisTemplate.opsForValue().set(KEY_PREFIX + jti, "1", remaining);
+    add(jti);
+    redisTemplate.convertAndSend(CHANNEL, jti);
+  }
+
+  public boolean isRevoked(String jti) {
+    if (jti == null || !bloomFilter.mightContain(jti)) {
+      return false;
+    }
+    return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jti));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    add(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    rebuild();
+  }
+
+  // Redis 에 남아있는(만료되지 않은) jti 로 새 필터를 만들어 교체
+  @Scheduled(fixedDelayString = "${security.revocation.rebuild-interval-ms:60000}",
+      initialDelayString = "${security.revocation.rebuild-interval-ms:60000}")
+  public void rebuild() {
+    JtiBloomFilter newFilter = new JtiBloomFilter(expectedInsertions, falsePositiveRate);
+    rebuildingFilter = newFilter;
+    try {
+      ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+      Integer count = redisTemplate.execute((RedisCallback<Integer>) connection -> {
+        int scanned = 0;
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+          while (cursor.hasNext()) {
+            String key = new String(cursor.next(), StandardCharsets.UTF_8);
+            newFilter.put(key.substring(KEY_PREFIX.length()));
+            scanned++;
+          }
+        }
+        return scanned;
+      });
+      bloomFilter = newFilter;
+      log.debug("폐기 토큰 필터 재생성 완료 count={}", count);
+    } catch (RuntimeException e) {
+      log.error("폐기 토큰 필터 재생성 실패, 기존 필터 유지", e);
+    } finally {
+      rebuildingFilter = null;
+    }
+  }
+
+  // 재생성 중인 필터를 먼저 확인 (교체 직후 현재 필터만 보고 새 필터를 놓치는 경우 방지)
+  private void add(String jti) {
+    JtiBloomFilter rebuilding = rebuildingFilter;
+    if (rebuilding != null) {
+      rebuilding.put(jti);
+    }
+    bloomFilter.put(jti);
+  }
+}
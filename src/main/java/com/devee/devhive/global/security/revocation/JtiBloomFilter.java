@@ -0,0 +1,71 @@
+package com.devee.devhive.global.security.revocation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 id(jti) 용 Bloom filter
+ * mightContain 이 false 면 확실히 폐기되지 않은 토큰이므로 Redis 조회 없이 통과시킨다.
+ * true 는 오탐일 수 있어 Redis 로 한 번 더 확인한다.
+ * 삭제는 지원하지 않으므로 만료된 항목은 주기적으로 새 필터를 만들어 교체하는 방식으로 정리한다. (thread-safe)
+ */
+public class JtiBloomFilter {
+
+  private final AtomicLongArray bits;
+  private final int bitSize;
+  private final int hashCount;
+
+  public JtiBloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bitSize = (int) Math.min(Math.max(64, m), Integer.MAX_VALUE - 63);
+    this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    this.bits = new AtomicLongArray((bitSize + 63) / 64);
+  }
+
+  public void put(String value) {
+    long hash = hash64(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      int index = Math.floorMod(h1 + i * h2, bitSize);
+      long mask = 1L << index;
+      int word = index >>> 6;
+      long current;
+      do {
+        current = bits.get(word);
+        if ((current & mask) != 0) {
+          break;
+        }
+      } while (!bits.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  public boolean mightContain(String value) {
+    long hash = hash64(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      int index = Math.floorMod(h1 + i * h2, bitSize);
+      if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // FNV-1a 64bit + murmur3 finalizer (비트 분산용)
+  private static long hash64(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
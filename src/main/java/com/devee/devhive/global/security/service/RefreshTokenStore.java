@@ -0,0 +1,199 @@
+package com.devee.devhive.global.security.service;
+
+import static com.devee.devhive.global.exception.ErrorCode.INVALID_JWT;
+import static com.devee.devhive.global.exception.ErrorCode.REUSED_REFRESH_TOKEN;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.devee.devhive.domain.user.repository.UserRepository;
+import com.devee.devhive.global.exception.CustomException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰 세션 저장소 (Redis)
+ * - rt:{email}:token:{토큰 sha256} : hash(family, usedAt), ttl = 리프레시 토큰 만료 시간
+ * - rt:{email}:families : hash(familyId -> 만료 시각 ms), 로그인 한 번(기기 하나)에서 이어지는 토큰 묶음 목록
+ *   family 가 목록에서 빠지면 묶음 전체가 무효, 키를 지우면 모든 기기 로그아웃
+ * 한 유저의 키는 모두 {email} 해시 태그로 같은 슬롯에 두고, 스크립트에서 쓰는 키는 모두 KEYS 로 넘긴다. (Redis Cluster)
+ * 토큰에 email, family claim 이 있어 재발급은 스크립트 한 번으로 이전 토큰을 사용 처리하고 새 토큰을 저장한다. (DB 조회/쓰기 없음)
+ * 사용된 토큰이 reuse-grace 이후에 다시 들어오면 탈취로 보고 해당 family 를 폐기한다.
+ * (여러 탭에서 동시에 재발급하는 경우는 grace 안에 들어오므로 같은 family 로 한 번 더 발급)
+ * 저장소 도입 이전에 발급된 토큰은 user.refresh_token 컬럼으로 한 번만 확인 후 새 family 로 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+  private static final String KEY_PREFIX = "rt:";
+
+  private static final long ROTATED = 1L;
+  private static final long REUSED = -1L;
+
+  // KEYS: 토큰, family 목록 / ARGV: familyId, ttl(ms), 현재 시각(ms), family 만료 시각(ms)
+  private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('HSET', KEYS[1], 'family', ARGV[1], 'usedAt', '0') "
+          + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+          + "local families = redis.call('HGETALL', KEYS[2]) "
+          + "for i = 1, #families, 2 do "
+          + "  if tonumber(families[i + 1]) <= tonumber(ARGV[3]) then "
+          + "    redis.call('HDEL', KEYS[2], families[i]) "
+          + "  end "
+          + "end "
+          + "redis.call('HSET', KEYS[2], ARGV[1], ARGV[4]) "
+          + "redis.call('PEXPIRE', KEYS[2], ARGV[2]) "
+          + "return 1", Long.class);
+
+  // KEYS: 이전 토큰, 새 토큰, family 목록 / ARGV: familyId, ttl(ms), 현재 시각(ms), reuse-grace(ms), family 만료 시각(ms)
+  // 결과: 1 교체 | -1 재사용 감지(family 폐기) | 0 없는 토큰 혹은 폐기된 family
+  private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('HGET', KEYS[1], 'family') ~= ARGV[1] then return 0 end "
+          + "local expiresAt = redis.call('HGET', KEYS[3], ARGV[1]) "
+          + "if not expiresAt or tonumber(expiresAt) <= tonumber(ARGV[3]) then return 0 end "
+          + "local usedAt = tonumber(redis.call('HGET', KEYS[1], 'usedAt')) "
+          + "if usedAt > 0 and tonumber(ARGV[3]) - usedAt > tonumber(ARGV[4]) then "
+          + "  redis.call('HDEL', KEYS[3], ARGV[1]) "
+          + "  return " + REUSED + " "
+          + "end "
+          + "if usedAt == 0 then redis.call('HSET', KEYS[1], 'usedAt', ARGV[3]) end "
+          + "redis.call('HSET', KEYS[2], 'family', ARGV[1], 'usedAt', '0') "
+          + "redis.call('PEXPIRE', KEYS[2], ARGV[2]) "
+          + "redis.call('HSET', KEYS[3], ARGV[1], ARGV[5]) "
+          + "redis.call('PEXPIRE', KEYS[3], ARGV[2]) "
+          + "return " + ROTATED, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final TokenService tokenService;
+  private final UserRepository userRepository;
+
+  // 사용된 토큰으로 다시 재발급해도 재사용으로 보지 않는 시간 (동시 재발급 허용)
+  @Value("${spring.jwt.refresh.reuse-grace-millis:10000}")
+  private long reuseGraceMillis;
+
+  /**
+   * 로그인 시 새 family 로 리프레시 토큰 발급
+   */
+  public String issue(String email) {
+    String familyId = UUID.randomUUID().toString();
+    String refreshToken = tokenService.createRefreshToken(email, familyId);
+    long now = System.currentTimeMillis();
+    redisTemplate.execute(ISSUE_SCRIPT,
+        List.of(tokenKey(email, refreshToken), familiesKey(email)),
+        familyId, String.valueOf(ttlMillis()), String.valueOf(now), String.valueOf(now + ttlMillis()));
+    return refreshToken;
+  }
+
+  /**
+   * 리프레시 토큰 교체 (RTR)
+   * 유효하지 않거나 저장되지 않았거나 폐기된 토큰이면 INVALID_JWT,
+   * reuse-grace 가 지나 다시 사용된 토큰이면 family 폐기 후 REUSED_REFRESH_TOKEN 예외
+   */
+  public RotatedToken rotate(String refreshToken) {
+    DecodedJWT decodedJWT = tokenService.verifyToken(refreshToken);
+    String email = tokenService.extractEmail(decodedJWT).orElse(null);
+    String familyId = tokenService.extractFamily(decodedJWT).orElse(null);
+    if (email == null || familyId == null) {
+      return rotateLegacy(refreshToken);
+    }
+
+    String newRefreshToken = tokenService.createRefreshToken(email, familyId);
+    long now = System.currentTimeMillis();
+    Long result = redisTemplate.execute(ROTATE_SCRIPT,
+        List.of(tokenKey(email, refreshToken), tokenKey(email, newRefreshToken), familiesKey(email)),
+        familyId, String.valueOf(ttlMillis()), String.valueOf(now),
+        String.valueOf(reuseGraceMillis), String.valueOf(now + ttlMillis()));
+
+    if (result == null || result == 0) {
+      throw new CustomException(INVALID_JWT);
+    }
+    if (result == REUSED) {
+      log.warn("이미 사용된 리프레시 토큰 재사용 감지, 해당 로그인 세션 폐기. 이메일: {}", email);
+      throw new CustomException(REUSED_REFRESH_TOKEN);
+    }
+    return new RotatedToken(email, newRefreshToken);
+  }
+
+  /**
+   * 현재 기기 로그아웃 (토큰이 속한 family 폐기), 유효하지 않은 토큰은 무시
+   */
+  public void revoke(String refreshToken) {
+    DecodedJWT decodedJWT;
+    try {
+      decodedJWT = tokenService.verifyToken(refreshToken);
+    } catch (CustomException e) {
+      return;
+    }
+    String email = tokenService.extractEmail(decodedJWT).orElse(null);
+    String familyId = tokenService.extractFamily(decodedJWT).orElse(null);
+    if (email == null || familyId == null) {
+      revokeLegacy(refreshToken);
+      return;
+    }
+    redisTemplate.opsForHash().delete(familiesKey(email), familyId);
+  }
+
+  /**
+   * 모든 기기 로그아웃 (family 목록 키 하나를 지워 유저의 모든 family 를 한 번에 폐기)
+   */
+  public void revokeAll(String email) {
+    redisTemplate.delete(familiesKey(email));
+  }
+
+  // 저장소 도입 이전 토큰: 컬럼을 비우는 데 성공한 요청 하나만 새 family 로 교체
+  private RotatedToken rotateLegacy(String refreshToken) {
+    try {
+      String email = userRepository.findEmailByLegacyRefreshToken(refreshToken)
+          .orElseThrow(() -> new CustomException(INVALID_JWT));
+      if (userRepository.clearLegacyRefreshToken(refreshToken) == 0) {
+        throw new CustomException(INVALID_JWT);
+      }
+      return new RotatedToken(email, issue(email));
+    } catch (DataAccessException e) {
+      // refresh_token 컬럼이 없는 DB
+      throw new CustomException(INVALID_JWT);
+    }
+  }
+
+  private void revokeLegacy(String refreshToken) {
+    try {
+      userRepository.clearLegacyRefreshToken(refreshToken);
+    } catch (DataAccessException e) {
+      log.debug("legacy refresh token column not available: {}", e.getMessage());
+    }
+  }
+
+  private long ttlMillis() {
+    return tokenService.getRefreshTokenExpirationPeriod();
+  }
+
+  private static String familiesKey(String email) {
+    return KEY_PREFIX + "{" + email + "}:families";
+  }
+
+  // 토큰 원문 대신 해시를 키로 사용 (Redis 에 토큰 원문을 남기지 않음)
+  private static String tokenKey(String email, String refreshToken) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+      return KEY_PREFIX + "{" + email + "}:token:" + HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public record RotatedToken(String email, String refreshToken) {
+
+  }
+}
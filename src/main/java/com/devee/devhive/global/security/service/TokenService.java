@@ -3,16 +3,21 @@ package com.devee.devhive.global.security.service;
 import static com.devee.devhive.global.exception.ErrorCode.INVALID_JWT;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.devee.devhive.domain.user.repository.UserRepository;
 import com.devee.devhive.global.exception.CustomException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +39,7 @@ public class TokenService {
   private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
   private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
   private static final String EMAIL_CLAIM = "email";
+  private static final String FAMILY_CLAIM = "family";
   private static final String BEARER = "Bearer ";
 
   private final UserRepository userRepository;
@@ -49,21 +55,39 @@ public class TokenService {
   @Value("${spring.jwt.refresh.header}")
   private String refreshHeader;
 
+  // 요청마다 새로 만들지 않도록 알고리즘과 검증기는 한 번만 생성 (JWTVerifier 는 thread-safe)
+  @Getter(AccessLevel.NONE)
+  private Algorithm algorithm;
+  @Getter(AccessLevel.NONE)
+  private JWTVerifier verifier;
+
+  @PostConstruct
+  public void init() {
+    algorithm = Algorithm.HMAC512(secretKey);
+    verifier = JWT.require(algorithm).build();
+  }
+
   public String createAccessToken(String email) {
     Date now = new Date();
     return JWT.create() // JWT 토큰을 생성하는 빌더 반환
         .withSubject(ACCESS_TOKEN_SUBJECT) // JWT의 Subject 지정 -> AccessToken이므로 AccessToken
+        .withJWTId(UUID.randomUUID().toString()) // 로그아웃 시 폐기 목록에 등록할 토큰 id
         .withExpiresAt(new Date(now.getTime() + accessTokenExpirationPeriod)) // 토큰 만료 시간 설정
         .withClaim(EMAIL_CLAIM, email)
-        .sign(Algorithm.HMAC512(secretKey)); // HMAC512 알고리즘 사용, application-jwt.yml에서 지정한 secret 키로 암호화
+        .sign(algorithm); // HMAC512 알고리즘 사용, application-jwt.yml에서 지정한 secret 키로 암호화
   }
 
-  public String createRefreshToken() {
+  // 같은 시각에 발급돼도 토큰(저장소 키)이 겹치지 않도록 jti 포함
+  // 저장소 키를 토큰만으로 찾을 수 있도록 email, family(로그인 세션 id) 포함
+  public String createRefreshToken(String email, String familyId) {
     Date now = new Date();
     return JWT.create()
         .withSubject(REFRESH_TOKEN_SUBJECT)
+        .withJWTId(UUID.randomUUID().toString())
         .withExpiresAt(new Date(now.getTime() + refreshTokenExpirationPeriod))
-        .sign(Algorithm.HMAC512(secretKey));
+        .withClaim(EMAIL_CLAIM, email)
+        .withClaim(FAMILY_CLAIM, familyId)
+        .sign(algorithm);
   }
 
   /**
@@ -119,19 +143,34 @@ public class TokenService {
   }
 
   /**
-   * AccessToken에서 Email 추출 추출 전에 JWT.require()로 검증기 생성 verify로 AceessToken 검증 후 유효하다면 getClaim()으로
-   * 이메일 추출 유효하지 않다면 빈 Optional 객체 반환
+   * AccessToken 검증 후 Email 추출 유효하지 않다면 INVALID_JWT 예외
    */
   public Optional<String> extractEmail(String accessToken) {
+    return extractEmail(verifyToken(accessToken));
+  }
+
+  /**
+   * 이미 검증된 토큰에서 claim(email) 추출 (다시 검증하지 않음)
+   */
+  public Optional<String> extractEmail(DecodedJWT decodedJWT) {
+    return Optional.ofNullable(decodedJWT.getClaim(EMAIL_CLAIM).asString());
+  }
+
+  /**
+   * 이미 검증된 리프레시 토큰에서 claim(family) 추출
+   */
+  public Optional<String> extractFamily(DecodedJWT decodedJWT) {
+    return Optional.ofNullable(decodedJWT.getClaim(FAMILY_CLAIM).asString());
+  }
+
+  /**
+   * 서명, 만료시간 검증 후 디코딩된 토큰 반환 유효하지 않다면 INVALID_JWT 예외
+   */
+  public DecodedJWT verifyToken(String token) {
     try {
-      // 토큰 유효성 검사하는 데에 사용할 알고리즘이 있는 JWT verifier builder 반환
-      return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-          .build() // 반환된 빌더로 JWT verifier 생성
-          .verify(accessToken) // accessToken을 검증하고 유효하지 않다면 예외 발생
-          .getClaim(EMAIL_CLAIM) // claim(email) 가져오기
-          .asString());
-    } catch (Exception e) {
-      log.error("액세스 토큰이 유효하지 않습니다.");
+      return verifier.verify(token);
+    } catch (JWTVerificationException e) {
+      log.error("유효하지 않은 토큰입니다. {}", e.getMessage());
       throw new CustomException(INVALID_JWT);
     }
   }
@@ -161,25 +200,10 @@ public class TokenService {
     response.addCookie(cookie);
   }
 
+  // 검증기에서 만료시간까지 함께 검증
   public boolean isTokenValid(String token) {
-    try {
-      JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
-      return isValidateToken(token);
-    } catch (Exception e) {
-      log.error("유효하지 않은 토큰입니다. {}", e.getMessage());
-      throw new CustomException(INVALID_JWT);
-    }
-  }
-  public boolean isValidateToken(String token) {
-    // 토큰 만료시간이 현재시간보다 전이면 false
-    return !toDecodedJWT(token).getExpiresAt().before(new Date());
-  }
-
-  private DecodedJWT toDecodedJWT(String jwtToken) {
-    return JWT.require(Algorithm.HMAC512(secretKey))
-        .acceptExpiresAt(accessTokenExpirationPeriod)
-        .build()
-        .verify(jwtToken);
+    verifyToken(token);
+    return true;
   }
 
   // 로그아웃 시 만료된 토큰으로 설정
@@ -189,7 +213,7 @@ public class TokenService {
         .withSubject(ACCESS_TOKEN_SUBJECT)
         .withExpiresAt(Instant.ofEpochSecond(0))
         .withClaim(EMAIL_CLAIM, email)
-        .sign(Algorithm.HMAC512(secretKey));
+        .sign(algorithm);
 
     setAccessTokenHeader(response, BEARER + expireToken);
     setRefreshTokenHeader(response, BEARER + expireToken);
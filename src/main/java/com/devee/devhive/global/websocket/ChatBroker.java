@@ -0,0 +1,18 @@
+package com.devee.devhive.global.websocket;
+
+import com.devee.devhive.domain.project.chat.entity.dto.ChatMessageDto;
+
+/**
+ * 채팅방(/sub/chat/{roomId}) 구독자에게 메시지를 전달하는 브로커
+ * chat.broker.mode 설정(simple, redis)에 따라 구현체가 선택된다.
+ */
+public interface ChatBroker {
+
+  String ROOM_DESTINATION_PREFIX = "/sub/chat/";
+
+  void publish(Long roomId, ChatMessageDto message);
+
+  static String roomDestination(Long roomId) {
+    return ROOM_DESTINATION_PREFIX + roomId;
+  }
+}
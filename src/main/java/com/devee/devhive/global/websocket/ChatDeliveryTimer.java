@@ -0,0 +1,56 @@
+package com.devee.devhive.global.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientOutboundChannel 인터셉터
+ * 채팅방 메시지(MESSAGE 프레임)가 outbound 대기열에 들어간 시점부터 세션으로 전송될 때까지의 시간을 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatDeliveryTimer implements ExecutorChannelInterceptor {
+
+  private static final String ENQUEUED_AT_HEADER = "chatEnqueuedAt";
+
+  private final ChatMetrics chatMetrics;
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+      return message;
+    }
+    return MessageBuilder.fromMessage(message)
+        .setHeader(ENQUEUED_AT_HEADER, System.nanoTime())
+        .build();
+  }
+
+  @Override
+  public void afterMessageHandled(Message<?> message, MessageChannel channel,
+      MessageHandler handler, Exception ex) {
+    Long enqueuedAt = message.getHeaders().get(ENQUEUED_AT_HEADER, Long.class);
+    if (enqueuedAt != null && ex == null) {
+      chatMetrics.recordDelivery(roomIdOf(message), System.nanoTime() - enqueuedAt);
+    }
+  }
+
+  // 채팅방 구독(/sub/chat/{roomId}) 메시지면 채팅방 번호, 아니면 null
+  private static Long roomIdOf(Message<?> message) {
+    String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+    if (destination == null || !destination.startsWith(ChatBroker.ROOM_DESTINATION_PREFIX)) {
+      return null;
+    }
+    try {
+      return Long.valueOf(destination.substring(ChatBroker.ROOM_DESTINATION_PREFIX.length()));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.devee.devhive.global.websocket;
+
+import com.devee.devhive.global.config.WebSocketProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 웹소켓 지표
+ * - chat.websocket.queue.depth : inbound/outbound 채널 실행기 대기열 크기
+ * - chat.websocket.frames.dropped : 전송 버퍼가 가득 찬 세션에 보내지 않고 버린 채팅방 메시지 수
+ * - chat.websocket.sessions.slow.closed : 전송 한도 초과로 종료된 세션 수
+ * - chat.room.dispatch : 채팅방 구독자 세션별 outbound 대기열에 메시지를 넣는 데 걸린 시간
+ * - chat.room.delivery : outbound 대기열에 들어간 메시지가 세션으로 전송되기까지 걸린 시간 (구독자별)
+ * - chat.room.hot.dispatch / chat.room.hot.delivery : 위 두 지표의 채팅방별 기록 (roomId 태그)
+ *   전파가 slow-fan-out-millis 를 넘은 적 있는 채팅방만 hot-room-limit 개까지 기록 (태그 수 제한)
+ */
+@Slf4j
+@Component
+public class ChatMetrics {
+
+  private final MeterRegistry meterRegistry;
+  private final Counter droppedFrames;
+  private final Counter slowConsumerClosed;
+  private final Timer dispatchTimer;
+  private final Timer deliveryTimer;
+  private final long slowFanOutMillis;
+  private final int hotRoomLimit;
+  private final Map<Long, HotRoomTimers> hotRooms = new ConcurrentHashMap<>();
+
+  public ChatMetrics(MeterRegistry meterRegistry, WebSocketProperties properties) {
+    this.meterRegistry = meterRegistry;
+    this.droppedFrames = meterRegistry.counter("chat.websocket.frames.dropped");
+    this.slowConsumerClosed = meterRegistry.counter("chat.websocket.sessions.slow.closed");
+    this.dispatchTimer = meterRegistry.timer("chat.room.dispatch");
+    this.deliveryTimer = meterRegistry.timer("chat.room.delivery");
+    this.slowFanOutMillis = properties.getSlowFanOutMillis();
+    this.hotRoomLimit = properties.getHotRoomLimit();
+  }
+
+  public void bindQueueDepth(String channel, ThreadPoolTaskExecutor executor) {
+    Gauge.builder("chat.websocket.queue.depth", executor,
+            e -> e.getThreadPoolExecutor().getQueue().size())
+        .tag("channel", channel)
+        .register(meterRegistry);
+  }
+
+  public void droppedFrame() {
+    droppedFrames.increment();
+  }
+
+  public void slowConsumerClosed() {
+    slowConsumerClosed.increment();
+  }
+
+  public void recordDelivery(Long roomId, long elapsedNanos) {
+    deliveryTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    HotRoomTimers hotRoom = roomId == null ? null : hotRooms.get(roomId);
+    if (hotRoom != null) {
+      hotRoom.delivery().record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  // 전송 자체는 outbound 실행기에서 비동기로 처리되므로 여기서는 대기열에 넣는 시간만 기록 (전송은 recordDelivery)
+  public void recordDispatch(Long roomId, Runnable dispatch) {
+    long start = System.nanoTime();
+    try {
+      dispatch.run();
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      dispatchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+      HotRoomTimers hotRoom = hotRooms.get(roomId);
+      if (TimeUnit.NANOSECONDS.toMillis(elapsed) > slowFanOutMillis) {
+        log.warn("채팅방 메시지 전파 지연 roomId={}, {}ms", roomId,
+            TimeUnit.NANOSECONDS.toMillis(elapsed));
+        if (hotRoom == null && hotRooms.size() < hotRoomLimit) {
+          hotRoom = hotRooms.computeIfAbsent(roomId, this::registerHotRoom);
+        }
+      }
+      if (hotRoom != null) {
+        hotRoom.dispatch().record(elapsed, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  private HotRoomTimers registerHotRoom(Long roomId) {
+    String tag = String.valueOf(roomId);
+    return new HotRoomTimers(
+        meterRegistry.timer("chat.room.hot.dispatch", "roomId", tag),
+        meterRegistry.timer("chat.room.hot.delivery", "roomId", tag));
+  }
+
+  private record HotRoomTimers(Timer dispatch, Timer delivery) {
+
+  }
+}
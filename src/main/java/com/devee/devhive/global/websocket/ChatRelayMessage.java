@@ -0,0 +1,27 @@
+package com.devee.devhive.global.websocket;
+
+import com.devee.devhive.domain.project.chat.entity.dto.ChatMessageDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인스턴스 간 Redis pub/sub 으로 주고받는 채팅 메시지
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatRelayMessage {
+
+  private Long roomId;
+  private ChatMessageDto message;
+
+  public static ChatRelayMessage of(Long roomId, ChatMessageDto message) {
+    return ChatRelayMessage.builder()
+        .roomId(roomId)
+        .message(message)
+        .build();
+  }
+}
@@ -0,0 +1,22 @@
+package com.devee.devhive.global.websocket;
+
+import com.devee.devhive.domain.project.chat.service.ChatMembershipCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+@Component
+@RequiredArgsConstructor
+public class ChatSessionEventListener {
+
+  private final ChatMembershipCache chatMembershipCache;
+
+  // 연결 종료 시 참여 채팅방 캐시 정리
+  @EventListener
+  public void handleDisconnect(SessionDisconnectEvent event) {
+    if (event.getUser() instanceof ChatSessionUser sessionUser) {
+      chatMembershipCache.evict(sessionUser.getUserId());
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.devee.devhive.global.websocket;
+
+import com.devee.devhive.domain.user.entity.User;
+import com.devee.devhive.domain.user.entity.dto.SimpleUserDto;
+import java.security.Principal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * STOMP CONNECT 시 인증된 유저 정보
+ * 세션 동안 Principal 로 유지되어 프레임마다 유저를 다시 조회하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class ChatSessionUser implements Principal {
+
+  private final Long userId;
+  private final String email;
+  private final String nickName;
+  private final String profileImage;
+
+  public static ChatSessionUser from(User user) {
+    return ChatSessionUser.builder()
+        .userId(user.getId())
+        .email(user.getEmail())
+        .nickName(user.getNickName())
+        .profileImage(user.getProfileImage())
+        .build();
+  }
+
+  public SimpleUserDto toSimpleUserDto() {
+    return SimpleUserDto.builder()
+        .userId(userId)
+        .nickName(nickName)
+        .profileImage(profileImage)
+        .build();
+  }
+
+  @Override
+  public String getName() {
+    return email;
+  }
+}
@@ -0,0 +1,79 @@
+package com.devee.devhive.global.websocket;
+
+import com.devee.devhive.domain.project.chat.entity.dto.ChatMessageDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다중 인스턴스용 브로커
+ * 메시지를 채팅방 번호로 샤딩한 Redis 채널(chat:room:{shard})에 발행하고,
+ * 모든 인스턴스가 해당 채널을 구독해 각자의 simple broker 로 로컬 구독자에게 전달한다.
+ * 발행한 인스턴스도 구독을 통해 전달받으므로 발행 시 로컬 전송은 하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisChatBroker implements ChatBroker, MessageListener {
+
+  public static final String CHANNEL_PREFIX = "chat:room:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final SimpMessageSendingOperations sendingTemplate;
+  private final ObjectMapper objectMapper;
+  private final ChatMetrics chatMetrics;
+  private final int shardCount;
+
+  public RedisChatBroker(StringRedisTemplate redisTemplate,
+      SimpMessageSendingOperations sendingTemplate, ObjectMapper objectMapper,
+      ChatMetrics chatMetrics, @Value("${chat.broker.shard-count:16}") int shardCount) {
+    this.redisTemplate = redisTemplate;
+    this.sendingTemplate = sendingTemplate;
+    this.objectMapper = objectMapper;
+    this.chatMetrics = chatMetrics;
+    this.shardCount = shardCount;
+  }
+
+  public static String channelOf(Long roomId, int shardCount) {
+    return CHANNEL_PREFIX + Math.floorMod(roomId, shardCount);
+  }
+
+  public String channelOf(Long roomId) {
+    return channelOf(roomId, shardCount);
+  }
+
+  public int getShardCount() {
+    return shardCount;
+  }
+
+  @Override
+  public void publish(Long roomId, ChatMessageDto message) {
+    try {
+      String payload = objectMapper.writeValueAsString(ChatRelayMessage.of(roomId, message));
+      redisTemplate.convertAndSend(channelOf(roomId), payload);
+    } catch (JsonProcessingException e) {
+      log.error("채팅 메시지 직렬화 실패 roomId={}", roomId, e);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      ChatRelayMessage relayMessage = objectMapper.readValue(payload, ChatRelayMessage.class);
+      Long roomId = relayMessage.getRoomId();
+      chatMetrics.recordDispatch(roomId, () -> sendingTemplate.convertAndSend(
+          ChatBroker.roomDestination(roomId), relayMessage.getMessage()));
+    } catch (JsonProcessingException e) {
+      log.error("채팅 메시지 역직렬화 실패 payload={}", payload, e);
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.devee.devhive.global.websocket;
+
+import com.devee.devhive.domain.project.chat.entity.dto.ChatMessageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 인스턴스용 브로커 - 현재 서버의 simple broker 로만 전달
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class SimpleChatBroker implements ChatBroker {
+
+  private final SimpMessageSendingOperations sendingTemplate;
+  private final ChatMetrics chatMetrics;
+
+  @Override
+  public void publish(Long roomId, ChatMessageDto message) {
+    chatMetrics.recordDispatch(roomId,
+        () -> sendingTemplate.convertAndSend(ChatBroker.roomDestination(roomId), message));
+  }
+}
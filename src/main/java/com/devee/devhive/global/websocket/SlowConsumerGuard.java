@@ -0,0 +1,108 @@
+package com.devee.devhive.global.websocket;
+
+import com.devee.devhive.global.config.WebSocketProperties;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * 느린 클라이언트 보호
+ * 세션 전송 버퍼/시간 한도(chat.websocket.send-buffer-size-limit / send-time-limit)를 넘었을 때의 처리는
+ * chat.websocket.overflow-strategy 로 선택한다.
+ * - DROP : 전송 버퍼가 가득 찬 세션에는 채팅방 메시지(MESSAGE 프레임)를 버리고, 전송 시간 한도를 넘으면 세션 종료
+ * - TERMINATE : 버퍼/시간 한도 중 하나라도 넘으면 세션 종료
+ * 종료는 SESSION_NOT_RELIABLE 로 기록된다.
+ * 한 세션이 밀려도 같은 채팅방의 다른 구독자 전송이 막히지 않게 하기 위함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlowConsumerGuard implements WebSocketHandlerDecoratorFactory {
+
+  private static final String MESSAGE_FRAME_PREFIX = StompCommand.MESSAGE.name() + "\n";
+
+  private final WebSocketProperties properties;
+  private final ChatMetrics chatMetrics;
+
+  /**
+   * 세션마다 overflow-strategy 에 맞는 전송 데코레이터를 씌우는 SubProtocolWebSocketHandler
+   * (기본 구현은 TERMINATE 데코레이터만 사용)
+   */
+  public SubProtocolWebSocketHandler subProtocolWebSocketHandler(
+      SubscribableChannel clientInboundChannel, SubscribableChannel clientOutboundChannel) {
+    return new SubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel) {
+      @Override
+      protected WebSocketSession decorateSession(WebSocketSession session) {
+        return SlowConsumerGuard.this.decorateSession(session, getSendTimeLimit(),
+            getSendBufferSizeLimit());
+      }
+    };
+  }
+
+  @Override
+  public WebSocketHandler decorate(WebSocketHandler handler) {
+    return new WebSocketHandlerDecorator(handler) {
+      @Override
+      public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus)
+          throws Exception {
+        if (CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+          log.warn("전송 한도 초과로 웹소켓 세션 종료 sessionId={}", session.getId());
+          chatMetrics.slowConsumerClosed();
+        }
+        super.afterConnectionClosed(session, closeStatus);
+      }
+    };
+  }
+
+  private WebSocketSession decorateSession(WebSocketSession session, int sendTimeLimit,
+      int bufferSizeLimit) {
+    if (properties.getOverflowStrategy() == OverflowStrategy.TERMINATE) {
+      return new ConcurrentWebSocketSessionDecorator(session, sendTimeLimit, bufferSizeLimit);
+    }
+    return new DroppingSessionDecorator(session, sendTimeLimit, bufferSizeLimit,
+        chatMetrics::droppedFrame);
+  }
+
+  private static boolean isRoomMessage(WebSocketMessage<?> message) {
+    return message instanceof TextMessage textMessage
+        && textMessage.getPayload().startsWith(MESSAGE_FRAME_PREFIX);
+  }
+
+  /**
+   * 버퍼가 가득 찬 세션에는 새 채팅방 메시지를 보내지 않고 버린다. (CONNECTED, ERROR 등 다른 프레임은 그대로 전송)
+   * 다른 프레임으로 버퍼가 넘치면 DROP 전략에 따라 오래된 메시지부터 버려진다.
+   */
+  private static class DroppingSessionDecorator extends ConcurrentWebSocketSessionDecorator {
+
+    private final Runnable onMessageDropped;
+
+    DroppingSessionDecorator(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit,
+        Runnable onMessageDropped) {
+      super(delegate, sendTimeLimit, bufferSizeLimit, OverflowStrategy.DROP);
+      this.onMessageDropped = onMessageDropped;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+      if (isRoomMessage(message)
+          && getBufferSize() + message.getPayloadLength() > getBufferSizeLimit()) {
+        onMessageDropped.run();
+        return;
+      }
+      super.sendMessage(message);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.devee.devhive.global.websocket;
+
+import static com.devee.devhive.global.exception.ErrorCode.INVALID_JWT;
+import static com.devee.devhive.global.exception.ErrorCode.NOT_FOUND_CHATMEMBER;
+import static com.devee.devhive.global.exception.ErrorCode.NOT_FOUND_USER;
+import static com.devee.devhive.global.exception.ErrorCode.UNAUTHORIZED;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.devee.devhive.domain.project.chat.service.ChatMembershipCache;
+import com.devee.devhive.domain.user.repository.UserRepository;
+import com.devee.devhive.global.exception.CustomException;
+import com.devee.devhive.global.security.revocation.AccessTokenRevocationList;
+import com.devee.devhive.global.security.service.TokenService;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * CONNECT 시 JWT 로 한 번만 인증하고 세션 유저를 저장,
+ * 이후 채팅방 구독/메시지 전송은 캐시된 참여 정보로 권한을 확인한다.
+ * 아래 목적지 외의 SEND/SUBSCRIBE 는 모두 거부한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+  private static final String BEARER = "Bearer ";
+  // 채팅 메시지, 입장 메시지
+  private static final Pattern MESSAGE_DESTINATION =
+      Pattern.compile("^/pub/message/(?:enter/)?(\\d+)(?:/\\d+)?$");
+  // 퇴장 메시지 (REST 퇴장 처리 이후에 오므로 방금 퇴장한 유저도 한 번 허용)
+  private static final Pattern EXIT_DESTINATION = Pattern.compile("^/pub/message/exit/(\\d+)/\\d+$");
+  private static final Pattern SUBSCRIBE_DESTINATION = Pattern.compile("^/sub/chat/(\\d+)$");
+
+  private final TokenService tokenService;
+  private final UserRepository userRepository;
+  private final ChatMembershipCache chatMembershipCache;
+  private final AccessTokenRevocationList accessTokenRevocationList;
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor accessor =
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (accessor == null || accessor.getCommand() == null) {
+      return message;
+    }
+
+    StompCommand command = accessor.getCommand();
+    if (command == StompCommand.CONNECT) {
+      accessor.setUser(authenticate(accessor));
+    } else if (command == StompCommand.SEND) {
+      checkSend(accessor);
+    } else if (command == StompCommand.SUBSCRIBE) {
+      checkSubscribe(accessor);
+    }
+    return message;
+  }
+
+  private ChatSessionUser authenticate(StompHeaderAccessor accessor) {
+    String bearerToken = accessor.getFirstNativeHeader(tokenService.getAccessHeader());
+    if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith(BEARER)) {
+      throw new CustomException(INVALID_JWT);
+    }
+    DecodedJWT decodedJWT = tokenService.verifyToken(bearerToken.replace(BEARER, ""));
+    if (accessTokenRevocationList.isRevoked(decodedJWT.getId())) {
+      throw new CustomException(INVALID_JWT);
+    }
+    String email = tokenService.extractEmail(decodedJWT)
+        .orElseThrow(() -> new CustomException(INVALID_JWT));
+
+    return userRepository.findByEmail(email)
+        .map(ChatSessionUser::from)
+        .orElseThrow(() -> new CustomException(NOT_FOUND_USER));
+  }
+
+  private void checkSend(StompHeaderAccessor accessor) {
+    ChatSessionUser sessionUser = getSessionUser(accessor);
+    String destination = destinationOf(accessor);
+
+    Matcher exitMatcher = EXIT_DESTINATION.matcher(destination);
+    if (exitMatcher.matches()) {
+      Long roomId = Long.valueOf(exitMatcher.group(1));
+      if (!chatMembershipCache.isMember(sessionUser.getUserId(), roomId)
+          && !chatMembershipCache.consumeLeft(sessionUser.getUserId(), roomId)) {
+        throw new CustomException(NOT_FOUND_CHATMEMBER);
+      }
+      return;
+    }
+    checkMembership(sessionUser, destination, MESSAGE_DESTINATION);
+  }
+
+  private void checkSubscribe(StompHeaderAccessor accessor) {
+    checkMembership(getSessionUser(accessor), destinationOf(accessor), SUBSCRIBE_DESTINATION);
+  }
+
+  private void checkMembership(ChatSessionUser sessionUser, String destination,
+      Pattern destinationPattern) {
+    Matcher matcher = destinationPattern.matcher(destination);
+    if (!matcher.matches()) {
+      throw new CustomException(UNAUTHORIZED);
+    }
+    Long roomId = Long.valueOf(matcher.group(1));
+    if (!chatMembershipCache.isMember(sessionUser.getUserId(), roomId)) {
+      throw new CustomException(NOT_FOUND_CHATMEMBER);
+    }
+  }
+
+  private static ChatSessionUser getSessionUser(StompHeaderAccessor accessor) {
+    if (!(accessor.getUser() instanceof ChatSessionUser sessionUser)) {
+      throw new CustomException(INVALID_JWT);
+    }
+    return sessionUser;
+  }
+
+  private static String destinationOf(StompHeaderAccessor accessor) {
+    String destination = accessor.getDestination();
+    if (destination == null) {
+      throw new CustomException(UNAUTHORIZED);
+    }
+    return destination;
+  }
+}
@@ -0,0 +1,68 @@
+package com.devee.devhive.domain.project.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devee.devhive.domain.project.chat.entity.ProjectChatMember;
+import com.devee.devhive.domain.project.chat.entity.ProjectChatRoom;
+import com.devee.devhive.domain.project.chat.repository.ProjectChatMemberRepository;
+import com.devee.devhive.global.redis.RedisService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatMembershipCacheTest {
+
+  private ProjectChatMemberRepository chatMemberRepository;
+  private ChatMembershipCache chatMembershipCache;
+
+  @BeforeEach
+  void setUp() {
+    chatMemberRepository = mock(ProjectChatMemberRepository.class);
+    chatMembershipCache = new ChatMembershipCache(chatMemberRepository, mock(RedisService.class),
+        60000, 60000, 100, 60);
+  }
+
+  @Test
+  @DisplayName("참여 여부 확인 - 참여하지 않은 채팅방도 캐시해서 DB 를 반복 조회하지 않음")
+  void testIsMember_negativeCached() {
+    // given
+    when(chatMemberRepository.findAllByUserId(1L)).thenReturn(List.of(member(10L)));
+
+    // when
+    boolean member = chatMembershipCache.isMember(1L, 10L);
+    boolean nonMember = chatMembershipCache.isMember(1L, 20L);
+    boolean nonMemberAgain = chatMembershipCache.isMember(1L, 20L);
+
+    // then : 처음 로드 + 없는 채팅방 재확인 한 번
+    assertThat(member).isTrue();
+    assertThat(nonMember).isFalse();
+    assertThat(nonMemberAgain).isFalse();
+    verify(chatMemberRepository, times(2)).findAllByUserId(1L);
+  }
+
+  @Test
+  @DisplayName("참여 여부 확인 - 참여 후 무효화하면 바로 반영")
+  void testIsMember_afterEvict() {
+    // given
+    when(chatMemberRepository.findAllByUserId(1L)).thenReturn(List.of());
+    assertThat(chatMembershipCache.isMember(1L, 10L)).isFalse();
+    when(chatMemberRepository.findAllByUserId(1L)).thenReturn(List.of(member(10L)));
+
+    // when
+    chatMembershipCache.evict(1L);
+
+    // then
+    assertThat(chatMembershipCache.isMember(1L, 10L)).isTrue();
+  }
+
+  private static ProjectChatMember member(Long roomId) {
+    return ProjectChatMember.builder()
+        .chatRoom(ProjectChatRoom.builder().id(roomId).build())
+        .build();
+  }
+}
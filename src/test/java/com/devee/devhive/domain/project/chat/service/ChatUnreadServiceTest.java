@@ -0,0 +1,116 @@
+package com.devee.devhive.domain.project.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devee.devhive.global.redis.EmbeddedRedis;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatUnreadServiceTest {
+
+  private static final Long ROOM_ID = 1L;
+  private static final Long SENDER_ID = 10L;
+  private static final Long READER_ID = 20L;
+  private static final int MESSAGE_COUNT = 200;
+
+  private static EmbeddedRedis embeddedRedis;
+  private ChatUnreadService chatUnreadService;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    embeddedRedis = EmbeddedRedis.start();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    embeddedRedis.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    embeddedRedis.flushAll();
+    chatUnreadService = new ChatUnreadService(embeddedRedis.redisTemplate());
+  }
+
+  @Test
+  @DisplayName("새 메시지 - 여러 스레드에서 순서 없이 와도 순번은 모두 세고 마지막 메시지 id 는 뒤로 가지 않음")
+  void testOnMessage_concurrent() throws InterruptedException {
+    // given : 메시지 id 가 뒤섞인 순서로 도착
+    List<Long> messageIds = LongStream.rangeClosed(1, MESSAGE_COUNT).boxed()
+        .collect(Collectors.toCollection(ArrayList::new));
+    Collections.shuffle(messageIds);
+
+    // when
+    runConcurrently(messageIds.stream()
+        .map(id -> (Runnable) () -> chatUnreadService.onMessage(ROOM_ID, SENDER_ID, id))
+        .toList());
+
+    // then
+    Map<Long, Long> senderUnread = chatUnreadService.getUnreadCounts(List.of(ROOM_ID), SENDER_ID);
+    Map<Long, Long> readerUnread = chatUnreadService.getUnreadCounts(List.of(ROOM_ID), READER_ID);
+    assertThat(senderUnread.get(ROOM_ID)).isZero();
+    assertThat(readerUnread.get(ROOM_ID)).isEqualTo(MESSAGE_COUNT);
+    assertThat(chatUnreadService.markRead(ROOM_ID, READER_ID)).isEqualTo((long) MESSAGE_COUNT);
+  }
+
+  @Test
+  @DisplayName("읽음 처리 - 메시지와 동시에 읽어도 안 읽은 수가 음수가 되거나 읽은 위치가 뒤로 가지 않음")
+  void testMarkRead_concurrent() throws InterruptedException {
+    // given
+    List<Runnable> tasks = new ArrayList<>();
+    for (long id = 1; id <= MESSAGE_COUNT; id++) {
+      long messageId = id;
+      tasks.add(() -> chatUnreadService.onMessage(ROOM_ID, SENDER_ID, messageId));
+      tasks.add(() -> chatUnreadService.markRead(ROOM_ID, READER_ID));
+    }
+
+    // when
+    runConcurrently(tasks);
+    long unreadBeforeReset = chatUnreadService.getUnreadCounts(List.of(ROOM_ID), READER_ID)
+        .get(ROOM_ID);
+    chatUnreadService.markRead(ROOM_ID, READER_ID);
+
+    // then
+    assertThat(unreadBeforeReset).isBetween(0L, (long) MESSAGE_COUNT);
+    assertThat(chatUnreadService.getUnreadCounts(List.of(ROOM_ID), READER_ID).get(ROOM_ID))
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("퇴장 후 다시 참여 - 참여 시점 이후 메시지만 안 읽은 수로 셈")
+  void testRemoveMember_reset() {
+    // given
+    chatUnreadService.onMessage(ROOM_ID, SENDER_ID, 1L);
+    chatUnreadService.onMessage(ROOM_ID, SENDER_ID, 2L);
+    chatUnreadService.removeMember(ROOM_ID, READER_ID);
+
+    // when
+    Long lastMessageId = chatUnreadService.markRead(ROOM_ID, READER_ID);
+    chatUnreadService.onMessage(ROOM_ID, SENDER_ID, 3L);
+
+    // then
+    assertThat(lastMessageId).isEqualTo(2L);
+    assertThat(chatUnreadService.getUnreadCounts(List.of(ROOM_ID), READER_ID).get(ROOM_ID))
+        .isEqualTo(1L);
+  }
+
+  private static void runConcurrently(List<Runnable> tasks) throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    tasks.forEach(executor::execute);
+    executor.shutdown();
+    assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+  }
+}
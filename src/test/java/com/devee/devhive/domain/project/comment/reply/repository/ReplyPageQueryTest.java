@@ -0,0 +1,106 @@
+package com.devee.devhive.domain.project.comment.reply.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devee.devhive.domain.project.comment.entity.Comment;
+import com.devee.devhive.domain.project.comment.entity.dto.CommentCursor;
+import com.devee.devhive.domain.project.comment.reply.entity.Reply;
+import com.devee.devhive.domain.project.comment.reply.repository.impl.CustomReplyRepositoryImpl;
+import com.devee.devhive.domain.project.entity.Project;
+import com.devee.devhive.domain.user.entity.User;
+import com.devee.devhive.global.config.QueryDslConfig;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 답글 seek 페이징 경계 검증 (마지막 페이지, 빈 페이지, 삭제된 답글 커서)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({QueryDslConfig.class, CustomReplyRepositoryImpl.class})
+@ActiveProfiles("h2")
+class ReplyPageQueryTest {
+
+  @Autowired
+  private CustomReplyRepositoryImpl customReplyRepository;
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private Comment comment;
+  private final List<Reply> replies = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    User user = entityManager.persist(User.builder()
+        .email("reply@devee.com")
+        .password("password")
+        .nickName("reply")
+        .build());
+    Project project = entityManager.persist(Project.builder().user(user).title("프로젝트").build());
+    comment = entityManager.persist(Comment.builder()
+        .project(project)
+        .user(user)
+        .content("댓글")
+        .build());
+    for (int i = 1; i <= 5; i++) {
+      replies.add(entityManager.persist(Reply.builder()
+          .comment(comment)
+          .user(user)
+          .content("답글" + i)
+          .build()));
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  @DisplayName("답글 페이지 - 커서의 답글이 삭제되어도 다음 답글부터 빠짐없이 조회")
+  void testFindPage_cursorOnDeletedReply() {
+    // given : 첫 페이지 마지막 답글로 커서 생성 후 그 답글 삭제
+    List<Reply> firstPage = customReplyRepository.findPageByCommentId(comment.getId(), null, 2);
+    Reply last = firstPage.get(1);
+    CommentCursor cursor = CommentCursor.of(last.getCreatedDate(), last.getId());
+    entityManager.remove(entityManager.find(Reply.class, last.getId()));
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    List<Reply> secondPage = customReplyRepository.findPageByCommentId(comment.getId(), cursor, 2);
+
+    // then
+    assertThat(ids(firstPage)).containsExactly(replies.get(0).getId(), replies.get(1).getId());
+    assertThat(ids(secondPage)).containsExactly(replies.get(2).getId(), replies.get(3).getId());
+  }
+
+  @Test
+  @DisplayName("답글 페이지 - 마지막 페이지 이후 커서는 빈 페이지")
+  void testFindPage_lastAndEmptyPage() {
+    // given
+    Reply fourth = replies.get(3);
+    Reply fifth = replies.get(4);
+
+    // when
+    List<Reply> lastPage = customReplyRepository.findPageByCommentId(comment.getId(),
+        CommentCursor.of(fourth.getCreatedDate(), fourth.getId()), 2);
+    List<Reply> emptyPage = customReplyRepository.findPageByCommentId(comment.getId(),
+        CommentCursor.of(fifth.getCreatedDate(), fifth.getId()), 2);
+
+    // then
+    assertThat(ids(lastPage)).containsExactly(fifth.getId());
+    assertThat(emptyPage).isEmpty();
+  }
+
+  private static List<Long> ids(List<Reply> replies) {
+    return replies.stream().map(Reply::getId).toList();
+  }
+}
@@ -32,6 +32,8 @@ class CommentServiceTest {
   private ApplicationEventPublisher eventPublisher;
   @Mock
   private CommentRepository commentRepository;
+  @Mock
+  private CommentThreadCache commentThreadCache;
 
   @BeforeEach
   void setUp() {
@@ -60,6 +62,7 @@ class CommentServiceTest {
     user.setId(1L);
     Comment comment = new Comment();
     comment.setUser(user);
+    comment.setProject(Project.builder().id(1L).build());
     CommentForm form = new CommentForm("Updated Content");
     when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
     when(commentRepository.save(any(Comment.class))).thenReturn(comment);
@@ -70,6 +73,7 @@ class CommentServiceTest {
     // Then
     assertNotNull(result);
     assertEquals(form.getContent(), result.getContent());
+    verify(commentThreadCache, times(1)).evict(1L);
   }
 
   @Test
@@ -0,0 +1,95 @@
+package com.devee.devhive.domain.project.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devee.devhive.domain.project.comment.entity.dto.CommentAndReplyDto;
+import com.devee.devhive.domain.project.comment.service.CommentThreadCache.Lookup;
+import com.devee.devhive.global.redis.EmbeddedRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CommentThreadCacheTest {
+
+  private static final Long PROJECT_ID = 1L;
+
+  private static EmbeddedRedis embeddedRedis;
+  private CommentThreadCache commentThreadCache;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    embeddedRedis = EmbeddedRedis.start();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    embeddedRedis.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    embeddedRedis.flushAll();
+    commentThreadCache = new CommentThreadCache(embeddedRedis.redisTemplate(),
+        new ObjectMapper().findAndRegisterModules());
+    ReflectionTestUtils.setField(commentThreadCache, "ttlSeconds", 600L);
+  }
+
+  @Test
+  @DisplayName("댓글 캐시 - 커밋 전에 읽은 목록을 무효화 이후에 저장하면 버림")
+  void testPut_afterEvict_discarded() {
+    // given : 조회 요청이 캐시 miss 후 커밋 전 목록을 읽음
+    Lookup lookup = commentThreadCache.get(PROJECT_ID);
+    List<CommentAndReplyDto> staleThread = List.of(comment(1L, "수정 전"));
+
+    // when : 쓰기 트랜잭션 커밋 후 무효화, 그 다음에 조회 요청이 옛 목록을 저장
+    commentThreadCache.evict(PROJECT_ID);
+    commentThreadCache.put(PROJECT_ID, lookup.version(), staleThread);
+
+    // then
+    assertThat(commentThreadCache.get(PROJECT_ID).thread()).isNull();
+  }
+
+  @Test
+  @DisplayName("댓글 캐시 - 무효화 이후 다시 조회한 목록은 저장")
+  void testPut_afterReload_cached() {
+    // given
+    commentThreadCache.evict(PROJECT_ID);
+    Lookup lookup = commentThreadCache.get(PROJECT_ID);
+
+    // when
+    commentThreadCache.put(PROJECT_ID, lookup.version(), List.of(comment(1L, "수정 후")));
+
+    // then
+    List<CommentAndReplyDto> cached = commentThreadCache.get(PROJECT_ID).thread();
+    assertThat(cached).hasSize(1);
+    assertThat(cached.get(0).getContent()).isEqualTo("수정 후");
+  }
+
+  @Test
+  @DisplayName("댓글 캐시 - 무효화 전에 저장된 옛 목록은 무효화 시 삭제")
+  void testEvict_afterStalePut() {
+    // given : 커밋 전에 옛 목록이 먼저 저장됨
+    Lookup lookup = commentThreadCache.get(PROJECT_ID);
+    commentThreadCache.put(PROJECT_ID, lookup.version(), List.of(comment(1L, "수정 전")));
+
+    // when
+    commentThreadCache.evict(PROJECT_ID);
+
+    // then
+    assertThat(commentThreadCache.get(PROJECT_ID).thread()).isNull();
+  }
+
+  private static CommentAndReplyDto comment(Long commentId, String content) {
+    return CommentAndReplyDto.builder()
+        .commentId(commentId)
+        .content(content)
+        .replies(List.of())
+        .build();
+  }
+}
@@ -0,0 +1,172 @@
+package com.devee.devhive.domain.project.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devee.devhive.domain.project.comment.entity.Comment;
+import com.devee.devhive.domain.project.comment.entity.dto.CommentCursor;
+import com.devee.devhive.domain.project.comment.entity.dto.CommentPageDto;
+import com.devee.devhive.domain.project.comment.reply.entity.Reply;
+import com.devee.devhive.domain.project.comment.reply.entity.dto.ReplyPageDto;
+import com.devee.devhive.domain.project.comment.reply.repository.ReplyRepository;
+import com.devee.devhive.domain.project.comment.reply.repository.custom.CustomReplyRepository;
+import com.devee.devhive.domain.project.comment.repository.CommentRepository;
+import com.devee.devhive.domain.project.comment.repository.custom.CustomCommentRepository;
+import com.devee.devhive.domain.user.entity.User;
+import com.devee.devhive.domain.user.service.UserService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CommentThreadServiceTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2023, 9, 1, 12, 0);
+
+  @Mock
+  private CommentRepository commentRepository;
+  @Mock
+  private ReplyRepository replyRepository;
+  @Mock
+  private CommentThreadCache commentThreadCache;
+  @Mock
+  private CustomCommentRepository customCommentRepository;
+  @Mock
+  private CustomReplyRepository customReplyRepository;
+  @Mock
+  private UserService userService;
+  @InjectMocks
+  private CommentThreadService commentThreadService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+  }
+
+  @Test
+  @DisplayName("답글 페이지 - 마지막 페이지면 다음 커서 없음")
+  void testGetReplyPage_lastPage() {
+    // given : limit + 1 보다 적게 조회됨
+    when(customReplyRepository.findPageByCommentId(eq(1L), any(), eq(3)))
+        .thenReturn(List.of(reply(11L, 1), reply(12L, 2)));
+
+    // when
+    ReplyPageDto page = commentThreadService.getReplyPage(1L, null, 2);
+
+    // then
+    assertThat(page.getReplies()).hasSize(2);
+    assertThat(page.isHasNext()).isFalse();
+    assertThat(page.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("답글 페이지 - 다음 페이지가 있으면 이번 페이지 마지막 답글로 커서 생성")
+  void testGetReplyPage_hasNext() {
+    // given
+    when(customReplyRepository.findPageByCommentId(eq(1L), isNull(), eq(3)))
+        .thenReturn(List.of(reply(11L, 1), reply(12L, 2), reply(13L, 3)));
+
+    // when
+    ReplyPageDto page = commentThreadService.getReplyPage(1L, null, 2);
+
+    // then
+    assertThat(page.getReplies()).hasSize(2);
+    assertThat(page.isHasNext()).isTrue();
+    assertThat(CommentCursor.decode(page.getNextCursor()))
+        .isEqualTo(CommentCursor.of(NOW.plusSeconds(2), 12L));
+  }
+
+  @Test
+  @DisplayName("답글 페이지 - 커서 이후 답글이 없으면 빈 페이지")
+  void testGetReplyPage_emptyPage() {
+    // given
+    String cursor = CommentCursor.of(NOW, 12L).encode();
+    when(customReplyRepository.findPageByCommentId(1L, CommentCursor.of(NOW, 12L), 3))
+        .thenReturn(List.of());
+
+    // when
+    ReplyPageDto page = commentThreadService.getReplyPage(1L, cursor, 2);
+
+    // then
+    assertThat(page.getReplies()).isEmpty();
+    assertThat(page.isHasNext()).isFalse();
+    assertThat(page.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("댓글 페이지 - 빈 페이지면 답글을 조회하지 않음")
+  void testGetThreadPage_emptyPage() {
+    // given
+    when(customCommentRepository.findPageByProjectId(eq(1L), any(), anyInt()))
+        .thenReturn(List.of());
+
+    // when
+    CommentPageDto page = commentThreadService.getThreadPage(1L, null, null);
+
+    // then
+    assertThat(page.getComments()).isEmpty();
+    assertThat(page.isHasNext()).isFalse();
+    assertThat(page.getNextCursor()).isNull();
+    verify(replyRepository, never()).findFirstRepliesByCommentIds(anyList(), anyInt());
+  }
+
+  @Test
+  @DisplayName("댓글 페이지 - 인라인 답글보다 많으면 답글 커서 포함")
+  void testGetThreadPage_moreReplies() {
+    // given
+    Comment comment = comment(1L);
+    when(customCommentRepository.findPageByProjectId(eq(1L), any(), anyInt()))
+        .thenReturn(List.of(comment));
+    when(replyRepository.findFirstRepliesByCommentIds(List.of(1L), 4)).thenReturn(List.of(
+        reply(comment, 11L, 1), reply(comment, 12L, 2), reply(comment, 13L, 3),
+        reply(comment, 14L, 4)));
+
+    // when
+    CommentPageDto page = commentThreadService.getThreadPage(1L, null, null);
+
+    // then
+    assertThat(page.getComments()).hasSize(1);
+    assertThat(page.getComments().get(0).getReplies()).hasSize(3);
+    assertThat(page.getComments().get(0).isHasMoreReplies()).isTrue();
+    assertThat(CommentCursor.decode(page.getComments().get(0).getNextReplyCursor()))
+        .isEqualTo(CommentCursor.of(NOW.plusSeconds(3), 13L));
+    assertThat(page.isHasNext()).isFalse();
+  }
+
+  private static Comment comment(Long id) {
+    Comment comment = Comment.builder()
+        .id(id)
+        .user(User.builder().id(1L).nickName("writer").build())
+        .content("댓글")
+        .build();
+    ReflectionTestUtils.setField(comment, "createdDate", NOW);
+    return comment;
+  }
+
+  private static Reply reply(Long id, int seconds) {
+    return reply(comment(1L), id, seconds);
+  }
+
+  private static Reply reply(Comment comment, Long id, int seconds) {
+    Reply reply = Reply.builder()
+        .id(id)
+        .comment(comment)
+        .user(User.builder().id(2L).nickName("replier").build())
+        .content("답글")
+        .build();
+    ReflectionTestUtils.setField(reply, "createdDate", NOW.plusSeconds(seconds));
+    return reply;
+  }
+}
@@ -13,6 +13,7 @@ import com.devee.devhive.domain.project.entity.Project;
 import com.devee.devhive.domain.project.review.dto.EvaluationForm;
 import com.devee.devhive.domain.project.review.entity.ProjectReview;
 import com.devee.devhive.domain.project.review.repository.ProjectReviewRepository;
+import com.devee.devhive.domain.project.review.repository.ProjectReviewSummaryRepository;
 import com.devee.devhive.domain.project.type.ProjectStatus;
 import com.devee.devhive.domain.user.entity.User;
 import com.devee.devhive.global.exception.CustomException;
@@ -30,6 +31,8 @@ class ProjectReviewServiceTest {
   private ProjectReviewService projectReviewService;
   @Mock
   private ProjectReviewRepository projectReviewRepository;
+  @Mock
+  private ProjectReviewSummaryRepository projectReviewSummaryRepository;
 
   @BeforeEach
   void beforeEach() {
@@ -66,6 +69,7 @@ class ProjectReviewServiceTest {
 
     // then
     verify(projectReviewRepository, times(1)).save(any(ProjectReview.class));
+    verify(projectReviewSummaryRepository, times(1)).increase(project.getId(), targetUser.getId(), 7);
   }
 
   @Test
@@ -0,0 +1,94 @@
+package com.devee.devhive.domain.project.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devee.devhive.domain.project.entity.Project;
+import com.devee.devhive.domain.project.repository.ProjectRepository;
+import com.devee.devhive.domain.project.repository.custom.CustomProjectPurgeRepository;
+import com.devee.devhive.domain.project.type.ProjectStatus;
+import com.devee.devhive.global.batch.BatchJobLock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ProjectPurgeWorkerTest {
+
+  private CustomProjectPurgeRepository purgeRepository;
+  private ProjectRepository projectRepository;
+  private BatchJobLock batchJobLock;
+  private ProjectPurgeWorker projectPurgeWorker;
+
+  @BeforeEach
+  void setUp() {
+    purgeRepository = mock(CustomProjectPurgeRepository.class);
+    projectRepository = mock(ProjectRepository.class);
+    batchJobLock = mock(BatchJobLock.class);
+    projectPurgeWorker = new ProjectPurgeWorker(purgeRepository, projectRepository,
+        mock(PlatformTransactionManager.class), batchJobLock);
+    ReflectionTestUtils.setField(projectPurgeWorker, "chunkSize", 1000);
+    ReflectionTestUtils.setField(projectPurgeWorker, "leaseSeconds", 600L);
+  }
+
+  @Test
+  @DisplayName("프로젝트 나눠서 삭제 - 하위 데이터가 없을 때까지 chunk 단위로 삭제 후 프로젝트 삭제")
+  void testPurgeInChunks() {
+    // given
+    when(batchJobLock.tryAcquire(eq("project-purge:1"), any())).thenReturn(Optional.of("token"));
+    when(purgeRepository.deleteChildrenChunk(1L, 1000)).thenReturn(1000L, 400L, 0L);
+
+    // when
+    projectPurgeWorker.purgeInChunks(1L);
+
+    // then
+    verify(purgeRepository, times(3)).deleteChildrenChunk(1L, 1000);
+    verify(purgeRepository).deleteProject(1L);
+    verify(batchJobLock).release("project-purge:1", "token", Duration.ZERO);
+  }
+
+  @Test
+  @DisplayName("프로젝트 나눠서 삭제 - 다른 서버가 삭제 중이면 건너뜀")
+  void testPurgeInChunks_lockedByOtherInstance() {
+    // given
+    when(batchJobLock.tryAcquire(eq("project-purge:1"), any())).thenReturn(Optional.empty());
+
+    // when
+    projectPurgeWorker.purgeInChunks(1L);
+
+    // then
+    verify(purgeRepository, never()).deleteChildrenChunk(anyLong(), anyInt());
+    verify(purgeRepository, never()).deleteProject(anyLong());
+    verify(batchJobLock, never()).release(anyString(), anyString(), any());
+  }
+
+  @Test
+  @DisplayName("재시작 후 이어서 삭제 - 락을 잡은 프로젝트만 삭제")
+  void testResumePendingPurges() {
+    // given : 2번 프로젝트는 다른 서버가 이미 삭제 중
+    when(projectRepository.findAllByStatus(ProjectStatus.DELETED)).thenReturn(List.of(
+        Project.builder().id(1L).build(), Project.builder().id(2L).build()));
+    when(batchJobLock.tryAcquire(eq("project-purge:1"), any())).thenReturn(Optional.of("token"));
+    when(batchJobLock.tryAcquire(eq("project-purge:2"), any())).thenReturn(Optional.empty());
+    when(purgeRepository.deleteChildrenChunk(anyLong(), anyInt())).thenReturn(0L);
+
+    // when
+    projectPurgeWorker.resumePendingPurges();
+
+    // then
+    verify(purgeRepository).deleteProject(1L);
+    verify(purgeRepository, never()).deleteProject(2L);
+  }
+}
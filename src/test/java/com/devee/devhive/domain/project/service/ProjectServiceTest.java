@@ -3,12 +3,14 @@ package com.devee.devhive.domain.project.service;
 import static com.devee.devhive.domain.project.type.DevelopmentType.BACKEND;
 import static com.devee.devhive.domain.project.type.DevelopmentType.FRONTEND;
 import static com.devee.devhive.domain.project.type.ProjectStatus.RECRUITING;
+import static com.devee.devhive.domain.project.type.ProjectStatus.RECRUITMENT_COMPLETE;
 import static com.devee.devhive.domain.project.type.RecruitmentType.OFFLINE;
 import static com.devee.devhive.domain.project.type.RecruitmentType.ONLINE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,6 +23,7 @@ import com.devee.devhive.domain.project.entity.dto.UpdateProjectStatusDto;
 import com.devee.devhive.domain.project.member.entity.ProjectMember;
 import com.devee.devhive.domain.project.repository.ProjectRepository;
 import com.devee.devhive.domain.project.type.ProjectStatus;
+import com.devee.devhive.domain.user.counter.service.UserCounterService;
 import com.devee.devhive.domain.user.entity.User;
 import com.devee.devhive.global.exception.CustomException;
 import java.time.LocalDateTime;
@@ -33,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
 
 class ProjectServiceTest {
 
@@ -40,6 +44,8 @@ class ProjectServiceTest {
   private ProjectService projectService;
   @Mock
   private ProjectRepository projectRepository;
+  @Mock
+  private UserCounterService userCounterService;
 
   @BeforeEach
   void setUp() {
@@ -160,6 +166,33 @@ class ProjectServiceTest {
     assertThat(project.getEndDate()).isNull();
   }
 
+  @Test
+  @DisplayName("프로젝트 상태 변경 - 성공_완료 시 멤버 벌집레벨 카운터 증가")
+  void testUpdateProjectStatus_Complete_IncreasesCompletedCount() {
+    // Given
+    User user = User.builder().id(1L).build();
+    Project project = Project.builder()
+        .id(1L)
+        .user(user)
+        .status(ProjectStatus.RECRUITMENT_COMPLETE)
+        .build();
+
+    UpdateProjectStatusDto statusDto = new UpdateProjectStatusDto();
+    statusDto.setStatus(ProjectStatus.COMPLETE);
+
+    when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
+    when(projectRepository.save(any(Project.class))).thenReturn(project);
+
+    // When
+    projectService.updateProjectStatusAndAlarmToMembers(user, project.getId(), statusDto, new ArrayList<>());
+    projectService.updateProjectStatusAndAlarmToMembers(user, project.getId(), statusDto, new ArrayList<>());
+
+    // Then
+    // 이미 완료된 프로젝트를 다시 완료 처리해도 한 번만 증가
+    verify(userCounterService, times(1)).addCompletedProjectCountOfMembers(project.getId(), 1);
+    assertThat(project.getEndDate()).isNotNull();
+  }
+
   @Test
   @DisplayName("프로젝트 상태 변경 - 실패_글 작성자가 아님")
   void testUpdateProjectStatus_InvalidUser() {
@@ -291,4 +324,27 @@ class ProjectServiceTest {
     // Then
     verify(projectRepository, times(1)).delete(project);
   }
+
+  @Test
+  @DisplayName("모집 기한 지난 프로젝트 모집 마감 - chunk 단위 처리")
+  void testCloseDeadlineOverRecruitments() {
+    // Given
+    LocalDateTime now = LocalDateTime.now();
+    when(projectRepository.findIdsByStatusAndDeadlineBefore(RECRUITING, now, 0L, PageRequest.of(0, 2)))
+        .thenReturn(List.of(3L, 7L));
+    when(projectRepository.findIdsByStatusAndDeadlineBefore(RECRUITING, now, 7L, PageRequest.of(0, 2)))
+        .thenReturn(List.of());
+
+    // When
+    List<Long> firstChunk = projectService.closeDeadlineOverRecruitments(now, 0L, 2);
+    List<Long> secondChunk = projectService.closeDeadlineOverRecruitments(now, 7L, 2);
+
+    // Then
+    assertThat(firstChunk).containsExactly(3L, 7L);
+    assertThat(secondChunk).isEmpty();
+    verify(projectRepository, times(1))
+        .updateStatusOfDeadlineOver(List.of(3L, 7L), RECRUITING, RECRUITMENT_COMPLETE, now);
+    verify(projectRepository, times(1))
+        .updateStatusOfDeadlineOver(anyList(), any(), any(), any());
+  }
 }
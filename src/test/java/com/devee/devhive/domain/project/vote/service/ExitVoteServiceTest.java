@@ -5,7 +5,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -13,11 +16,14 @@ import static org.mockito.Mockito.when;
 import com.devee.devhive.domain.project.entity.Project;
 import com.devee.devhive.domain.project.member.entity.ProjectMember;
 import com.devee.devhive.domain.project.vote.entity.ProjectMemberExitVote;
+import com.devee.devhive.domain.project.vote.entity.ExitVoteTally;
+import com.devee.devhive.domain.project.vote.repository.ExitVoteTallyRepository;
 import com.devee.devhive.domain.project.vote.repository.ProjectMemberExitVoteRepository;
 import com.devee.devhive.domain.user.alarm.entity.form.AlarmForm;
 import com.devee.devhive.domain.user.entity.User;
 import com.devee.devhive.global.exception.CustomException;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +31,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -37,6 +44,10 @@ class ExitVoteServiceTest {
   @Mock
   private ProjectMemberExitVoteRepository exitVoteRepository;
   @Mock
+  private ExitVoteTallyRepository exitVoteTallyRepository;
+  @Mock
+  private ExitVoteDeadlineQueue deadlineQueue;
+  @Mock
   private ApplicationEventPublisher eventPublisher;
 
   @BeforeEach
@@ -88,6 +99,7 @@ class ExitVoteServiceTest {
     // then
     verify(eventPublisher, times(projectMemberList.size()-1))
         .publishEvent(any(AlarmForm.class));
+    verify(deadlineQueue).schedule(any(), any());
   }
 
   @Test
@@ -109,15 +121,99 @@ class ExitVoteServiceTest {
         .isAccept(false)
         .build();
 
-    when(exitVoteRepository.save(any())).thenReturn(myVote);
-    when(exitVoteRepository.findByProjectIdAndVoterUserIdAndTargetUserId
-        (anyLong(), anyLong(), anyLong())).thenReturn(Optional.of(myVote));
+    when(exitVoteTallyRepository.existsByProjectId(1L)).thenReturn(true);
+    when(exitVoteRepository.markVoted(1L, true)).thenReturn(1);
+    when(exitVoteTallyRepository.finalizeIfAllVoted(1L)).thenReturn(0);
 
     // when
-    exitVoteService.submitExitVote(myVote, true);
+    boolean isTargetUserExit = exitVoteService.submitExitVote(myVote, true);
 
+    assertThat(isTargetUserExit).isFalse();
     assertThat(myVote.isVoted()).isTrue();
     assertThat(myVote.isAccept()).isTrue();
+    verify(exitVoteTallyRepository).addVote(1L, 1);
+    verify(exitVoteRepository, never()).deleteAll(any());
+  }
+
+  @Test
+  @DisplayName("투표 제출 - 집계 도입 이전에 열린 투표는 투표 목록으로 집계 생성")
+  void testSubmitExitVote_createsMissingTally() {
+    // given
+    Project project = Project.builder()
+        .id(1L)
+        .build();
+    User registeringUser = User.builder().id(1L).build();
+    User user = User.builder().id(3L).build();
+    User targetUser = User.builder().id(2L).build();
+    Instant openedAt = Instant.now().minusSeconds(60 * 60);
+
+    ProjectMemberExitVote registeringVote = ProjectMemberExitVote.of(
+        project, targetUser, registeringUser, openedAt);
+    registeringVote.setVoted(true);
+    registeringVote.setAccept(true);
+    ProjectMemberExitVote myVote = ProjectMemberExitVote.of(project, targetUser, user, openedAt);
+    myVote.setId(5L);
+
+    when(exitVoteTallyRepository.existsByProjectId(1L)).thenReturn(false);
+    when(exitVoteRepository.findAllByProjectId(1L)).thenReturn(List.of(registeringVote, myVote));
+    when(exitVoteTallyRepository.insertIfAbsent(any(), any(), anyInt(), anyInt(), anyInt(), any()))
+        .thenReturn(1);
+    when(exitVoteTallyRepository.findIdByProjectId(1L)).thenReturn(Optional.of(10L));
+    when(exitVoteRepository.markVoted(5L, true)).thenReturn(1);
+    when(exitVoteTallyRepository.finalizeIfAllVoted(1L)).thenReturn(0);
+
+    // when
+    exitVoteService.submitExitVote(myVote, true);
+
+    // then : 이번 제출 전 상태로 집계를 만들고 이번 제출은 addVote 로 반영
+    Instant deadline = openedAt.plus(1, ChronoUnit.DAYS);
+    InOrder inOrder = inOrder(exitVoteTallyRepository, exitVoteRepository);
+    inOrder.verify(exitVoteTallyRepository).insertIfAbsent(1L, 2L, 2, 1, 1, deadline);
+    inOrder.verify(exitVoteRepository).markVoted(5L, true);
+    inOrder.verify(exitVoteTallyRepository).addVote(1L, 1);
+    verify(deadlineQueue).schedule(10L, deadline);
+  }
+
+  @Test
+  @DisplayName("투표 제출 - 마지막 투표로 퇴출 확정")
+  void testSubmitExitVote_lastVoteFinalizes() {
+    // given
+    Project project = Project.builder()
+        .id(1L)
+        .build();
+    User user = User.builder().id(1L).build();
+    User targetUser = User.builder().id(2L).build();
+
+    ProjectMemberExitVote myVote = ProjectMemberExitVote.builder()
+        .id(1L)
+        .project(project)
+        .voterUser(user)
+        .targetUser(targetUser)
+        .isVoted(false)
+        .isAccept(false)
+        .build();
+    ExitVoteTally tally = ExitVoteTally.builder()
+        .project(project)
+        .targetUser(targetUser)
+        .totalCount(3)
+        .votedCount(3)
+        .acceptCount(2)
+        .finalized(true)
+        .build();
+
+    when(exitVoteTallyRepository.existsByProjectId(1L)).thenReturn(true);
+    when(exitVoteRepository.markVoted(1L, true)).thenReturn(1);
+    when(exitVoteTallyRepository.finalizeIfAllVoted(1L)).thenReturn(1);
+    when(exitVoteTallyRepository.findByProjectId(1L)).thenReturn(Optional.of(tally));
+    when(exitVoteRepository.findAllByProjectId(1L)).thenReturn(List.of(myVote));
+
+    // when
+    boolean isTargetUserExit = exitVoteService.submitExitVote(myVote, true);
+
+    // then
+    assertThat(isTargetUserExit).isTrue();
+    verify(eventPublisher, never()).publishEvent(any(AlarmForm.class));
+    verify(exitVoteRepository).deleteAll(List.of(myVote));
   }
 
   @Test
@@ -150,4 +246,28 @@ class ExitVoteServiceTest {
 
     assertEquals(ALREADY_SUBMIT_VOTE, exception.getErrorCode());
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("투표 마감 - 이미 결과 처리된 투표는 무시")
+  void testExpireVote_alreadyFinalized() {
+    // given
+    Project project = Project.builder()
+        .id(1L)
+        .build();
+    ExitVoteTally tally = ExitVoteTally.builder()
+        .id(10L)
+        .project(project)
+        .finalized(true)
+        .build();
+
+    when(exitVoteTallyRepository.findById(10L)).thenReturn(Optional.of(tally));
+    when(exitVoteTallyRepository.close(1L)).thenReturn(0);
+
+    // when
+    exitVoteService.expireVote(10L);
+
+    // then
+    verify(eventPublisher, never()).publishEvent(any(AlarmForm.class));
+    verify(exitVoteRepository, never()).deleteAll(any());
+  }
+}
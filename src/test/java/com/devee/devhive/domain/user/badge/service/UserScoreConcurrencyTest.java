@@ -0,0 +1,147 @@
+package com.devee.devhive.domain.user.badge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devee.devhive.domain.badge.entity.Badge;
+import com.devee.devhive.domain.badge.repository.BadgeRepository;
+import com.devee.devhive.domain.project.review.evaluation.entity.Evaluation;
+import com.devee.devhive.domain.user.badge.entity.UserBadge;
+import com.devee.devhive.domain.user.badge.repository.UserBadgeRepository;
+import com.devee.devhive.domain.user.badge.repository.custom.CustomUserBadgeRepository;
+import com.devee.devhive.domain.user.badge.repository.impl.CustomUserBadgeRepositoryImpl;
+import com.devee.devhive.domain.user.entity.User;
+import com.devee.devhive.domain.user.repository.UserRepository;
+import com.devee.devhive.global.config.QueryDslConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 팀원들이 동시에 리뷰를 제출해도 랭킹포인트, 유저뱃지 점수가 유실되지 않는지 검증
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({QueryDslConfig.class, CustomUserBadgeRepositoryImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("h2")
+@TestPropertySource(properties = "h2.url-options=;LOCK_TIMEOUT=10000")
+class UserScoreConcurrencyTest {
+
+  private static final int REVIEWERS = 16;
+
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private BadgeRepository badgeRepository;
+  @Autowired
+  private UserBadgeRepository userBadgeRepository;
+  @Autowired
+  private CustomUserBadgeRepository customUserBadgeRepository;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+  private UserBadgeService userBadgeService;
+
+  private User targetUser;
+  private List<Badge> badges;
+
+  @BeforeEach
+  void setUp() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    userBadgeService = new UserBadgeService(userBadgeRepository, customUserBadgeRepository, null);
+
+    targetUser = userRepository.save(User.builder()
+        .email("target@devee.com")
+        .password("password")
+        .nickName("target")
+        .build());
+    badges = badgeRepository.saveAll(List.of(
+        Badge.builder().name("소통").build(),
+        Badge.builder().name("협업").build()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    userBadgeRepository.deleteAllInBatch();
+    badgeRepository.deleteAllInBatch();
+    userRepository.deleteAllInBatch();
+  }
+
+  @Test
+  @DisplayName("랭킹포인트 동시 증가 - 갱신 유실 없음")
+  void testIncreaseRankPoint_Concurrently() throws Exception {
+    // when
+    runConcurrently(() -> transactionTemplate.executeWithoutResult(status ->
+        userRepository.increaseRankPoint(targetUser.getId(), 1.5)));
+
+    // then
+    User user = userRepository.findById(targetUser.getId()).orElseThrow();
+    assertThat(user.getRankPoint()).isEqualTo(REVIEWERS * 1.5);
+  }
+
+  @Test
+  @DisplayName("유저뱃지 점수 동시 증가 - 첫 리뷰 동시 생성 포함 갱신 유실 없음")
+  void testUpdatePoint_Concurrently() throws Exception {
+    // given
+    List<Evaluation> evaluations = List.of(
+        Evaluation.builder().badge(badges.get(0)).point(3).build(),
+        Evaluation.builder().badge(badges.get(1)).point(5).build());
+
+    // when
+    runConcurrently(() -> transactionTemplate.executeWithoutResult(status ->
+        userBadgeService.updatePoint(targetUser, evaluations)));
+
+    // then
+    List<UserBadge> userBadges = userBadgeRepository.findAllByUserId(targetUser.getId());
+    Map<Long, Integer> scores = userBadges.stream()
+        .collect(Collectors.toMap(userBadge -> userBadge.getBadge().getId(),
+            UserBadge::getTotalScore));
+
+    assertThat(userBadges).hasSize(badges.size());
+    assertThat(scores.get(badges.get(0).getId())).isEqualTo(REVIEWERS * 3);
+    assertThat(scores.get(badges.get(1).getId())).isEqualTo(REVIEWERS * 5);
+  }
+
+  private void runConcurrently(Runnable task) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(REVIEWERS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (int i = 0; i < REVIEWERS; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          task.run();
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        // 작업 중 예외가 있으면 그대로 실패
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.devee.devhive.domain.user.counter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devee.devhive.domain.user.counter.entity.UserCounter;
+import com.devee.devhive.domain.user.counter.repository.UserCounterRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class UserCounterServiceTest {
+
+  @InjectMocks
+  private UserCounterService userCounterService;
+  @Mock
+  private UserCounterRepository userCounterRepository;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+  }
+
+  @Test
+  @DisplayName("퇴출 횟수 - 카운터 행 기준")
+  void testGetExitCount() {
+    // given
+    when(userCounterRepository.findByUserId(1L)).thenReturn(Optional.of(UserCounter.builder()
+        .completedProjectCount(4)
+        .exitCount(2)
+        .build()));
+
+    // when
+    int exitCount = userCounterService.getExitCount(1L);
+
+    // then
+    assertThat(exitCount).isEqualTo(2);
+    verify(userCounterRepository, never()).countExitHistoryByUserId(anyLong());
+  }
+
+  @Test
+  @DisplayName("퇴출 횟수 - 카운터 행이 없는 기존 유저는 퇴출 전적으로 계산")
+  void testGetExitCount_withoutCounter() {
+    // given
+    when(userCounterRepository.findByUserId(1L)).thenReturn(Optional.empty());
+    when(userCounterRepository.countExitHistoryByUserId(1L)).thenReturn(3);
+
+    // when
+    int exitCount = userCounterService.getExitCount(1L);
+
+    // then
+    assertThat(exitCount).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("벌집레벨 - 카운터 행이 없는 기존 유저는 완료 프로젝트로 계산")
+  void testGetCompletedProjectCount_withoutCounter() {
+    // given
+    when(userCounterRepository.findByUserId(1L)).thenReturn(Optional.empty());
+    when(userCounterRepository.countCompletedProjectsByUserId(1L)).thenReturn(5);
+
+    // when
+    int completedProjectCount = userCounterService.getCompletedProjectCount(1L);
+
+    // then
+    assertThat(completedProjectCount).isEqualTo(5);
+  }
+}
@@ -0,0 +1,86 @@
+package com.devee.devhive.domain.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devee.devhive.domain.user.entity.User;
+import com.devee.devhive.domain.user.exithistory.entity.ExitHistory;
+import com.devee.devhive.domain.user.exithistory.repository.ExitHistoryRepository;
+import com.devee.devhive.domain.user.type.ActivityStatus;
+import com.devee.devhive.global.config.QueryDslConfig;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 정지 기한이 지난 비활성 유저만 재활성화되는지 검증
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(QueryDslConfig.class)
+@ActiveProfiles("h2")
+class UserReactivationQueryTest {
+
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private ExitHistoryRepository exitHistoryRepository;
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Test
+  @DisplayName("재활성화 - 가장 마지막 정지 기한이 지난 비활성 유저만")
+  void testReactivateUsers() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    User due = saveUser("due", ActivityStatus.INACTIVITY);
+    User stillSuspended = saveUser("suspended", ActivityStatus.INACTIVITY);
+    User active = saveUser("active", ActivityStatus.ACTIVITY);
+
+    saveExitHistory(due, now.minusWeeks(2));
+    saveExitHistory(due, now.minusDays(1));
+    // 이전 정지 기한은 지났지만 이후 퇴출로 정지 기한이 남아있는 유저
+    saveExitHistory(stillSuspended, now.minusWeeks(3));
+    saveExitHistory(stillSuspended, now.plusDays(3));
+    saveExitHistory(active, now.minusDays(1));
+
+    entityManager.flush();
+
+    // when
+    int reactivated = userRepository.reactivateUsers(
+        ActivityStatus.INACTIVITY, ActivityStatus.ACTIVITY, now);
+    entityManager.clear();
+
+    // then
+    assertThat(reactivated).isEqualTo(1);
+    assertThat(statusOf(due)).isEqualTo(ActivityStatus.ACTIVITY);
+    assertThat(statusOf(stillSuspended)).isEqualTo(ActivityStatus.INACTIVITY);
+    assertThat(statusOf(active)).isEqualTo(ActivityStatus.ACTIVITY);
+  }
+
+  private User saveUser(String nickName, ActivityStatus status) {
+    return userRepository.save(User.builder()
+        .email(nickName + "@devee.com")
+        .password("password")
+        .nickName(nickName)
+        .status(status)
+        .build());
+  }
+
+  private void saveExitHistory(User user, LocalDateTime reActiveDate) {
+    exitHistoryRepository.save(ExitHistory.builder()
+        .user(user)
+        .reActiveDate(reActiveDate)
+        .build());
+  }
+
+  private ActivityStatus statusOf(User user) {
+    return userRepository.findById(user.getId()).orElseThrow().getStatus();
+  }
+}
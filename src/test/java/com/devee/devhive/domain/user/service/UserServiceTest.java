@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,6 +21,7 @@ import com.devee.devhive.domain.user.repository.UserRepository;
 import com.devee.devhive.domain.user.type.ProviderType;
 import com.devee.devhive.global.exception.CustomException;
 import com.devee.devhive.global.s3.S3Service;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +37,8 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserPrincipalCache principalCache;
+    @Mock
     private S3Service s3Service;
     @Mock
     private PasswordEncoder passwordEncoder;
@@ -54,6 +58,7 @@ class UserServiceTest {
             .email("test@test.com")
             .profileImage(existingProfileImage)
             .build();
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
         MultipartFile multipartFile = mock(MultipartFile.class);
         when(s3Service.upload(multipartFile)).thenReturn("new_profile_image.jpg");
         //when
@@ -63,6 +68,26 @@ class UserServiceTest {
         verify(userRepository).save(user);
     }
 
+    @Test
+    @DisplayName("프로필사진 변경 - 성공_확인된 업로드로 바꾸고 기존 사진 삭제")
+    void testChangeProfileImage() {
+        //given
+        String existingProfileImage = "existing_profile_image.jpg";
+        User user = User.builder()
+            .id(1L)
+            .email("test@test.com")
+            .profileImage(existingProfileImage)
+            .build();
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
+        //when
+        userService.changeProfileImage("new_profile_image.png", user);
+        //then
+        assertEquals("new_profile_image.png", user.getProfileImage());
+        verify(userRepository).save(user);
+        verify(s3Service).delete(existingProfileImage);
+        verify(s3Service, never()).confirmUpload(any(), any());
+    }
+
     @Test
     @DisplayName("내 기본 정보 수정 - 성공")
     void testUpdateBasicInfo() {
@@ -75,6 +100,7 @@ class UserServiceTest {
             .providerType(ProviderType.GOOGLE)
             .intro(null)
             .build();
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
 
         UpdateBasicInfoForm form = UpdateBasicInfoForm.builder()
             .nickName("cool2")
@@ -100,6 +126,7 @@ class UserServiceTest {
             .providerType(ProviderType.GOOGLE)
             .intro(null)
             .build();
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
 
         UpdateBasicInfoForm form = UpdateBasicInfoForm.builder()
             .nickName("cool2")
@@ -126,6 +153,7 @@ class UserServiceTest {
             .providerType(ProviderType.GOOGLE)
             .intro(null)
             .build();
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
 
         UpdateBasicInfoForm form = UpdateBasicInfoForm.builder()
             .nickName("cool2")
@@ -156,6 +184,7 @@ class UserServiceTest {
             .email("test@test.com")
             .password(userPassword)
             .build();
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
 
         when(passwordEncoder.matches(form.getPassword(), user.getPassword())).thenReturn(true);
         //when
@@ -177,6 +206,7 @@ class UserServiceTest {
             .email("test@test.com")
             .password("adf1234!")
             .build();
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
 
         when(passwordEncoder.matches(form.getPassword(), user.getPassword())).thenReturn(false);
         //when
@@ -201,6 +231,7 @@ class UserServiceTest {
             .email("test@test.com")
             .password(userPassword)
             .build();
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
 
         when(passwordEncoder.matches(form.getPassword(), user.getPassword())).thenReturn(true);
         //when
@@ -225,6 +256,7 @@ class UserServiceTest {
             .email("test@test.com")
             .password(userPassword)
             .build();
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
 
         when(passwordEncoder.matches(form.getPassword(), user.getPassword())).thenReturn(true);
         //when
@@ -0,0 +1,79 @@
+package com.devee.devhive.global.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devee.devhive.global.config.SchedulingConfig;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class BatchProcessingSchedulerTest {
+
+  private JobLauncher jobLauncher;
+  private JobRegistry jobRegistry;
+  private BatchJobLock batchJobLock;
+  private ThreadPoolTaskExecutor batchJobExecutor;
+  private BatchProcessingScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    jobLauncher = mock(JobLauncher.class);
+    jobRegistry = mock(JobRegistry.class);
+    batchJobLock = mock(BatchJobLock.class);
+    batchJobExecutor = new SchedulingConfig().batchJobExecutor(4, 8);
+    scheduler = new BatchProcessingScheduler(jobLauncher, jobRegistry, batchJobLock,
+        mock(BatchJobMetrics.class), batchJobExecutor);
+    ReflectionTestUtils.setField(scheduler, "leaseSeconds", 600L);
+    ReflectionTestUtils.setField(scheduler, "minHoldMillis", 0L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    batchJobExecutor.shutdown();
+  }
+
+  @Test
+  @DisplayName("배치 스케줄 - job 이 끝날 때까지 스케줄러 스레드를 점유하지 않음")
+  void testJobRunsOnBatchExecutor() throws Exception {
+    // given : 끝나지 않는 job
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicReference<String> jobThread = new AtomicReference<>();
+    when(batchJobLock.tryAcquire(eq("voteProcessJob"), any(Duration.class)))
+        .thenReturn(Optional.of("token"));
+    when(jobRegistry.getJob("voteProcessJob")).thenReturn(mock(Job.class));
+    when(jobLauncher.run(any(), any())).thenAnswer(invocation -> {
+      jobThread.set(Thread.currentThread().getName());
+      running.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return mock(JobExecution.class);
+    });
+
+    // when
+    scheduler.processVote();
+
+    // then : 스케줄 메서드는 바로 반환되고 job 은 batch-job 스레드에서 실행, 끝난 뒤 락 해제
+    assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(jobThread.get()).startsWith("batch-job-");
+    release.countDown();
+    verify(batchJobLock, timeout(5000)).release(eq("voteProcessJob"), eq("token"), any());
+  }
+}
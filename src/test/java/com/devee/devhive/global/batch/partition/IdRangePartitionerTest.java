@@ -0,0 +1,49 @@
+package com.devee.devhive.global.batch.partition;
+
+import static com.devee.devhive.global.batch.partition.IdRangePartitioner.FROM_ID;
+import static com.devee.devhive.global.batch.partition.IdRangePartitioner.TO_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+class IdRangePartitionerTest {
+
+  @Test
+  @DisplayName("id 구간 분할 - 빈 구간, 겹치는 구간 없이 (0, maxId] 전체")
+  void testPartition() {
+    // given
+    IdRangePartitioner partitioner = new IdRangePartitioner(() -> 10L);
+
+    // when
+    Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+    // then
+    List<ExecutionContext> ranges = partitions.values().stream()
+        .sorted(Comparator.comparingLong(context -> context.getLong(FROM_ID)))
+        .toList();
+    assertThat(ranges).hasSize(4);
+    assertThat(ranges.get(0).getLong(FROM_ID)).isEqualTo(0L);
+    for (int i = 1; i < ranges.size(); i++) {
+      assertThat(ranges.get(i).getLong(FROM_ID)).isEqualTo(ranges.get(i - 1).getLong(TO_ID));
+    }
+    assertThat(ranges.get(ranges.size() - 1).getLong(TO_ID)).isEqualTo(10L);
+  }
+
+  @Test
+  @DisplayName("id 구간 분할 - 데이터가 없으면 파티션 없음")
+  void testPartition_empty() {
+    // given
+    IdRangePartitioner partitioner = new IdRangePartitioner(() -> 0L);
+
+    // when
+    Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+    // then
+    assertThat(partitions).isEmpty();
+  }
+}
@@ -0,0 +1,110 @@
+package com.devee.devhive.global.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devee.devhive.domain.project.review.entity.ProjectReview;
+import com.devee.devhive.domain.project.review.evaluation.entity.Evaluation;
+import com.devee.devhive.domain.project.review.evaluation.repository.EvaluationRepository;
+import com.devee.devhive.domain.project.review.repository.ProjectReviewRepository;
+import com.devee.devhive.global.config.QueryDslConfig;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * IDENTITY(배치 불가) vs pooled 테이블 id(배치 insert) saveAll 처리량 비교
+ * ./gradlew benchmark 로 실행
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(QueryDslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("h2")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PooledIdInsertBenchmarkTest {
+
+  private static final int ROWS = 5_000;
+  private static final int ROUNDS = 5;
+
+  @Autowired
+  private ProjectReviewRepository projectReviewRepository;
+  @Autowired
+  private EvaluationRepository evaluationRepository;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void compareInsertThroughput() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    // 워밍업
+    insert(projectReviewRepository, () -> ProjectReview.builder().totalScore(1).build(), statistics);
+    insert(evaluationRepository, () -> Evaluation.builder().point(1).build(), statistics);
+
+    Result identity = Result.empty();
+    Result pooled = Result.empty();
+    for (int i = 0; i < ROUNDS; i++) {
+      identity = identity.plus(insert(projectReviewRepository,
+          () -> ProjectReview.builder().totalScore(1).build(), statistics));
+      pooled = pooled.plus(insert(evaluationRepository,
+          () -> Evaluation.builder().point(1).build(), statistics));
+    }
+
+    log.info("IDENTITY : {} rows/s, {} statements / {} rows",
+        identity.rowsPerSecond(), identity.statements(), identity.rows());
+    log.info("POOLED   : {} rows/s, {} statements / {} rows",
+        pooled.rowsPerSecond(), pooled.statements(), pooled.rows());
+
+    // IDENTITY 는 행마다 insert 문을 실행, pooled 는 batch_size 단위로 묶어서 실행
+    assertThat(identity.statements()).isGreaterThanOrEqualTo(identity.rows());
+    assertThat(pooled.statements()).isLessThan(pooled.rows() / 10);
+  }
+
+  private <T> Result insert(JpaRepository<T, Long> repository, Supplier<T> factory,
+      Statistics statistics) {
+    List<T> entities = IntStream.range(0, ROWS).mapToObj(i -> factory.get()).toList();
+
+    statistics.clear();
+    long start = System.nanoTime();
+    repository.saveAll(entities);
+    long elapsed = System.nanoTime() - start;
+    long statements = statistics.getPrepareStatementCount();
+
+    repository.deleteAllInBatch();
+    return new Result(ROWS, elapsed, statements);
+  }
+
+  private record Result(long rows, long elapsedNanos, long statements) {
+
+    static Result empty() {
+      return new Result(0, 0, 0);
+    }
+
+    Result plus(Result other) {
+      return new Result(rows + other.rows, elapsedNanos + other.elapsedNanos,
+          statements + other.statements);
+    }
+
+    long rowsPerSecond() {
+      return elapsedNanos == 0 ? 0 : rows * 1_000_000_000L / elapsedNanos;
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.devee.devhive.global.mail.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devee.devhive.global.mail.entity.MailOutbox;
+import com.devee.devhive.global.mail.service.MailOutboxService.Claim;
+import com.devee.devhive.global.mail.type.MailOutboxStatus;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class MailOutboxSenderTest {
+
+  // 로컬 SMTP 서버 (GreenMail)
+  @RegisterExtension
+  static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+  private MailOutboxService mailOutboxService;
+  private ThreadPoolTaskExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    mailOutboxService = mock(MailOutboxService.class);
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(1);
+    executor.initialize();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("메일 발송 - 가져간 메일을 모두 보내고 발송 완료 처리")
+  void testDeliver() throws Exception {
+    // given
+    MailOutboxSender sender = createSender(greenMail.getSmtp().getPort());
+    Claim claim = new Claim("token", List.of(
+        mail(1L, "user1@test.com", "인증 코드 ABC"),
+        mail(2L, "user2@test.com", "인증 코드 DEF")));
+
+    // when
+    sender.deliver(claim);
+
+    // then
+    MimeMessage[] received = greenMail.getReceivedMessages();
+    assertThat(received).hasSize(2);
+    assertThat(received[0].getSubject()).isEqualTo("이메일 인증 코드");
+    verify(mailOutboxService).markSent("token", List.of(1L, 2L));
+    verify(mailOutboxService, never()).markFailed(anyString(), any(), any(), eq(false));
+  }
+
+  @Test
+  @DisplayName("메일 발송 - SMTP 연결 실패 시 메일별로 재시도 예약")
+  void testDeliver_smtpUnavailable() {
+    // given : 열려있지 않은 포트
+    MailOutboxSender sender = createSender(greenMail.getSmtp().getPort() + 1);
+    Claim claim = new Claim("token", List.of(
+        mail(1L, "user1@test.com", "인증 코드 ABC"),
+        mail(2L, "user2@test.com", "인증 코드 DEF")));
+
+    // when
+    sender.deliver(claim);
+
+    // then
+    assertThat(greenMail.getReceivedMessages()).isEmpty();
+    verify(mailOutboxService, times(2)).markFailed(eq("token"), any(), any(), eq(false));
+    verify(mailOutboxService).markSent("token", List.of());
+  }
+
+  private MailOutboxSender createSender(int port) {
+    JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+    mailSender.setHost("localhost");
+    mailSender.setPort(port);
+    mailSender.setDefaultEncoding("UTF-8");
+    return new MailOutboxSender(mailOutboxService, mailSender, executor, 20,
+        new SimpleMeterRegistry());
+  }
+
+  private static MailOutbox mail(Long id, String recipient, String content) {
+    return MailOutbox.builder()
+        .id(id)
+        .recipient(recipient)
+        .subject("이메일 인증 코드")
+        .content(content)
+        .status(MailOutboxStatus.SENDING)
+        .nextAttemptAt(Instant.now())
+        .build();
+  }
+}
@@ -0,0 +1,84 @@
+package com.devee.devhive.global.mail.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.devee.devhive.global.mail.entity.MailOutbox;
+import com.devee.devhive.global.mail.repository.MailOutboxRepository;
+import com.devee.devhive.global.mail.type.MailOutboxStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MailOutboxServiceTest {
+
+  @Test
+  @DisplayName("메일 재시도 간격 - 두 배씩 늘어나고 최대값을 넘지 않음")
+  void testBackoff() {
+    // given
+    MailOutboxService mailOutboxService = new MailOutboxService(
+        Mockito.mock(MailOutboxRepository.class), new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(mailOutboxService, "initialBackoffSeconds", 5L);
+    ReflectionTestUtils.setField(mailOutboxService, "maxBackoffSeconds", 60L);
+
+    // when, then
+    assertThat(mailOutboxService.backoff(1)).isEqualTo(Duration.ofSeconds(5));
+    assertThat(mailOutboxService.backoff(2)).isEqualTo(Duration.ofSeconds(10));
+    assertThat(mailOutboxService.backoff(3)).isEqualTo(Duration.ofSeconds(20));
+    assertThat(mailOutboxService.backoff(5)).isEqualTo(Duration.ofSeconds(60));
+    assertThat(mailOutboxService.backoff(100)).isEqualTo(Duration.ofSeconds(60));
+  }
+
+  @Test
+  @DisplayName("메일 발송 실패 - 재시도 횟수를 넘으면 본문을 지우고 FAILED")
+  void testMarkFailed_giveUpClearsContent() {
+    // given
+    MailOutboxRepository mailOutboxRepository = Mockito.mock(MailOutboxRepository.class);
+    MailOutboxService mailOutboxService = new MailOutboxService(
+        mailOutboxRepository, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(mailOutboxService, "maxAttempts", 5);
+    MailOutbox mailOutbox = MailOutbox.builder()
+        .id(1L)
+        .content("인증 코드 : ABC123")
+        .attempts(4)
+        .build();
+
+    // when
+    mailOutboxService.markFailed("token", mailOutbox, "smtp error", false);
+
+    // then
+    verify(mailOutboxRepository).markGivenUp(1L, "token", MailOutboxStatus.FAILED, "smtp error");
+    verify(mailOutboxRepository, never()).markAttemptFailed(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("메일 발송 실패 - 재시도 가능하면 본문을 유지하고 다시 대기")
+  void testMarkFailed_retry() {
+    // given
+    MailOutboxRepository mailOutboxRepository = Mockito.mock(MailOutboxRepository.class);
+    MailOutboxService mailOutboxService = new MailOutboxService(
+        mailOutboxRepository, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(mailOutboxService, "maxAttempts", 5);
+    ReflectionTestUtils.setField(mailOutboxService, "initialBackoffSeconds", 5L);
+    ReflectionTestUtils.setField(mailOutboxService, "maxBackoffSeconds", 60L);
+    MailOutbox mailOutbox = MailOutbox.builder()
+        .id(1L)
+        .attempts(0)
+        .build();
+
+    // when
+    mailOutboxService.markFailed("token", mailOutbox, "smtp error", false);
+
+    // then
+    verify(mailOutboxRepository).markAttemptFailed(eq(1L), eq("token"),
+        eq(MailOutboxStatus.PENDING), any(Instant.class), eq("smtp error"));
+    verify(mailOutboxRepository, never()).markGivenUp(any(), any(), any(), any());
+  }
+}
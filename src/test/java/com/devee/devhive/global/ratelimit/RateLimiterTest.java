@@ -0,0 +1,83 @@
+package com.devee.devhive.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devee.devhive.global.config.RateLimitProperties;
+import com.devee.devhive.global.config.RateLimitProperties.Rule;
+import com.devee.devhive.global.ratelimit.RedisTokenBucket.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private RedisTokenBucket redisTokenBucket;
+  private RateLimiter rateLimiter;
+  private Rule rule;
+
+  @BeforeEach
+  void setUp() {
+    redisTokenBucket = mock(RedisTokenBucket.class);
+    RateLimitProperties properties = new RateLimitProperties();
+    properties.setLeaseMillis(60_000);
+    rateLimiter = new RateLimiter(redisTokenBucket, meterRegistry, properties);
+
+    rule = new Rule();
+    rule.setName("project-list");
+    rule.setCapacity(60);
+    rule.setRefillTokens(120);
+    rule.setLocalBatch(5);
+  }
+
+  @Test
+  @DisplayName("요청 제한 - Redis 에서 가져온 토큰은 인스턴스 안에서 사용")
+  void testTryAcquire_localLease() {
+    // given
+    when(redisTokenBucket.take(any(), anyString(), anyInt())).thenReturn(new Result(5, 0));
+
+    // when
+    for (int i = 0; i < 5; i++) {
+      assertThat(rateLimiter.tryAcquire(rule, "ip:1.1.1.1")).isZero();
+    }
+
+    // then
+    verify(redisTokenBucket, times(1)).take(rule, "ip:1.1.1.1", 5);
+    assertThat(meterRegistry.counter("rate.limit.allowed", "rule", "project-list", "source", "local")
+        .count()).isEqualTo(4.0);
+  }
+
+  @Test
+  @DisplayName("요청 제한 - 토큰이 없으면 거절하고 대기 시간 반환")
+  void testTryAcquire_rejected() {
+    // given
+    when(redisTokenBucket.take(any(), anyString(), anyInt())).thenReturn(new Result(0, 1500));
+
+    // when
+    long retryAfterMillis = rateLimiter.tryAcquire(rule, "user:test@test.com");
+
+    // then
+    assertThat(retryAfterMillis).isEqualTo(1500);
+    assertThat(meterRegistry.counter("rate.limit.rejected", "rule", "project-list").count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("요청 제한 - Redis 장애 시 요청 허용")
+  void testTryAcquire_redisFailure() {
+    // given
+    when(redisTokenBucket.take(any(), anyString(), anyInt()))
+        .thenThrow(new IllegalStateException("connection refused"));
+
+    // when, then
+    assertThat(rateLimiter.tryAcquire(rule, "ip:1.1.1.1")).isZero();
+  }
+}
@@ -0,0 +1,53 @@
+package com.devee.devhive.global.redis;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+/**
+ * 테스트용 로컬 Redis 서버 (Lua 스크립트, 동시성, pub/sub 테스트용)
+ */
+public class EmbeddedRedis {
+
+  private final RedisServer redisServer;
+  private final LettuceConnectionFactory connectionFactory;
+  private final StringRedisTemplate redisTemplate;
+
+  private EmbeddedRedis(int port) throws IOException {
+    redisServer = new RedisServer(port);
+    redisServer.start();
+    connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+    connectionFactory.afterPropertiesSet();
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+  }
+
+  public static EmbeddedRedis start() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return new EmbeddedRedis(socket.getLocalPort());
+    }
+  }
+
+  public LettuceConnectionFactory connectionFactory() {
+    return connectionFactory;
+  }
+
+  public StringRedisTemplate redisTemplate() {
+    return redisTemplate;
+  }
+
+  public void flushAll() {
+    redisTemplate.execute((RedisCallback<Object>) connection -> {
+      connection.serverCommands().flushAll();
+      return null;
+    });
+  }
+
+  public void stop() throws IOException {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+}
@@ -0,0 +1,208 @@
+package com.devee.devhive.global.s3;
+
+import static com.devee.devhive.global.exception.ErrorCode.S3_FILE_SIZE_EXCEEDED;
+import static com.devee.devhive.global.exception.ErrorCode.S3_INVALID_UPLOAD;
+import static com.devee.devhive.global.exception.ErrorCode.S3_NOT_SUPPORT_IMAGE_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.devee.devhive.global.exception.CustomException;
+import com.devee.devhive.global.redis.RedisService;
+import com.devee.devhive.global.s3.dto.PresignedUploadDto;
+import com.devee.devhive.global.s3.dto.PresignedUploadRequest;
+import io.findify.s3mock.S3Mock;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class S3ServiceTest {
+
+  private static final int PORT = 8001;
+  private static final String BUCKET = "devhive-test";
+  private static final String OWNER = "test@test.com";
+  private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13};
+  private static final String STAGING_PREFIX = "staging/";
+
+  // 로컬 S3 서버 (s3mock)
+  private static S3Mock s3Mock;
+  private static AmazonS3 amazonS3;
+
+  private RedisService redisService;
+  private S3Service s3Service;
+
+  @BeforeAll
+  static void startS3() {
+    s3Mock = new S3Mock.Builder().withPort(PORT).withInMemoryBackend().build();
+    s3Mock.start();
+    amazonS3 = AmazonS3ClientBuilder.standard()
+        .withPathStyleAccessEnabled(true)
+        .withEndpointConfiguration(
+            new EndpointConfiguration("http://localhost:" + PORT, "ap-northeast-2"))
+        .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+        .build();
+    amazonS3.createBucket(BUCKET);
+  }
+
+  @AfterAll
+  static void stopS3() {
+    amazonS3.shutdown();
+    s3Mock.shutdown();
+  }
+
+  @BeforeEach
+  void setUp() {
+    redisService = mock(RedisService.class);
+    s3Service = new S3Service(amazonS3, redisService);
+    ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+    ReflectionTestUtils.setField(s3Service, "presignedExpirySeconds", 300L);
+  }
+
+  @Test
+  @DisplayName("직접 업로드 - 임시 경로에 올린 이미지 확인 후 최종 경로로 옮기고 url 반환")
+  void testConfirmUpload() throws IOException {
+    // given
+    PresignedUploadDto upload = s3Service.createPresignedUpload(OWNER, request("profile.png", PNG.length));
+    when(redisService.getData("upload:" + upload.getObjectKey())).thenReturn(OWNER);
+    assertThat(upload.getUploadUrl()).contains(STAGING_PREFIX + upload.getObjectKey());
+    assertThat(put(upload, PNG)).isEqualTo(200);
+
+    // when
+    String url = s3Service.confirmUpload(OWNER, upload.getObjectKey());
+
+    // then
+    assertThat(upload.getContentType()).isEqualTo("image/png");
+    assertThat(url).endsWith("/" + upload.getObjectKey()).doesNotContain(STAGING_PREFIX);
+    assertThat(amazonS3.doesObjectExist(BUCKET, upload.getObjectKey())).isTrue();
+    assertThat(amazonS3.doesObjectExist(BUCKET, STAGING_PREFIX + upload.getObjectKey())).isFalse();
+    verify(redisService).setDataExpire(eq("upload:" + upload.getObjectKey()), eq(OWNER), eq(600L));
+    verify(redisService).deleteData("upload:" + upload.getObjectKey());
+  }
+
+  @Test
+  @DisplayName("직접 업로드 - 확인 후 같은 url 로 다시 올려도 반환한 이미지는 바뀌지 않음")
+  void testConfirmUpload_rePutAfterConfirm() throws IOException {
+    // given : 확인이 끝나면 확인 표시가 지워짐
+    PresignedUploadDto upload = s3Service.createPresignedUpload(OWNER, request("profile.png", PNG.length));
+    when(redisService.getData("upload:" + upload.getObjectKey())).thenReturn(OWNER, (String) null);
+    put(upload, PNG);
+    s3Service.confirmUpload(OWNER, upload.getObjectKey());
+
+    // when : 아직 유효한 url 로 다른 파일을 다시 올림
+    put(upload, "<script>alert(1)</script>".getBytes());
+
+    // then : 서비스에서 쓰는 이미지는 확인한 그대로이고, 다시 올린 파일은 확인할 수 없음
+    assertThat(amazonS3.getObject(BUCKET, upload.getObjectKey()).getObjectContent().readAllBytes())
+        .isEqualTo(PNG);
+    CustomException exception = assertThrows(CustomException.class,
+        () -> s3Service.confirmUpload(OWNER, upload.getObjectKey()));
+    assertThat(exception.getErrorCode()).isEqualTo(S3_INVALID_UPLOAD);
+  }
+
+  @Test
+  @DisplayName("직접 업로드 - 실패_이미지가 아닌 파일은 삭제")
+  void testConfirmUpload_Fail_S3_NOT_SUPPORT_IMAGE_TYPE() throws IOException {
+    // given
+    PresignedUploadDto upload = s3Service.createPresignedUpload(OWNER, request("profile.png", 12));
+    when(redisService.getData("upload:" + upload.getObjectKey())).thenReturn(OWNER);
+    put(upload, "not an image".getBytes());
+
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> s3Service.confirmUpload(OWNER, upload.getObjectKey()));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(S3_NOT_SUPPORT_IMAGE_TYPE);
+    assertThat(amazonS3.doesObjectExist(BUCKET, STAGING_PREFIX + upload.getObjectKey())).isFalse();
+    assertThat(amazonS3.doesObjectExist(BUCKET, upload.getObjectKey())).isFalse();
+  }
+
+  @Test
+  @DisplayName("직접 업로드 - 실패_요청한 크기보다 큰 파일은 삭제")
+  void testConfirmUpload_Fail_S3_FILE_SIZE_EXCEEDED() throws IOException {
+    // given : url 에는 크기 제한을 걸 수 없어서 확인 단계에서 검사
+    PresignedUploadDto upload = s3Service.createPresignedUpload(OWNER, request("profile.png", PNG.length));
+    when(redisService.getData("upload:" + upload.getObjectKey())).thenReturn(OWNER);
+    byte[] large = Arrays.copyOf(PNG, 5 * 1024 * 1024 + 1);
+    put(upload, large);
+
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> s3Service.confirmUpload(OWNER, upload.getObjectKey()));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(S3_FILE_SIZE_EXCEEDED);
+    assertThat(amazonS3.doesObjectExist(BUCKET, STAGING_PREFIX + upload.getObjectKey())).isFalse();
+    assertThat(amazonS3.doesObjectExist(BUCKET, upload.getObjectKey())).isFalse();
+  }
+
+  @Test
+  @DisplayName("직접 업로드 - 실패_다른 유저가 발급받은 업로드")
+  void testConfirmUpload_Fail_S3_INVALID_UPLOAD() throws IOException {
+    // given
+    PresignedUploadDto upload = s3Service.createPresignedUpload(OWNER, request("profile.png", PNG.length));
+    when(redisService.getData("upload:" + upload.getObjectKey())).thenReturn(OWNER);
+    put(upload, PNG);
+
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> s3Service.confirmUpload("other@test.com", upload.getObjectKey()));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(S3_INVALID_UPLOAD);
+    assertThat(amazonS3.doesObjectExist(BUCKET, STAGING_PREFIX + upload.getObjectKey())).isTrue();
+    assertThat(amazonS3.doesObjectExist(BUCKET, upload.getObjectKey())).isFalse();
+    verify(redisService, never()).deleteData(anyString());
+  }
+
+  @Test
+  @DisplayName("업로드 url 발급 - 실패_지원하지 않는 형식")
+  void testCreatePresignedUpload_Fail_S3_NOT_SUPPORT_IMAGE_TYPE() {
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> s3Service.createPresignedUpload(OWNER, request("script.svg", 100)));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(S3_NOT_SUPPORT_IMAGE_TYPE);
+    verify(redisService, never()).setDataExpire(anyString(), anyString(), eq(600L));
+  }
+
+  private static PresignedUploadRequest request(String fileName, long contentLength) {
+    return PresignedUploadRequest.builder()
+        .fileName(fileName)
+        .contentLength(contentLength)
+        .build();
+  }
+
+  // 클라이언트처럼 발급받은 url 로 직접 업로드
+  private static int put(PresignedUploadDto upload, byte[] content) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL(upload.getUploadUrl()).openConnection();
+    connection.setDoOutput(true);
+    connection.setRequestMethod("PUT");
+    connection.setRequestProperty("Content-Type", upload.getContentType());
+    try (OutputStream out = connection.getOutputStream()) {
+      out.write(content);
+    }
+    int status = connection.getResponseCode();
+    connection.disconnect();
+    return status;
+  }
+}
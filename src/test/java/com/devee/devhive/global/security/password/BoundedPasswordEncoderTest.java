@@ -0,0 +1,112 @@
+package com.devee.devhive.global.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devee.devhive.global.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private ThreadPoolTaskExecutor executor;
+  private BoundedPasswordEncoder encoder;
+
+  @BeforeEach
+  void setUp() {
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(1);
+    executor.initialize();
+
+    // release 전까지 끝나지 않는 느린 해시
+    PasswordEncoder slowEncoder = new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return "encoded-" + rawPassword;
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return encode(rawPassword).equals(encodedPassword);
+      }
+    };
+    encoder = new BoundedPasswordEncoder(slowEncoder, executor, 5000, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("비밀번호 해시 - 스레드와 대기열이 모두 차면 바로 거절")
+  void testEncode_rejectedWhenQueueFull() throws Exception {
+    // given : 실행 중 1개 + 대기 1개
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+    waitUntil(() -> executor.getThreadPoolExecutor().getQueue().size() == 1);
+
+    // when, then
+    assertThatThrownBy(() -> encoder.encode("c"))
+        .isInstanceOf(PasswordHashingRejectedException.class);
+    assertThat(meterRegistry.counter("password.hash.rejected").count()).isEqualTo(1.0);
+
+    release.countDown();
+    assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-a");
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-b");
+  }
+
+  @Test
+  @DisplayName("비밀번호 해시 - 대기 시간 초과 시 거절")
+  void testMatches_rejectedWhenWaitTimeout() {
+    // given
+    BoundedPasswordEncoder shortWaitEncoder = new BoundedPasswordEncoder(
+        new PasswordEncoder() {
+          @Override
+          public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+          }
+
+          @Override
+          public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+              release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return true;
+          }
+        }, executor, 50, meterRegistry);
+
+    // when, then
+    assertThatThrownBy(() -> shortWaitEncoder.matches("password", "password"))
+        .isInstanceOf(PasswordHashingRejectedException.class);
+  }
+
+  private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.devee.devhive.global.security.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JtiBloomFilterTest {
+
+  @Test
+  @DisplayName("폐기 토큰 필터 - 추가한 jti 는 항상 포함")
+  void testMightContain_added() {
+    // given
+    JtiBloomFilter filter = new JtiBloomFilter(10_000, 0.001);
+    List<String> revoked = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      String jti = UUID.randomUUID().toString();
+      revoked.add(jti);
+      filter.put(jti);
+    }
+
+    // when, then
+    assertThat(revoked).allMatch(filter::mightContain);
+  }
+
+  @Test
+  @DisplayName("폐기 토큰 필터 - 추가하지 않은 jti 의 오탐률이 설정값 근처")
+  void testMightContain_falsePositiveRate() {
+    // given
+    JtiBloomFilter filter = new JtiBloomFilter(10_000, 0.001);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put(UUID.randomUUID().toString());
+    }
+
+    // when
+    int falsePositives = 0;
+    int trials = 100_000;
+    for (int i = 0; i < trials; i++) {
+      if (filter.mightContain(UUID.randomUUID().toString())) {
+        falsePositives++;
+      }
+    }
+
+    // then
+    assertThat((double) falsePositives / trials).isLessThan(0.005);
+  }
+}
@@ -0,0 +1,169 @@
+package com.devee.devhive.global.security.service;
+
+import static com.devee.devhive.global.exception.ErrorCode.INVALID_JWT;
+import static com.devee.devhive.global.exception.ErrorCode.REUSED_REFRESH_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.devee.devhive.domain.user.repository.UserRepository;
+import com.devee.devhive.global.exception.CustomException;
+import com.devee.devhive.global.exception.ErrorCode;
+import com.devee.devhive.global.redis.EmbeddedRedis;
+import com.devee.devhive.global.security.service.RefreshTokenStore.RotatedToken;
+import java.io.IOException;
+import java.util.Date;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RefreshTokenStoreTest {
+
+  private static final String EMAIL = "test@test.com";
+  private static final String SECRET_KEY = "refresh-token-store-test-secret";
+
+  private static EmbeddedRedis embeddedRedis;
+
+  private UserRepository userRepository;
+  private RefreshTokenStore refreshTokenStore;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    embeddedRedis = EmbeddedRedis.start();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    embeddedRedis.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    embeddedRedis.flushAll();
+    userRepository = mock(UserRepository.class);
+    TokenService tokenService = new TokenService(userRepository);
+    ReflectionTestUtils.setField(tokenService, "secretKey", SECRET_KEY);
+    ReflectionTestUtils.setField(tokenService, "refreshTokenExpirationPeriod", 60 * 1000L);
+    tokenService.init();
+
+    refreshTokenStore = new RefreshTokenStore(embeddedRedis.redisTemplate(), tokenService,
+        userRepository);
+    ReflectionTestUtils.setField(refreshTokenStore, "reuseGraceMillis", 10 * 1000L);
+  }
+
+  @Test
+  @DisplayName("토큰 교체 - 새 토큰으로 다시 교체 가능, 모든 키는 같은 해시 태그")
+  void testRotate() {
+    // given
+    String refreshToken = refreshTokenStore.issue(EMAIL);
+
+    // when
+    RotatedToken first = refreshTokenStore.rotate(refreshToken);
+    RotatedToken second = refreshTokenStore.rotate(first.refreshToken());
+
+    // then
+    assertThat(first.email()).isEqualTo(EMAIL);
+    assertThat(second.email()).isEqualTo(EMAIL);
+    assertThat(second.refreshToken()).isNotEqualTo(first.refreshToken());
+    assertThat(embeddedRedis.redisTemplate().keys("rt:*"))
+        .isNotEmpty()
+        .allMatch(key -> key.startsWith("rt:{" + EMAIL + "}:"));
+  }
+
+  @Test
+  @DisplayName("토큰 교체 - grace 안의 동시 재발급(다른 탭)은 재사용으로 보지 않음")
+  void testRotate_concurrentRefreshWithinGrace() {
+    // given
+    String refreshToken = refreshTokenStore.issue(EMAIL);
+    RotatedToken firstTab = refreshTokenStore.rotate(refreshToken);
+
+    // when
+    RotatedToken secondTab = refreshTokenStore.rotate(refreshToken);
+
+    // then : 두 탭의 새 토큰 모두 사용 가능
+    assertThat(refreshTokenStore.rotate(firstTab.refreshToken()).email()).isEqualTo(EMAIL);
+    assertThat(refreshTokenStore.rotate(secondTab.refreshToken()).email()).isEqualTo(EMAIL);
+  }
+
+  @Test
+  @DisplayName("토큰 교체 - grace 이후 교체된 토큰 재사용 시 family 전체 폐기")
+  void testRotate_reuseRevokesFamily() throws InterruptedException {
+    // given
+    ReflectionTestUtils.setField(refreshTokenStore, "reuseGraceMillis", 0L);
+    String stolenToken = refreshTokenStore.issue(EMAIL);
+    RotatedToken rotated = refreshTokenStore.rotate(stolenToken);
+    Thread.sleep(5);
+
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> refreshTokenStore.rotate(stolenToken));
+
+    // then : 정상 사용자가 받은 최신 토큰도 폐기됨
+    assertThat(exception.getErrorCode()).isEqualTo(REUSED_REFRESH_TOKEN);
+    assertThat(rotateError(rotated.refreshToken())).isEqualTo(INVALID_JWT);
+  }
+
+  @Test
+  @DisplayName("로그아웃 - 현재 기기 family 만 폐기")
+  void testRevoke() {
+    // given
+    String laptop = refreshTokenStore.issue(EMAIL);
+    String phone = refreshTokenStore.issue(EMAIL);
+
+    // when
+    refreshTokenStore.revoke(laptop);
+
+    // then
+    assertThat(rotateError(laptop)).isEqualTo(INVALID_JWT);
+    assertThat(refreshTokenStore.rotate(phone).email()).isEqualTo(EMAIL);
+  }
+
+  @Test
+  @DisplayName("모든 기기 로그아웃 - 유저의 모든 family 폐기")
+  void testRevokeAll() {
+    // given
+    String laptop = refreshTokenStore.issue(EMAIL);
+    String phone = refreshTokenStore.issue(EMAIL);
+    String rotatedPhone = refreshTokenStore.rotate(phone).refreshToken();
+
+    // when
+    refreshTokenStore.revokeAll(EMAIL);
+
+    // then
+    assertThat(rotateError(laptop)).isEqualTo(INVALID_JWT);
+    assertThat(rotateError(rotatedPhone)).isEqualTo(INVALID_JWT);
+    assertThat(refreshTokenStore.rotate(refreshTokenStore.issue(EMAIL)).email()).isEqualTo(EMAIL);
+  }
+
+  @Test
+  @DisplayName("저장소 도입 이전 토큰 - user 컬럼으로 한 번만 새 family 로 교체")
+  void testRotate_legacyToken() {
+    // given : email, family claim 이 없는 이전 형식 토큰
+    String legacyToken = JWT.create()
+        .withSubject("RefreshToken")
+        .withExpiresAt(new Date(System.currentTimeMillis() + 60 * 1000L))
+        .sign(Algorithm.HMAC512(SECRET_KEY));
+    when(userRepository.findEmailByLegacyRefreshToken(legacyToken)).thenReturn(Optional.of(EMAIL));
+    when(userRepository.clearLegacyRefreshToken(legacyToken)).thenReturn(1, 0);
+
+    // when
+    RotatedToken rotated = refreshTokenStore.rotate(legacyToken);
+
+    // then
+    assertThat(rotated.email()).isEqualTo(EMAIL);
+    assertThat(refreshTokenStore.rotate(rotated.refreshToken()).email()).isEqualTo(EMAIL);
+    assertThat(rotateError(legacyToken)).isEqualTo(INVALID_JWT);
+  }
+
+  private ErrorCode rotateError(String refreshToken) {
+    return assertThrows(CustomException.class, () -> refreshTokenStore.rotate(refreshToken))
+        .getErrorCode();
+  }
+}
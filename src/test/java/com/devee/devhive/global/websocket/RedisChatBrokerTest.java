@@ -0,0 +1,161 @@
+package com.devee.devhive.global.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devee.devhive.domain.project.chat.entity.dto.ChatMessageDto;
+import com.devee.devhive.domain.user.entity.dto.SimpleUserDto;
+import com.devee.devhive.global.config.ChatRedisConfig;
+import com.devee.devhive.global.config.WebSocketProperties;
+import com.devee.devhive.global.redis.EmbeddedRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+/**
+ * 인스턴스 A, B 가 로컬 Redis 하나를 공유하는 상황
+ * 각 인스턴스는 ChatRedisConfig 와 같은 리스너 컨테이너로 샤딩된 채널을 구독한다.
+ */
+class RedisChatBrokerTest {
+
+  private static final int SHARD_COUNT = 4;
+
+  private static EmbeddedRedis embeddedRedis;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+  private SimpMessageSendingOperations sendingTemplateA;
+  private SimpMessageSendingOperations sendingTemplateB;
+  private RedisChatBroker brokerA;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    embeddedRedis = EmbeddedRedis.start();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    embeddedRedis.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    ChatMetrics chatMetrics = new ChatMetrics(new SimpleMeterRegistry(), new WebSocketProperties());
+    sendingTemplateA = mock(SimpMessageSendingOperations.class);
+    sendingTemplateB = mock(SimpMessageSendingOperations.class);
+    brokerA = new RedisChatBroker(embeddedRedis.redisTemplate(), sendingTemplateA, objectMapper,
+        chatMetrics, SHARD_COUNT);
+    RedisChatBroker brokerB = new RedisChatBroker(embeddedRedis.redisTemplate(), sendingTemplateB,
+        objectMapper, chatMetrics, SHARD_COUNT);
+
+    ChatRedisConfig chatRedisConfig = new ChatRedisConfig();
+    start(chatRedisConfig.chatMessageListenerContainer(embeddedRedis.connectionFactory(), brokerA));
+    start(chatRedisConfig.chatMessageListenerContainer(embeddedRedis.connectionFactory(), brokerB));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    for (RedisMessageListenerContainer container : containers) {
+      container.destroy();
+    }
+    containers.clear();
+  }
+
+  @Test
+  @DisplayName("채팅방 번호로 채널 샤딩")
+  void testChannelOf() {
+    assertEquals("chat:room:1", RedisChatBroker.channelOf(5L, SHARD_COUNT));
+    assertEquals("chat:room:0", RedisChatBroker.channelOf(8L, SHARD_COUNT));
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스의 구독자에게 메시지 중계 - 성공")
+  void testPublishRelaysToOtherInstance() {
+    //given
+    ChatMessageDto message = message("hello");
+    //when
+    brokerA.publish(3L, message);
+    //then
+    ArgumentCaptor<ChatMessageDto> captorB = ArgumentCaptor.forClass(ChatMessageDto.class);
+    verify(sendingTemplateB, timeout(2000)).convertAndSend(eq("/sub/chat/3"), captorB.capture());
+    verify(sendingTemplateA, timeout(2000)).convertAndSend(eq("/sub/chat/3"), any(Object.class));
+    assertEquals("hello", captorB.getValue().getText());
+    assertEquals(1L, captorB.getValue().getUserDto().getUserId());
+    assertEquals(message.getSendTime(), captorB.getValue().getSendTime());
+  }
+
+  @Test
+  @DisplayName("다른 샤드의 채팅방 메시지는 해당 샤드 채널로 가지 않음")
+  void testOtherShardNotDelivered() throws Exception {
+    //given : 3번 방 샤드(chat:room:3) 채널만 구독
+    BlockingQueue<String> shardThree = new LinkedBlockingQueue<>();
+    RedisMessageListenerContainer probe = new RedisMessageListenerContainer();
+    probe.setConnectionFactory(embeddedRedis.connectionFactory());
+    probe.addMessageListener(
+        (message, pattern) -> shardThree.add(new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(RedisChatBroker.channelOf(3L, SHARD_COUNT)));
+    start(probe);
+    //when : 4번 방은 chat:room:0
+    brokerA.publish(4L, message("other shard"));
+    brokerA.publish(3L, message("same shard"));
+    //then
+    verify(sendingTemplateB, timeout(2000)).convertAndSend(eq("/sub/chat/4"), any(Object.class));
+    verify(sendingTemplateB, timeout(2000)).convertAndSend(eq("/sub/chat/3"), any(Object.class));
+    String received = shardThree.poll(2, TimeUnit.SECONDS);
+    assertNotNull(received);
+    assertEquals(3L, objectMapper.readValue(received, ChatRelayMessage.class).getRoomId());
+    assertNull(shardThree.poll(200, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  @DisplayName("잘못된 payload 는 전달하지 않음")
+  void testInvalidPayload() {
+    //when : 같은 채널에 잘못된 payload 다음 정상 메시지 발행
+    embeddedRedis.redisTemplate().convertAndSend(RedisChatBroker.channelOf(4L, SHARD_COUNT),
+        "not-json");
+    brokerA.publish(4L, message("hello"));
+    //then : 정상 메시지 한 건만 전달
+    verify(sendingTemplateB, timeout(2000)).convertAndSend(eq("/sub/chat/4"), any(Object.class));
+    verify(sendingTemplateB, times(1)).convertAndSend(anyString(), any(Object.class));
+  }
+
+  private void start(RedisMessageListenerContainer container) {
+    container.afterPropertiesSet();
+    container.start();
+    containers.add(container);
+  }
+
+  private static ChatMessageDto message(String text) {
+    return ChatMessageDto.builder()
+        .userDto(SimpleUserDto.builder().userId(1L).nickName("tester").build())
+        .text(text)
+        .sendTime(LocalDateTime.of(2023, 8, 1, 12, 0))
+        .build();
+  }
+}
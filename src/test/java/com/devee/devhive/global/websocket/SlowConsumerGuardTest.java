@@ -0,0 +1,143 @@
+package com.devee.devhive.global.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devee.devhive.global.config.WebSocketProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+class SlowConsumerGuardTest {
+
+  private static final String SESSION_ID = "slow-session";
+
+  private SimpleMeterRegistry meterRegistry;
+  private SubProtocolWebSocketHandler subProtocolHandler;
+  private WebSocketHandler handler;
+  private CountDownLatch sending;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    sending = new CountDownLatch(1);
+  }
+
+  // ChatMessageBrokerConfiguration, WebSocketConfig 와 같은 방식으로 핸들러 구성 (버퍼 1KB)
+  private void connect(OverflowStrategy overflowStrategy) {
+    WebSocketProperties properties = new WebSocketProperties();
+    properties.setSendBufferSizeLimit(1024);
+    properties.setSendTimeLimit(10 * 1000);
+    properties.setOverflowStrategy(overflowStrategy);
+
+    ChatMetrics chatMetrics = new ChatMetrics(meterRegistry, properties);
+    SlowConsumerGuard slowConsumerGuard = new SlowConsumerGuard(properties, chatMetrics);
+    subProtocolHandler = slowConsumerGuard.subProtocolWebSocketHandler(
+        new ExecutorSubscribableChannel(), new ExecutorSubscribableChannel());
+    subProtocolHandler.setDefaultProtocolHandler(new StompSubProtocolHandler());
+    subProtocolHandler.setSendBufferSizeLimit(properties.getSendBufferSizeLimit());
+    subProtocolHandler.setSendTimeLimit(properties.getSendTimeLimit());
+    handler = slowConsumerGuard.decorate(subProtocolHandler);
+  }
+
+  @Test
+  @DisplayName("느린 세션 - TERMINATE: 전송 버퍼 한도를 넘으면 SESSION_NOT_RELIABLE 로 종료")
+  void testSlowSessionClosed() throws Exception {
+    // given : 첫 전송에서 멈춰있는 클라이언트
+    connect(OverflowStrategy.TERMINATE);
+    CountDownLatch release = new CountDownLatch(1);
+    WebSocketSession session = stalledSession(release);
+    Thread blockedSender = startBlockedSend();
+
+    // when : 전송이 밀리는 동안 같은 세션으로 메시지가 계속 들어옴
+    subProtocolHandler.handleMessage(roomMessage());
+    subProtocolHandler.handleMessage(roomMessage());
+
+    // then
+    verify(session, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+    handler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+    assertThat(meterRegistry.counter("chat.websocket.sessions.slow.closed").count())
+        .isEqualTo(1.0);
+
+    release.countDown();
+    blockedSender.join(5000);
+  }
+
+  @Test
+  @DisplayName("느린 세션 - DROP: 전송 버퍼가 가득 차면 채팅방 메시지를 버리고 연결은 유지")
+  void testSlowSessionDropsFrames() throws Exception {
+    // given : 첫 전송에서 멈춰있는 클라이언트
+    connect(OverflowStrategy.DROP);
+    CountDownLatch release = new CountDownLatch(1);
+    WebSocketSession session = stalledSession(release);
+    Thread blockedSender = startBlockedSend();
+
+    // when : 두 번째 메시지는 버퍼에 쌓이고, 세 번째 메시지는 버퍼 한도를 넘음
+    subProtocolHandler.handleMessage(roomMessage());
+    subProtocolHandler.handleMessage(roomMessage());
+    release.countDown();
+    blockedSender.join(5000);
+
+    // then : 버퍼에 있던 메시지만 이어서 전송
+    verify(session, timeout(1000).times(2)).sendMessage(any());
+    verify(session, never()).close(any());
+    assertThat(meterRegistry.counter("chat.websocket.frames.dropped").count()).isEqualTo(1.0);
+    assertThat(meterRegistry.counter("chat.websocket.sessions.slow.closed").count())
+        .isEqualTo(0.0);
+  }
+
+  // release 될 때까지 첫 전송에서 멈추는 세션
+  private WebSocketSession stalledSession(CountDownLatch release) throws Exception {
+    WebSocketSession session = mock(WebSocketSession.class);
+    when(session.getId()).thenReturn(SESSION_ID);
+    when(session.isOpen()).thenReturn(true);
+    when(session.getAttributes()).thenReturn(new HashMap<>());
+    doAnswer(invocation -> {
+      sending.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return null;
+    }).when(session).sendMessage(any());
+    handler.afterConnectionEstablished(session);
+    return session;
+  }
+
+  private Thread startBlockedSend() throws InterruptedException {
+    Thread blockedSender = new Thread(() -> subProtocolHandler.handleMessage(roomMessage()));
+    blockedSender.start();
+    assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+    return blockedSender;
+  }
+
+  // simple broker 가 구독자에게 보내는 채팅방 메시지 (payload 약 800byte)
+  private static Message<byte[]> roomMessage() {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+    accessor.setSessionId(SESSION_ID);
+    accessor.setSubscriptionId("sub-0");
+    accessor.setDestination("/sub/chat/1");
+    accessor.setMessageId("1");
+    byte[] payload = "a".repeat(800).getBytes(StandardCharsets.UTF_8);
+    return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+  }
+}
@@ -0,0 +1,113 @@
+package com.devee.devhive.global.websocket;
+
+import static com.devee.devhive.global.exception.ErrorCode.NOT_FOUND_CHATMEMBER;
+import static com.devee.devhive.global.exception.ErrorCode.UNAUTHORIZED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devee.devhive.domain.project.chat.service.ChatMembershipCache;
+import com.devee.devhive.domain.user.repository.UserRepository;
+import com.devee.devhive.global.exception.CustomException;
+import com.devee.devhive.global.security.revocation.AccessTokenRevocationList;
+import com.devee.devhive.global.security.service.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+class StompAuthChannelInterceptorTest {
+
+  private static final Long USER_ID = 1L;
+  private static final Long ROOM_ID = 10L;
+
+  private final ChatSessionUser sessionUser = ChatSessionUser.builder()
+      .userId(USER_ID)
+      .email("test@test.com")
+      .nickName("test")
+      .build();
+
+  private ChatMembershipCache chatMembershipCache;
+  private StompAuthChannelInterceptor interceptor;
+  private final MessageChannel channel = mock(MessageChannel.class);
+
+  @BeforeEach
+  void setUp() {
+    chatMembershipCache = mock(ChatMembershipCache.class);
+    interceptor = new StompAuthChannelInterceptor(mock(TokenService.class),
+        mock(UserRepository.class), chatMembershipCache, mock(AccessTokenRevocationList.class));
+  }
+
+  @Test
+  @DisplayName("채팅 메시지/입장/퇴장/구독 - 참여자는 허용")
+  void testMember_allowed() {
+    // given
+    when(chatMembershipCache.isMember(USER_ID, ROOM_ID)).thenReturn(true);
+
+    // when, then
+    for (String destination : new String[]{"/pub/message/10", "/pub/message/enter/10/1",
+        "/pub/message/exit/10/1"}) {
+      Message<?> message = frame(StompCommand.SEND, destination);
+      assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+    Message<?> subscribe = frame(StompCommand.SUBSCRIBE, "/sub/chat/10");
+    assertThat(interceptor.preSend(subscribe, channel)).isSameAs(subscribe);
+  }
+
+  @Test
+  @DisplayName("채팅 메시지/입장/퇴장/구독 - 실패_참여하지 않은 채팅방")
+  void testNonMember_denied() {
+    // given
+    when(chatMembershipCache.isMember(USER_ID, ROOM_ID)).thenReturn(false);
+    when(chatMembershipCache.consumeLeft(USER_ID, ROOM_ID)).thenReturn(false);
+
+    // when, then
+    for (String destination : new String[]{"/pub/message/10", "/pub/message/enter/10/1",
+        "/pub/message/exit/10/1"}) {
+      CustomException exception = assertThrows(CustomException.class,
+          () -> interceptor.preSend(frame(StompCommand.SEND, destination), channel));
+      assertThat(exception.getErrorCode()).isEqualTo(NOT_FOUND_CHATMEMBER);
+    }
+    CustomException exception = assertThrows(CustomException.class,
+        () -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/sub/chat/10"), channel));
+    assertThat(exception.getErrorCode()).isEqualTo(NOT_FOUND_CHATMEMBER);
+  }
+
+  @Test
+  @DisplayName("퇴장 메시지 - 방금 퇴장한 유저는 허용")
+  void testExit_justLeft() {
+    // given
+    when(chatMembershipCache.isMember(USER_ID, ROOM_ID)).thenReturn(false);
+    when(chatMembershipCache.consumeLeft(USER_ID, ROOM_ID)).thenReturn(true);
+    Message<?> message = frame(StompCommand.SEND, "/pub/message/exit/10/1");
+
+    // when, then
+    assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    verify(chatMembershipCache).consumeLeft(USER_ID, ROOM_ID);
+  }
+
+  @Test
+  @DisplayName("메시지 전송 - 실패_정의되지 않은 목적지는 거부")
+  void testUnknownDestination_denied() {
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> interceptor.preSend(frame(StompCommand.SEND, "/pub/message/kick/10/2"), channel));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(UNAUTHORIZED);
+  }
+
+  private Message<byte[]> frame(StompCommand command, String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+    accessor.setDestination(destination);
+    accessor.setUser(sessionUser);
+    accessor.setLeaveMutable(true);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}